@@ -25,7 +25,8 @@ public class CacheConfig {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager("agents", "players", "clubs","contracts","matches");
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .expireAfterWrite(expireAfterWrite)
-                .maximumSize(maximumSize));
+                .maximumSize(maximumSize)
+                .recordStats());
         return cacheManager;
     }
 
@@ -0,0 +1,134 @@
+package org.agency.course_work.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.BaseEntity;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Match;
+import org.agency.course_work.entity.Player;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers conditional GETs for entity and list endpoints before the controller runs.
+ * <p>
+ * A single entity is versioned by id and {@code updatedAt}. A list is versioned by its request URI and query string
+ * plus the row count and latest {@code updatedAt} of the table, so inserts, edits and soft deletes all change it.
+ * Lists carry no {@code Last-Modified}: the latest {@code updatedAt} only covers live rows, so soft-deleting the newest
+ * row would leave it unchanged or move it back, and an {@code If-Modified-Since} check would wrongly answer 304.
+ * Only the version is read; a {@code 304} skips loading, mapping and serializing the DTO.
+ * Endpoints whose payload includes associated entities are not registered, since their version would not cover them.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<String, Class<? extends BaseEntity>> entityPatterns = new HashMap<>();
+    private final Map<String, Class<? extends BaseEntity>> listPatterns = new HashMap<>();
+
+    public ConditionalGetInterceptor(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        register("/api/players", "/sorted", Player.class);
+        register("/api/clubs", "/sort", Club.class);
+        register("/api/contracts", "/sort", Contract.class);
+        register("/api/agents", "/sort", Agent.class);
+        register("/api/matches", "/sort", Match.class);
+    }
+
+    private void register(String basePath, String sortPath, Class<? extends BaseEntity> type) {
+        entityPatterns.put(basePath + "/{id}", type);
+        for (String listPath : List.of(basePath, basePath + sortPath, basePath + "/filter")) {
+            listPatterns.put(listPath, type);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+        Class<? extends BaseEntity> entityType = entityPatterns.get(pattern);
+        if (entityType != null) {
+            return checkEntity(entityType, request, response);
+        }
+        Class<? extends BaseEntity> listType = listPatterns.get(pattern);
+        if (listType != null) {
+            return checkList(listType, request, response);
+        }
+        return true;
+    }
+
+    private boolean checkEntity(Class<? extends BaseEntity> type, HttpServletRequest request, HttpServletResponse response) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        Long id;
+        try {
+            id = Long.valueOf(variables.get("id"));
+        } catch (NumberFormatException | NullPointerException e) {
+            return true;
+        }
+        List<LocalDateTime> versions = readOnlyTransaction.execute(status -> entityManager
+                .createQuery("select coalesce(e.updatedAt, e.createdAt) from " + entityName(type) + " e where e.id = :id",
+                        LocalDateTime.class)
+                .setParameter("id", id)
+                .getResultList());
+        if (versions == null || versions.isEmpty() || versions.get(0) == null) {
+            return true;
+        }
+        LocalDateTime version = versions.get(0);
+        String etag = "\"" + type.getSimpleName() + "-" + id + "-" + version + "\"";
+        return !notModified(request, response, etag, toEpochMillis(version));
+    }
+
+    private boolean checkList(Class<? extends BaseEntity> type, HttpServletRequest request, HttpServletResponse response) {
+        Object[] fingerprint = readOnlyTransaction.execute(status -> entityManager
+                .createQuery("select count(e), max(e.updatedAt) from " + entityName(type) + " e", Object[].class)
+                .getSingleResult());
+        if (fingerprint == null) {
+            return true;
+        }
+        long count = ((Number) fingerprint[0]).longValue();
+        LocalDateTime lastUpdated = (LocalDateTime) fingerprint[1];
+        String source = request.getRequestURI() + "?" + request.getQueryString() + "|" + count + "|" + lastUpdated;
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+        return !notModified(request, response, etag, -1);
+    }
+
+    private static boolean notModified(HttpServletRequest request, HttpServletResponse response, String etag, long lastModified) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return new ServletWebRequest(request, response).checkNotModified(etag, lastModified);
+    }
+
+    private String entityName(Class<? extends BaseEntity> type) {
+        return entityManager.getMetamodel().entity(type).getName();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
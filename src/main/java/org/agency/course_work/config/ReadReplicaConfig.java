@@ -0,0 +1,81 @@
+package org.agency.course_work.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured pool with a primary pool plus one pool per replica URL.
+ * Each pool reports its own Hikari metrics and sets the Postgres application name to its pool name.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig implements DisposableBean {
+    @Value("${datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replica.username}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password}")
+    private String replicaPassword;
+
+    @Value("${datasource.replica.maximum-pool-size}")
+    private int replicaPoolSize;
+
+    @Value("${datasource.replica.stickiness}")
+    private Duration stickiness;
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource primary = pool(ReplicaRoutingDataSource.PRIMARY, properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(), 0, meterRegistry);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.put(name, pool(name, replicaUrls.get(i), replicaUsername, replicaPassword, replicaPoolSize, meterRegistry));
+        }
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, stickiness, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource pool(String name, String url, String username, String password, int maximumPoolSize,
+                                  MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        if (maximumPoolSize > 0) {
+            config.setMaximumPoolSize(maximumPoolSize);
+        }
+        config.addDataSourceProperty("ApplicationName", name);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        HikariDataSource dataSource = new HikariDataSource(config);
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
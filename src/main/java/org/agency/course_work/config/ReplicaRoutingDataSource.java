@@ -0,0 +1,104 @@
+package org.agency.course_work.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas in round-robin order and everything else to the primary.
+ * A user who has just run a read-write transaction keeps reading from the primary for the stickiness window,
+ * so replication lag never hides their own writes.
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the read-only flag is only known once the transaction has begun.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+    private final Map<String, Counter> routedCounters = new HashMap<>();
+    private final Counter stickyCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration stickiness,
+                                    MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        targets.putAll(replicas);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickiness)
+                .build();
+        for (Object key : targets.keySet()) {
+            routedCounters.put((String) key, Counter.builder("agency.datasource.routed")
+                    .description("Connections handed out per routing target")
+                    .tag("target", (String) key)
+                    .register(meterRegistry));
+        }
+        this.stickyCounter = Counter.builder("agency.datasource.sticky")
+                .description("Read-only transactions kept on the primary after a recent write by the same user")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = route();
+        routedCounters.get(target).increment();
+        return target;
+    }
+
+    private String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                rememberWriter();
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty()) {
+            return PRIMARY;
+        }
+        String user = currentUser();
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            stickyCounter.increment();
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    private void rememberWriter() {
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        recentWriters.put(user, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // The window starts again at completion so a long write cannot outlive it.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    recentWriters.put(user, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,188 @@
+package org.agency.course_work.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Match;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the serialized JSON of the largest list endpoints, plus a gzip copy, and writes the bytes straight out on a hit.
+ * <p>
+ * Each region has its own byte budget enforced by a weigher, and is cleared after any committed write to the
+ * entities its payloads are built from. Only 200 responses are stored, together with their validators,
+ * so a hit can still answer {@code If-None-Match} with a 304.
+ * <p>
+ * A response rendered while a write commits may already be stale. Each region therefore counts its invalidations,
+ * and a response is only kept if the count did not change between the start of the request and the put.
+ */
+@Component
+public class SerializedResponseCacheFilter extends OncePerRequestFilter {
+    private static final List<String> STORED_HEADERS = List.of(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL);
+
+    private final boolean enabled;
+    private final int compressionMinSize;
+    private final Map<String, Region> regionsByPath = new HashMap<>();
+    private final List<Region> regions;
+
+    private record Payload(byte[] json, byte[] gzip, String contentType, Map<String, String> headers) {
+        int weight() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+
+    private record Region(String name, List<Class<?>> sources, Cache<String, Payload> cache, AtomicLong generation) {
+    }
+
+    public SerializedResponseCacheFilter(MeterRegistry meterRegistry,
+                                         @Value("${response-cache.enabled}") boolean enabled,
+                                         @Value("${response-cache.compression-min-size}") int compressionMinSize,
+                                         @Value("${response-cache.expire-after-write}") Duration expireAfterWrite,
+                                         @Value("${response-cache.players.max-bytes}") long playersMaxBytes,
+                                         @Value("${response-cache.contracts.max-bytes}") long contractsMaxBytes,
+                                         @Value("${response-cache.matches.max-bytes}") long matchesMaxBytes) {
+        this.enabled = enabled;
+        this.compressionMinSize = compressionMinSize;
+        this.regions = List.of(
+                region("players", List.of(Player.class), playersMaxBytes, expireAfterWrite, meterRegistry,
+                        "/api/players", "/api/players/sorted", "/api/players/filter"),
+                region("contracts", List.of(Contract.class), contractsMaxBytes, expireAfterWrite, meterRegistry,
+                        "/api/contracts", "/api/contracts/sort", "/api/contracts/filter"),
+                region("matches", List.of(Match.class, Club.class), matchesMaxBytes, expireAfterWrite, meterRegistry,
+                        "/api/matches", "/api/matches/matches", "/api/matches/sort", "/api/matches/filter"));
+    }
+
+    private Region region(String name, List<Class<?>> sources, long maxBytes, Duration expireAfterWrite,
+                          MeterRegistry meterRegistry, String... paths) {
+        Cache<String, Payload> cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Payload payload) -> key.length() + payload.weight())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "response." + name);
+        Region region = new Region(name, sources, cache, new AtomicLong());
+        for (String path : paths) {
+            regionsByPath.put(path, region);
+        }
+        return region;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !"GET".equals(request.getMethod())
+                || !regionsByPath.containsKey(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Region region = regionsByPath.get(path);
+        String key = path + "?" + request.getQueryString();
+        Payload cached = region.cache().getIfPresent(key);
+        if (cached != null) {
+            write(cached, request, response);
+            return;
+        }
+
+        long generation = region.generation().get();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || contentType == null
+                || !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        byte[] json = wrapper.getContentAsByteArray();
+        Map<String, String> headers = new HashMap<>();
+        for (String header : STORED_HEADERS) {
+            String value = wrapper.getHeader(header);
+            if (value != null) {
+                headers.put(header, value);
+            }
+        }
+        Payload payload = new Payload(json, json.length >= compressionMinSize ? gzip(json) : null, contentType, headers);
+        if (region.generation().get() == generation) {
+            region.cache().put(key, payload);
+            // an invalidation between the check and the put would otherwise leave this payload behind
+            if (region.generation().get() != generation) {
+                region.cache().invalidate(key);
+            }
+        }
+        wrapper.resetBuffer();
+        write(payload, request, response);
+    }
+
+    private static void write(Payload payload, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        payload.headers().forEach(response::setHeader);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String etag = payload.headers().get(HttpHeaders.ETAG);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (etag != null && etag.equals(ifNoneMatch)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(payload.contentType());
+        byte[] body = payload.json();
+        if (payload.gzip() != null && acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = payload.gzip();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        }
+        return compressed.toByteArray();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        for (Region region : regions) {
+            if (region.sources().contains(event.entity().getClass())) {
+                region.generation().incrementAndGet();
+                region.cache().invalidateAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.agency.course_work.config;
+
+import org.agency.course_work.index.ParallelScan;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The fork/join pool shared by the in-memory player and contract scans.
+ * A parallelism of 0 uses one worker per available processor; 1 scans on the calling thread.
+ */
+@Configuration
+public class SnapshotScanConfig {
+    @Bean(destroyMethod = "close")
+    public ParallelScan snapshotScan(@Value("${snapshot-scan.parallelism}") int parallelism,
+                                     @Value("${snapshot-scan.min-chunk-rows}") int minChunkRows) {
+        return new ParallelScan(parallelism, minChunkRows);
+    }
+}
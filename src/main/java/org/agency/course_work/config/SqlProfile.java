@@ -0,0 +1,49 @@
+package org.agency.course_work.config;
+
+/**
+ * JDBC activity recorded for the current thread, usually one HTTP request.
+ */
+public final class SqlProfile {
+    private static final ThreadLocal<SqlProfile> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long elapsedMillis;
+    private long rows;
+
+    public static SqlProfile start() {
+        SqlProfile profile = new SqlProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static SqlProfile current() {
+        return CURRENT.get();
+    }
+
+    public static SqlProfile stop() {
+        SqlProfile profile = CURRENT.get();
+        CURRENT.remove();
+        return profile;
+    }
+
+    void recordStatement(long elapsedMillis) {
+        this.statements++;
+        this.elapsedMillis += elapsedMillis;
+    }
+
+    void recordRow() {
+        this.rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,80 @@
+package org.agency.course_work.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlProfilingFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    private static final Logger logger = LoggerFactory.getLogger(SqlProfilingFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeaders;
+    private final int statementBudget;
+
+    public SqlProfilingFilter(MeterRegistry meterRegistry,
+                              @Value("${sql.profiler.expose-headers}") boolean exposeHeaders,
+                              @Value("${sql.profiler.statement-budget}") int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeaders = exposeHeaders;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = exposeHeaders ? new ContentCachingResponseWrapper(response) : null;
+        SqlProfile.start();
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            SqlProfile profile = SqlProfile.stop();
+            String uri = handlerPattern(request);
+            record(profile, uri);
+            if (profile.getStatements() > statementBudget) {
+                logger.warn("Request {} {} issued {} SQL statements, budget is {}",
+                        request.getMethod(), uri, profile.getStatements(), statementBudget);
+                meterRegistry.counter("agency.sql.budget.exceeded", "uri", uri).increment();
+            }
+            if (wrapper != null) {
+                wrapper.setHeader(STATEMENTS_HEADER, String.valueOf(profile.getStatements()));
+                wrapper.setHeader(TIME_HEADER, String.valueOf(profile.getElapsedMillis()));
+                wrapper.setHeader(ROWS_HEADER, String.valueOf(profile.getRows()));
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(SqlProfile profile, String uri) {
+        meterRegistry.summary("agency.sql.statements", "uri", uri).record(profile.getStatements());
+        meterRegistry.summary("agency.sql.rows", "uri", uri).record(profile.getRows());
+        meterRegistry.timer("agency.sql.time", "uri", uri).record(profile.getElapsedMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static String handlerPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,19 @@
+package org.agency.course_work.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    public WebConfig(ConditionalGetInterceptor conditionalGetInterceptor) {
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -2,6 +2,7 @@ package org.agency.course_work.controller;
 
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,7 +11,10 @@ import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.agency.course_work.dto.AgentCreationDto;
 import org.agency.course_work.dto.AgentDto;
+import org.agency.course_work.dto.AgentPortfolioDto;
+import org.agency.course_work.dto.AgentSearchResultDto;
 import org.agency.course_work.exception.AgentNotFound;
+import org.agency.course_work.service.AgentPortfolioService;
 import org.agency.course_work.service.AgentService;
 import org.agency.course_work.service.UserService;
 import org.slf4j.Logger;
@@ -26,6 +30,8 @@ import org.agency.course_work.enums.CommissionRate;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 @RestController
 @RequestMapping("api/agents")
@@ -35,6 +41,7 @@ public class AgentController {
     private final AgentService agentService;
     private static final Logger logger = LoggerFactory.getLogger(AgentService.class);
     private final UserService service;
+    private final AgentPortfolioService agentPortfolioService;
 
     @Operation(
             summary = "Get agent by ID",
@@ -53,6 +60,20 @@ public class AgentController {
         return ResponseEntity.ok(agentService.getAgentById(id));
     }
 
+    @Operation(
+            summary = "Get agents by IDs",
+            description = "Fetches several agents in one call, in the order the IDs were given; unknown IDs are skipped",
+            security = @SecurityRequirement(name = "BearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully fetched agents"),
+                    @ApiResponse(responseCode = "400", description = "Too many IDs requested")
+            }
+    )
+    @GetMapping(params = "ids")
+    public List<AgentDto> getAgentsByIds(@Parameter(description = "Comma-separated agent IDs") @RequestParam List<Long> ids) {
+        return agentService.getAgentsByIds(ids);
+    }
+
     @Operation(
             summary = "Create a new agent",
             description = "Creates a new agent and stores it in the database",
@@ -84,8 +105,10 @@ public class AgentController {
     )
     @GetMapping
     @Cacheable(value = "agents")
-    public ResponseEntity<?> getAllAgents(@PageableDefault Pageable pageable) {
-        Page<AgentDto> agentDtos = agentService.getAllAgents(pageable);
+    public ResponseEntity<?> getAllAgents(@Parameter(description = "Comma-separated fields to return; all fields when omitted") @RequestParam(required = false) List<String> fields, @PageableDefault Pageable pageable) {
+        Page<?> agentDtos = fields != null && !fields.isEmpty()
+                ? agentService.getAllAgentFields(fields, pageable)
+                : agentService.getAllAgents(pageable);
         if (agentDtos.isEmpty()) {
             return new ResponseEntity<>("No agents found.", HttpStatus.NOT_FOUND);
         }
@@ -119,12 +142,16 @@ public class AgentController {
                     @ApiResponse(responseCode = "200", description = "Successfully fetched sorted agents",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = Page.class))),
+                    @ApiResponse(responseCode = "400", description = "sortBy is not an indexed field"),
                     @ApiResponse(responseCode = "404", description = "No agents found")
             }
     )
     @GetMapping("/sort")
-    public ResponseEntity<?> getSortedAgents(@RequestParam String sortBy, @RequestParam String order, @PageableDefault Pageable pageable) {
-        Page<AgentDto> sortedAgents = agentService.getSortedAgents(sortBy, order, pageable);
+    public ResponseEntity<?> getSortedAgents(@RequestParam String sortBy, @RequestParam String order,
+                                             @Parameter(description = "Comma-separated fields to return; all fields when omitted") @RequestParam(required = false) List<String> fields, @PageableDefault Pageable pageable) {
+        Page<?> sortedAgents = fields != null && !fields.isEmpty()
+                ? agentService.getSortedAgentFields(sortBy, order, fields, pageable)
+                : agentService.getSortedAgents(sortBy, order, pageable);
         if (sortedAgents.isEmpty()) {
             return new ResponseEntity<>("No agents found.", HttpStatus.NOT_FOUND);
         }
@@ -149,14 +176,57 @@ public class AgentController {
             @RequestParam(required = false) String phoneNumber,
             @RequestParam(required = false) CommissionRate commissionRate,
             @RequestParam(required = false) Boolean isDeleted,
+            @Parameter(description = "Comma-separated fields to return; all fields when omitted") @RequestParam(required = false) List<String> fields,
             @PageableDefault Pageable pageable) {
-        Page<AgentDto> filteredAgents = agentService.getFilteredAgents(firstName, lastName, phoneNumber, commissionRate, isDeleted, pageable);
+        Page<?> filteredAgents = fields != null && !fields.isEmpty()
+                ? agentService.getFilteredAgentFields(firstName, lastName, phoneNumber, commissionRate, fields, pageable)
+                : agentService.getFilteredAgents(firstName, lastName, phoneNumber, commissionRate, isDeleted, pageable);
         if (filteredAgents.isEmpty()) {
             return new ResponseEntity<>("No agents found.", HttpStatus.NOT_FOUND);
         }
         return new ResponseEntity<>(filteredAgents, HttpStatus.OK);
     }
 
+    @Operation(
+            summary = "Search agents by name",
+            description = "Typo-tolerant search over agent first and last name, ranked by similarity",
+            security = @SecurityRequirement(name = "BearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully fetched matching agents")
+            }
+    )
+    @GetMapping("/search")
+    public List<AgentSearchResultDto> searchAgents(@RequestParam String query, @RequestParam(defaultValue = "20") int limit) {
+        return agentService.searchAgents(query, limit);
+    }
+
+    @Operation(
+            summary = "Get agent portfolio",
+            description = "Player count, market value, salary under contract and expected commission of an agent",
+            security = @SecurityRequirement(name = "BearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully fetched agent portfolio"),
+                    @ApiResponse(responseCode = "404", description = "Agent not found")
+            }
+    )
+    @GetMapping("/{id}/portfolio")
+    public ResponseEntity<AgentPortfolioDto> getAgentPortfolio(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(agentPortfolioService.getPortfolio(id));
+    }
+
+    @Operation(
+            summary = "Agent portfolio leaderboard",
+            description = "Agents ranked by expected commission",
+            security = @SecurityRequirement(name = "BearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully fetched leaderboard")
+            }
+    )
+    @GetMapping("/portfolio/leaderboard")
+    public List<AgentPortfolioDto> getPortfolioLeaderboard(@RequestParam(defaultValue = "20") int limit) {
+        return agentPortfolioService.getLeaderboard(limit);
+    }
+
     @Operation(
             summary = "Delete agent by ID",
             description = "Marks an agent as deleted by their ID",
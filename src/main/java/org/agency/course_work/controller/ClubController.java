@@ -8,10 +8,13 @@ import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.agency.course_work.dto.ClubCreationDto;
 import org.agency.course_work.dto.ClubDto;
+import org.agency.course_work.dto.ClubFinanceDto;
 import org.agency.course_work.enums.Stadium;
 import org.agency.course_work.exception.AgentNotFound;
 import org.agency.course_work.service.AgentService;
+import org.agency.course_work.service.ClubFinanceService;
 import org.agency.course_work.service.ClubService;
+import org.agency.course_work.service.LeaderboardService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
@@ -25,6 +28,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @RestController
 @RequestMapping("api/clubs")
@@ -33,6 +37,8 @@ import java.math.BigDecimal;
 public class ClubController {
 
     private final ClubService clubService;
+    private final ClubFinanceService clubFinanceService;
+    private final LeaderboardService leaderboardService;
     private static final Logger logger = LoggerFactory.getLogger(AgentService.class);
 
     @Operation(summary = "Create a new club", description = "Creates a new club and returns its details")
@@ -66,6 +72,29 @@ public class ClubController {
         return ResponseEntity.ok(clubService.getClubById(id));
     }
 
+    @Operation(summary = "Get clubs by IDs", description = "Returns several clubs in one call, in the order the IDs were given; unknown IDs are skipped")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved clubs")
+    @ApiResponse(responseCode = "400", description = "Too many IDs requested")
+    @GetMapping(params = "ids")
+    public List<ClubDto> getClubsByIds(@RequestParam List<Long> ids) {
+        return clubService.getClubsByIds(ids);
+    }
+
+    @Operation(summary = "Get club finances", description = "Current payroll, salary committed to future seasons and budget headroom of a club")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the club finances")
+    @ApiResponse(responseCode = "404", description = "Club not found")
+    @GetMapping("/{id}/finance")
+    public ResponseEntity<ClubFinanceDto> getClubFinance(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(clubFinanceService.getClubFinance(id));
+    }
+
+    @Operation(summary = "Get top clubs by budget", description = "Lists the clubs with the largest budgets, served from memory")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved top clubs")
+    @GetMapping("/top")
+    public List<ClubDto> getTopClubs(@RequestParam(defaultValue = "20") int limit) {
+        return leaderboardService.getTopClubs(limit);
+    }
+
     @Operation(summary = "Update a club", description = "Updates the details of an existing club")
     @ApiResponse(responseCode = "200", description = "Successfully updated the club")
     @ApiResponse(responseCode = "404", description = "Club not found")
@@ -79,6 +108,7 @@ public class ClubController {
 
     @Operation(summary = "Sort clubs", description = "Retrieves a list of clubs sorted by the specified criteria")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved sorted list of clubs")
+    @ApiResponse(responseCode = "400", description = "sortBy is not an indexed field")
     @ApiResponse(responseCode = "404", description = "No clubs found")
     @GetMapping("/sort")
     public ResponseEntity<?> getSortedClubs(@RequestParam String sortBy, @RequestParam String order, @PageableDefault Pageable pageable) {
@@ -1,6 +1,7 @@
 package org.agency.course_work.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -10,7 +11,11 @@ import org.agency.course_work.entity.Contract;
 import org.agency.course_work.exception.AgentNotFound;
 import org.agency.course_work.repository.ContractRepository;
 import org.agency.course_work.service.AgentService;
+import org.agency.course_work.service.ContractExpiryService;
+import org.agency.course_work.service.ContractOverviewService;
 import org.agency.course_work.service.ContractService;
+import org.agency.course_work.service.ContractSnapshotService;
+import org.agency.course_work.service.LeaderboardService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
@@ -25,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("api/contracts")
@@ -34,6 +40,10 @@ public class ContractController {
 
     private final ContractService contractService;
     private final ContractRepository contractRepository;
+    private final ContractExpiryService contractExpiryService;
+    private final ContractOverviewService contractOverviewService;
+    private final LeaderboardService leaderboardService;
+    private final ContractSnapshotService contractSnapshotService;
     private static final Logger logger = LoggerFactory.getLogger(ContractController.class);
 
     @Operation(summary = "Get contract by ID", description = "Returns details of the contract with the specified ID")
@@ -45,6 +55,14 @@ public class ContractController {
         return ResponseEntity.ok(contractService.getContractById(id));
     }
 
+    @Operation(summary = "Get contracts by IDs", description = "Returns several contracts in one call, in the order the IDs were given; unknown IDs are skipped")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved contracts")
+    @ApiResponse(responseCode = "400", description = "Too many IDs requested")
+    @GetMapping(params = "ids")
+    public List<ContractDto> getContractsByIds(@RequestParam List<Long> ids) {
+        return contractService.getContractsByIds(ids);
+    }
+
     @Operation(summary = "Create a new contract", description = "Creates a new contract and returns its details")
     @ApiResponse(responseCode = "201", description = "Contract created successfully")
     @PostMapping
@@ -60,8 +78,10 @@ public class ContractController {
     @ApiResponse(responseCode = "404", description = "No contracts found")
     @GetMapping
     @Cacheable(value = "contracts")
-    public ResponseEntity<?> getAllContracts(@PageableDefault Pageable pageable) {
-        Page<ContractDto> contractDtos = contractService.getAllContracts(pageable);
+    public ResponseEntity<?> getAllContracts(@Parameter(description = "Comma-separated fields to return; all fields when omitted") @RequestParam(required = false) List<String> fields, @PageableDefault Pageable pageable) {
+        Page<?> contractDtos = fields != null && !fields.isEmpty()
+                ? contractService.getAllContractFields(fields, pageable)
+                : contractService.getAllContracts(pageable);
         if (contractDtos.isEmpty()) {
             return new ResponseEntity<>("No contracts found.", HttpStatus.NOT_FOUND);
         }
@@ -81,10 +101,14 @@ public class ContractController {
 
     @Operation(summary = "Get sorted contracts", description = "Returns a paginated and sorted list of contracts")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved sorted contracts")
+    @ApiResponse(responseCode = "400", description = "sortBy is not an indexed field")
     @ApiResponse(responseCode = "404", description = "No contracts found")
     @GetMapping("/sort")
-    public ResponseEntity<?> getSortedContracts(@RequestParam String sortBy, @RequestParam String order, @PageableDefault Pageable pageable) {
-        Page<ContractDto> sortedContracts = contractService.getSortedContracts(sortBy, order, pageable);
+    public ResponseEntity<?> getSortedContracts(@RequestParam String sortBy, @RequestParam String order,
+                                                @Parameter(description = "Comma-separated fields to return; all fields when omitted") @RequestParam(required = false) List<String> fields, @PageableDefault Pageable pageable) {
+        Page<?> sortedContracts = fields != null && !fields.isEmpty()
+                ? contractService.getSortedContractFields(sortBy, order, fields, pageable)
+                : contractService.getSortedContracts(sortBy, order, pageable);
         if (sortedContracts.isEmpty()) {
             return new ResponseEntity<>("No contracts found.", HttpStatus.NOT_FOUND);
         }
@@ -97,14 +121,25 @@ public class ContractController {
     @GetMapping("/filter")
     public ResponseEntity<?> getFilteredContracts(@RequestParam(required = false) LocalDate startDate, @RequestParam(required = false) LocalDate endDate,
                                                   @RequestParam(required = false) BigDecimal minSalary, @RequestParam(required = false) BigDecimal maxSalary,
-                                                  @PageableDefault Pageable pageable) {
-        Page<ContractDto> filteredContracts = contractService.getFilteredContracts(startDate, endDate, minSalary, maxSalary, pageable);
+                                                  @Parameter(description = "Comma-separated fields to return; all fields when omitted") @RequestParam(required = false) List<String> fields, @PageableDefault Pageable pageable) {
+        Page<?> filteredContracts = fields != null && !fields.isEmpty()
+                ? contractService.getFilteredContractFields(startDate, endDate, minSalary, maxSalary, fields, pageable)
+                : contractService.getFilteredContracts(startDate, endDate, minSalary, maxSalary, pageable);
         if (filteredContracts.isEmpty()) {
             return new ResponseEntity<>("No contracts found.", HttpStatus.NOT_FOUND);
         }
         return new ResponseEntity<>(filteredContracts, HttpStatus.OK);
     }
 
+    @Operation(summary = "Scan contracts", description = "Counts contracts by start date, end date and salary range from the in-memory snapshot, returning the IDs of the best paid matches")
+    @ApiResponse(responseCode = "200", description = "Scan completed successfully")
+    @GetMapping("/scan")
+    public SnapshotScanDto scanContracts(@RequestParam(required = false) LocalDate startDate, @RequestParam(required = false) LocalDate endDate,
+                                         @RequestParam(required = false) BigDecimal minSalary, @RequestParam(required = false) BigDecimal maxSalary,
+                                         @RequestParam(defaultValue = "100") int limit) {
+        return contractSnapshotService.scan(startDate, endDate, minSalary, maxSalary, limit);
+    }
+
     @Operation(summary = "Send contract as PDF", description = "Sends the contract as a PDF to the specified email address")
     @ApiResponse(responseCode = "200", description = "Contract sent successfully")
     @ApiResponse(responseCode = "400", description = "Failed to send contract")
@@ -124,12 +159,42 @@ public class ContractController {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved time left")
     @ApiResponse(responseCode = "404", description = "Contract not found")
     @GetMapping("/{id}/time-left")
-    @Cacheable(value = "contracts", key = "#id")
+    @Cacheable(value = "contracts", key = "'time-left:' + #id")
     public ResponseEntity<ContractTimeLeftDto> getTimeLeftUntilContractEnd(@PathVariable Long id) {
         ContractTimeLeftDto timeLeft = contractService.getTimeLeftUntilContractEnd(id);
         return ResponseEntity.ok(timeLeft);
     }
 
+    @Operation(summary = "Get contract overview", description = "Lists contracts with player, club and agent names, paged by the last contract ID seen")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved contract overview")
+    @GetMapping("/overview")
+    public ContractOverviewPageDto getContractOverview(@RequestParam(defaultValue = "0") long after,
+                                                       @RequestParam(defaultValue = "50") int limit) {
+        return contractOverviewService.getOverview(after, limit);
+    }
+
+    @Operation(summary = "Get expiring contracts", description = "Lists contracts ending within the next N days, optionally for one agent or club")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved expiring contracts")
+    @ApiResponse(responseCode = "400", description = "Both agentId and clubId given")
+    @GetMapping("/expiring")
+    public ResponseEntity<?> getExpiringContracts(@RequestParam(defaultValue = "30") int days,
+                                                  @RequestParam(required = false) Long agentId,
+                                                  @RequestParam(required = false) Long clubId,
+                                                  @RequestParam(defaultValue = "100") int limit) {
+        if (agentId != null && clubId != null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Filter by either agentId or clubId, not both.");
+        }
+        List<ContractExpiryDto> expiring = contractExpiryService.getExpiring(days, agentId, clubId, limit);
+        return ResponseEntity.ok(expiring);
+    }
+
+    @Operation(summary = "Get top contracts by salary", description = "Lists the highest-paid contracts, served from memory")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved top contracts")
+    @GetMapping("/top")
+    public List<ContractDto> getTopContracts(@RequestParam(defaultValue = "20") int limit) {
+        return leaderboardService.getTopContracts(limit);
+    }
+
     @Operation(summary = "Delete a contract", description = "Deletes the contract with the specified ID")
     @ApiResponse(responseCode = "200", description = "Contract deleted successfully")
     @ApiResponse(responseCode = "404", description = "Contract not found")
@@ -11,6 +11,7 @@ import org.agency.course_work.exception.AgentNotFound;
 import org.agency.course_work.exception.MatchNotFound;
 import org.agency.course_work.service.AgentService;
 import org.agency.course_work.service.MatchService;
+import org.agency.course_work.service.StandingsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
@@ -25,6 +26,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @AllArgsConstructor
@@ -32,8 +34,23 @@ import java.time.LocalDate;
 @Tag(name = "Match", description = "Operations related to matches")
 public class MatchController {
     private final MatchService matchService;
+    private final StandingsService standingsService;
     private static final Logger logger = LoggerFactory.getLogger(AgentService.class);
 
+    @Operation(summary = "Get league standings", description = "Club table with W/D/L, goals and points, served from memory")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved standings")
+    @GetMapping("/standings")
+    public List<ClubStandingDto> getStandings() {
+        return standingsService.getStandings();
+    }
+
+    @Operation(summary = "Get city statistics", description = "Matches, goals and results per city, served from memory")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved city statistics")
+    @GetMapping("/standings/cities")
+    public List<CityStatsDto> getCityStats() {
+        return standingsService.getCityStats();
+    }
+
     @Operation(summary = "Get match by ID", description = "Returns the details of a match by its ID")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved match")
     @ApiResponse(responseCode = "404", description = "Match not found")
@@ -43,6 +60,14 @@ public class MatchController {
         return ResponseEntity.ok(matchService.getMatchById(id));
     }
 
+    @Operation(summary = "Get matches by IDs", description = "Returns several matches in one call, in the order the IDs were given; unknown IDs are skipped")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved matches")
+    @ApiResponse(responseCode = "400", description = "Too many IDs requested")
+    @GetMapping(params = "ids")
+    public List<MatchDto> getMatchesByIds(@RequestParam List<Long> ids) {
+        return matchService.getMatchesByIds(ids);
+    }
+
     @Operation(summary = "Create a new match", description = "Creates a new match and returns its details")
     @ApiResponse(responseCode = "201", description = "Match created successfully")
     @PostMapping
@@ -92,6 +117,7 @@ public class MatchController {
 
     @Operation(summary = "Get sorted list of matches", description = "Returns a sorted list of matches based on the provided sorting parameters")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved sorted matches")
+    @ApiResponse(responseCode = "400", description = "sortBy is not an indexed field")
     @ApiResponse(responseCode = "404", description = "No matches found")
     @GetMapping("/sort")
     public ResponseEntity<?> getSortedMatches(@RequestParam String sortBy, @RequestParam String order, @PageableDefault Pageable pageable) {
@@ -10,11 +10,17 @@ import org.agency.course_work.dto.PlayerAgentDto;
 import org.agency.course_work.dto.PlayerCreationDto;
 import org.agency.course_work.dto.PlayerDetailsDto;
 import org.agency.course_work.dto.PlayerDto;
+import org.agency.course_work.dto.SnapshotScanDto;
+import org.agency.course_work.dto.PlayerSearchResultDto;
+import org.agency.course_work.dto.PlayerSuggestionDto;
 import org.agency.course_work.enums.PlayerPosition;
 import org.agency.course_work.exception.AgentNotFound;
 import org.agency.course_work.exception.PlayerNotFound;
 import org.agency.course_work.service.AgentService;
+import org.agency.course_work.service.LeaderboardService;
+import org.agency.course_work.service.PlayerAutocompleteService;
 import org.agency.course_work.service.PlayerService;
+import org.agency.course_work.service.PlayerSnapshotService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
@@ -28,12 +34,16 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @RestController
 @RequestMapping("api/players")
 @AllArgsConstructor
 public class PlayerController {
     private final PlayerService playerService;
+    private final PlayerAutocompleteService playerAutocompleteService;
+    private final LeaderboardService leaderboardService;
+    private final PlayerSnapshotService playerSnapshotService;
     private static final Logger logger = LoggerFactory.getLogger(PlayerController.class);
 
     @Operation(summary = "Get a player by ID", description = "Fetches a player by their unique ID.")
@@ -47,6 +57,16 @@ public class PlayerController {
         return ResponseEntity.ok(playerService.getPlayerById(id));
     }
 
+    @Operation(summary = "Get players by IDs", description = "Fetches several players in one call, in the order the IDs were given; unknown IDs are skipped.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Players fetched successfully"),
+            @ApiResponse(responseCode = "400", description = "Too many IDs requested")
+    })
+    @GetMapping(params = "ids")
+    public List<PlayerDto> getPlayersByIds(@Parameter(description = "Comma-separated player IDs") @RequestParam List<Long> ids) {
+        return playerService.getPlayersByIds(ids);
+    }
+
     @Operation(summary = "Create a new player", description = "Creates a new player in the system.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Player created successfully"),
@@ -66,7 +86,10 @@ public class PlayerController {
     })
     @GetMapping
     @Cacheable(value = "players")
-    public Page<PlayerDto> getAllPlayers(@PageableDefault Pageable pageable) {
+    public Page<?> getAllPlayers(@Parameter(description = "Comma-separated fields to return; all fields when omitted") @RequestParam(required = false) List<String> fields, @PageableDefault Pageable pageable) {
+        if (fields != null && !fields.isEmpty()) {
+            return playerService.getAllPlayerFields(fields, pageable);
+        }
         return playerService.getAllPlayers(pageable);
     }
 
@@ -76,7 +99,7 @@ public class PlayerController {
             @ApiResponse(responseCode = "404", description = "Player not found")
     })
     @GetMapping("/{id}/with-agent")
-    @Cacheable(value = "players", key = "#id")
+    @Cacheable(value = "players", key = "'with-agent:' + #id")
     public ResponseEntity<PlayerAgentDto> getPlayerWithAgent(@Parameter(description = "ID of the player to fetch") @PathVariable Long id) {
         PlayerAgentDto playerAgentDto = playerService.getPlayerWithAgent(id);
         return ResponseEntity.ok(playerAgentDto);
@@ -112,7 +135,7 @@ public class PlayerController {
             @ApiResponse(responseCode = "404", description = "Player not found")
     })
     @GetMapping("/{id}/details")
-    @Cacheable(value = "players", key = "#id")
+    @Cacheable(value = "players", key = "'details:' + #id")
     public ResponseEntity<PlayerDetailsDto> getPlayerDetails(@Parameter(description = "ID of the player to fetch details for") @PathVariable Long id) {
         PlayerDetailsDto playerDetails = playerService.getPlayerDetails(id);
         return ResponseEntity.ok(playerDetails);
@@ -120,10 +143,15 @@ public class PlayerController {
 
     @Operation(summary = "Get sorted players", description = "Fetches a list of players sorted by specified criteria.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Players fetched successfully")
+            @ApiResponse(responseCode = "200", description = "Players fetched successfully"),
+            @ApiResponse(responseCode = "400", description = "sortBy is not an indexed field")
     })
     @GetMapping("/sorted")
-    public Page<PlayerDto> getSortedPlayers(@RequestParam String sortBy, @RequestParam(defaultValue = "asc") String order, @PageableDefault Pageable pageable) {
+    public Page<?> getSortedPlayers(@RequestParam String sortBy, @RequestParam(defaultValue = "asc") String order,
+                                    @Parameter(description = "Comma-separated fields to return; all fields when omitted") @RequestParam(required = false) List<String> fields, @PageableDefault Pageable pageable) {
+        if (fields != null && !fields.isEmpty()) {
+            return playerService.getSortedPlayerFields(sortBy, order, fields, pageable);
+        }
         return playerService.getSortedPlayers(sortBy, order, pageable);
     }
 
@@ -134,14 +162,57 @@ public class PlayerController {
     })
     @GetMapping("/filter")
     public ResponseEntity<?> getFilteredPlayers(@RequestParam(required = false) Integer age, @RequestParam(required = false) String name, @RequestParam(required = false) String surname,
-                                                @RequestParam(required = false) String nationality, @RequestParam(required = false) BigDecimal minValue, @RequestParam(required = false) BigDecimal maxValue, @RequestParam(required = false) PlayerPosition position, @PageableDefault Pageable pageable) {
-        Page<PlayerDto> filteredPlayers = playerService.getFilteredPlayers(age, name, surname, nationality, minValue, maxValue, position, pageable);
+                                                @RequestParam(required = false) String nationality, @RequestParam(required = false) BigDecimal minValue, @RequestParam(required = false) BigDecimal maxValue, @RequestParam(required = false) PlayerPosition position,
+                                                @Parameter(description = "Comma-separated fields to return; all fields when omitted") @RequestParam(required = false) List<String> fields, @PageableDefault Pageable pageable) {
+        Page<?> filteredPlayers = fields != null && !fields.isEmpty()
+                ? playerService.getFilteredPlayerFields(age, name, surname, nationality, minValue, maxValue, position, fields, pageable)
+                : playerService.getFilteredPlayers(age, name, surname, nationality, minValue, maxValue, position, pageable);
         if (filteredPlayers.isEmpty()) {
             return new ResponseEntity<>("No players found.", HttpStatus.NOT_FOUND);
         }
         return new ResponseEntity<>(filteredPlayers, HttpStatus.OK);
     }
 
+    @Operation(summary = "Scan players", description = "Counts players by age, position, nationality and value range from the in-memory snapshot, returning the IDs of the most valuable matches.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scan completed successfully")
+    })
+    @GetMapping("/scan")
+    public SnapshotScanDto scanPlayers(@RequestParam(required = false) Integer age, @RequestParam(required = false) PlayerPosition position,
+                                       @RequestParam(required = false) String nationality, @RequestParam(required = false) BigDecimal minValue,
+                                       @RequestParam(required = false) BigDecimal maxValue, @RequestParam(defaultValue = "100") int limit) {
+        return playerSnapshotService.scan(age, position, nationality, minValue, maxValue, limit);
+    }
+
+    @Operation(summary = "Search players by name", description = "Typo-tolerant search over player name and surname, ranked by similarity.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching players fetched successfully")
+    })
+    @GetMapping("/search")
+    public List<PlayerSearchResultDto> searchPlayers(@RequestParam String query, @RequestParam(defaultValue = "20") int limit) {
+        return playerService.searchPlayers(query, limit);
+    }
+
+    @Operation(summary = "Autocomplete players", description = "Prefix suggestions over player name, surname and nationality served from memory.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions fetched successfully")
+    })
+    @GetMapping("/autocomplete")
+    public List<PlayerSuggestionDto> autocomplete(@RequestParam String query, @RequestParam(defaultValue = "10") int limit) {
+        return playerAutocompleteService.suggest(query, limit);
+    }
+
+    @Operation(summary = "Top players by value", description = "The most valuable players, optionally of one position or nationality, served from memory.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Players fetched successfully")
+    })
+    @GetMapping("/top")
+    public List<PlayerDto> getTopPlayers(@RequestParam(required = false) PlayerPosition position,
+                                         @RequestParam(required = false) String nationality,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        return leaderboardService.getTopPlayers(position, nationality, limit);
+    }
+
     @Operation(summary = "Delete player", description = "Marks a player as deleted by their ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Player deleted successfully"),
@@ -0,0 +1,11 @@
+package org.agency.course_work.dto;
+
+import org.agency.course_work.enums.CommissionRate;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+public record AgentPortfolioDto(Long agentId, String firstName, String lastName, CommissionRate commissionRate,
+                                long playerCount, BigDecimal totalMarketValue, BigDecimal averageMarketValue,
+                                BigDecimal totalSalary, BigDecimal expectedCommission) implements Serializable {
+}
@@ -0,0 +1,9 @@
+package org.agency.course_work.dto;
+
+import org.agency.course_work.enums.CommissionRate;
+
+import java.io.Serializable;
+
+public record AgentSearchResultDto(Long id, String firstName, String lastName, String phoneNumber,
+                                   CommissionRate commissionRate, double similarity) implements Serializable {
+}
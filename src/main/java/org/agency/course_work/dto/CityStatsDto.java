@@ -0,0 +1,9 @@
+package org.agency.course_work.dto;
+
+import org.agency.course_work.enums.City;
+
+import java.io.Serializable;
+
+public record CityStatsDto(City city, int matches, int goals, double goalsPerMatch, int homeWins, int draws,
+                           int awayWins) implements Serializable {
+}
@@ -0,0 +1,10 @@
+package org.agency.course_work.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+public record ClubFinanceDto(Long clubId, String name, BigDecimal budget, BigDecimal currentPayroll,
+                             BigDecimal committedFutureSalary, BigDecimal headroom,
+                             List<SeasonPayrollDto> seasons) implements Serializable {
+}
@@ -0,0 +1,7 @@
+package org.agency.course_work.dto;
+
+import java.io.Serializable;
+
+public record ClubStandingDto(int position, Long clubId, String clubName, int played, int won, int drawn, int lost,
+                              int goalsFor, int goalsAgainst, int goalDifference, int points) implements Serializable {
+}
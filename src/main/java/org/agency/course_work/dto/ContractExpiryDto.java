@@ -0,0 +1,8 @@
+package org.agency.course_work.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+public record ContractExpiryDto(Long contractId, Long playerId, Long clubId, Long agentId, LocalDate endDate,
+                                long daysLeft) implements Serializable {
+}
@@ -0,0 +1,13 @@
+package org.agency.course_work.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A contract together with the display names of its player, club and agent.
+ */
+public record ContractOverviewDto(Long id, LocalDate startDate, LocalDate endDate, BigDecimal salary,
+                                  Long playerId, String playerName, Long clubId, String clubName,
+                                  Long agentId, String agentName) implements Serializable {
+}
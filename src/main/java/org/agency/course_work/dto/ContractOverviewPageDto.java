@@ -0,0 +1,11 @@
+package org.agency.course_work.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * One keyset page of the contract overview; {@code nextCursor} is passed back as {@code after}
+ * to fetch the following page and is null on the last page.
+ */
+public record ContractOverviewPageDto(List<ContractOverviewDto> content, Long nextCursor) implements Serializable {
+}
@@ -0,0 +1,9 @@
+package org.agency.course_work.dto;
+
+import org.agency.course_work.enums.PlayerPosition;
+
+import java.io.Serializable;
+
+public record PlayerSearchResultDto(Long id, String name, String surname, String nationality, PlayerPosition position,
+                                    double similarity) implements Serializable {
+}
@@ -0,0 +1,6 @@
+package org.agency.course_work.dto;
+
+import java.io.Serializable;
+
+public record PlayerSuggestionDto(Long id, String name, String surname, String nationality) implements Serializable {
+}
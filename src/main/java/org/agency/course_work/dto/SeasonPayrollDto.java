@@ -0,0 +1,7 @@
+package org.agency.course_work.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+public record SeasonPayrollDto(int season, BigDecimal totalSalary, int contractCount) implements Serializable {
+}
@@ -0,0 +1,10 @@
+package org.agency.course_work.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Result of an in-memory snapshot scan: how many rows matched, and the ids of the top-ranked of them, best first.
+ */
+public record SnapshotScanDto(long matches, List<Long> ids) implements Serializable {
+}
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.agency.course_work.enums.CommissionRate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Where;
 
 import java.util.HashSet;
@@ -14,8 +16,9 @@ import java.util.Set;
 @Table (name = "agents")
 @Setter
 @Getter
-@ToString
+@ToString(callSuper = true)
 @Where(clause = "is_deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entity-agents")
 public class Agent extends BaseEntity {
     @Column(name = "first_name")
     private String firstName;
@@ -28,9 +31,11 @@ public class Agent extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private CommissionRate commissionRate;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "agent", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Player> players = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "agent", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Contract> contracts = new HashSet<>();
 }
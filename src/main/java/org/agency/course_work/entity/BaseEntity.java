@@ -2,12 +2,14 @@ package org.agency.course_work.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.agency.course_work.event.EntityChangeListener;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @MappedSuperclass
+@EntityListeners(EntityChangeListener.class)
 @Data
 public abstract class BaseEntity {
     @Id
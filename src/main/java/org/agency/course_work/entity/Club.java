@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.agency.course_work.enums.Stadium;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Where;
 
 import java.math.BigDecimal;
@@ -14,8 +16,9 @@ import java.util.*;
 @Table (name = "clubs")
 @Setter
 @Getter
-@ToString
+@ToString(callSuper = true)
 @Where(clause = "is_deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entity-clubs")
 public class Club extends BaseEntity {
     private String name;
 
@@ -25,9 +28,12 @@ public class Club extends BaseEntity {
     private String country;
     private BigDecimal budget;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "club", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Contract> contracts = new HashSet<>();
 
+    @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "collection-club-matches")
     @ManyToMany(cascade = CascadeType.REMOVE)
     @JoinTable(
             name = "club_match",
@@ -13,22 +13,40 @@ import java.time.LocalDate;
 @Table (name = "contracts")
 @Setter
 @Getter
-@ToString
+@ToString(callSuper = true)
 @Where(clause = "is_deleted = false")
 public class Contract extends BaseEntity {
     private LocalDate startDate;
     private LocalDate endDate;
     private BigDecimal salary;
 
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "player_id", nullable = false)
     private Player player;
 
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "club_id", nullable = false)
     private Club club;
 
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "agent_id", nullable = false)
     private Agent agent;
+
+    @ToString.Include(name = "playerId")
+    private Long playerIdForToString() {
+        return EntityIds.idOf(player);
+    }
+
+    @ToString.Include(name = "clubId")
+    private Long clubIdForToString() {
+        return EntityIds.idOf(club);
+    }
+
+    @ToString.Include(name = "agentId")
+    private Long agentIdForToString() {
+        return EntityIds.idOf(agent);
+    }
 }
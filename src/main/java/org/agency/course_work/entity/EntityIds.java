@@ -0,0 +1,21 @@
+package org.agency.course_work.entity;
+
+import org.hibernate.proxy.HibernateProxy;
+
+/**
+ * Reads entity identifiers without initializing Hibernate proxies.
+ */
+public final class EntityIds {
+    private EntityIds() {
+    }
+
+    public static Long idOf(BaseEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        if (entity instanceof HibernateProxy proxy) {
+            return (Long) proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        return entity.getId();
+    }
+}
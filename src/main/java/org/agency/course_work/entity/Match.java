@@ -1,10 +1,13 @@
 package org.agency.course_work.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.agency.course_work.enums.City;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Where;
 
 import java.time.LocalDate;
@@ -16,8 +19,9 @@ import java.util.Set;
 @Table(name = "matches")
 @Setter
 @Getter
-@ToString
+@ToString(callSuper = true)
 @Where(clause = "is_deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entity-matches")
 public class Match extends BaseEntity {
     private LocalDate date;
 
@@ -26,6 +30,40 @@ public class Match extends BaseEntity {
 
     private String score;
 
+    @Setter(AccessLevel.NONE)
+    private Integer homeGoals;
+
+    @Setter(AccessLevel.NONE)
+    private Integer awayGoals;
+
+    @Column(name = "home_club_id")
+    private Long homeClubId;
+
+    @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "collection-match-clubs")
     @ManyToMany(mappedBy = "matches", cascade = CascadeType.REMOVE)
     private Set<Club> clubs = new HashSet<>();
+
+    /**
+     * Keeps the structured goals in step with the score text whichever path writes it.
+     */
+    public void setScore(String score) {
+        this.score = score;
+        MatchScore parsed = MatchScore.parse(score);
+        this.homeGoals = parsed != null ? parsed.homeGoals() : null;
+        this.awayGoals = parsed != null ? parsed.awayGoals() : null;
+    }
+
+    /**
+     * The club listed with the match that is not the home club, or {@code null} when there is none.
+     */
+    public Long getAwayClubId() {
+        for (Club club : clubs) {
+            Long clubId = EntityIds.idOf(club);
+            if (!clubId.equals(homeClubId)) {
+                return clubId;
+            }
+        }
+        return null;
+    }
 }
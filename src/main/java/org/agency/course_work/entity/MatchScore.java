@@ -0,0 +1,29 @@
+package org.agency.course_work.entity;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Goals parsed from the "X:Y" score format, home side first.
+ */
+public record MatchScore(int homeGoals, int awayGoals) {
+    /**
+     * The V10 migration duplicates this pattern as a SQL regex to backfill legacy scores; a change here needs a new
+     * migration to match.
+     */
+    private static final Pattern SCORE = Pattern.compile("^\\s*(\\d{1,2})\\s*:\\s*(\\d{1,2})\\s*$");
+
+    /**
+     * Returns {@code null} when the score is missing or not in the "X:Y" format.
+     */
+    public static MatchScore parse(String score) {
+        if (score == null) {
+            return null;
+        }
+        Matcher matcher = SCORE.matcher(score);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return new MatchScore(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
@@ -15,7 +15,7 @@ import java.util.*;
 @Table(name = "players")
 @Setter
 @Getter
-@ToString
+@ToString(callSuper = true)
 //@AllArgsConstructor
 @Where(clause = "is_deleted = false")
 public class Player extends BaseEntity {
@@ -29,12 +29,25 @@ public class Player extends BaseEntity {
     private String nationality;
     private BigDecimal value;
 
+    @ToString.Exclude
     @ManyToOne
     private Agent agent;
 
+    @ToString.Exclude
     @ManyToOne
     private Club club;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "player")
     private Set<Contract> contracts = new HashSet<>();
+
+    @ToString.Include(name = "agentId")
+    private Long agentIdForToString() {
+        return EntityIds.idOf(agent);
+    }
+
+    @ToString.Include(name = "clubId")
+    private Long clubIdForToString() {
+        return EntityIds.idOf(club);
+    }
 }
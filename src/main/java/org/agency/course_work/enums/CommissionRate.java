@@ -1,8 +1,24 @@
 package org.agency.course_work.enums;
 
+import java.math.BigDecimal;
+
+/**
+ * Agent commission as a share of the salary under contract.
+ * The rates are written to the commission_rates table on startup, where the agent_portfolio view reads them.
+ */
 public enum CommissionRate {
-    LOW,
-    MEDIUM,
-    HIGH,
-    PREMIUM;
+    LOW(new BigDecimal("0.03")),
+    MEDIUM(new BigDecimal("0.05")),
+    HIGH(new BigDecimal("0.08")),
+    PREMIUM(new BigDecimal("0.10"));
+
+    private final BigDecimal rate;
+
+    CommissionRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
 }
@@ -0,0 +1,14 @@
+package org.agency.course_work.event;
+
+import org.agency.course_work.index.ContractExpiryIndex;
+
+/**
+ * Published by the daily expiry scan: once when a contract enters the notice window and once after it has ended.
+ */
+public record ContractExpiryEvent(ContractExpiryIndex.Expiry expiry, Kind kind) {
+
+    public enum Kind {
+        UPCOMING,
+        EXPIRED
+    }
+}
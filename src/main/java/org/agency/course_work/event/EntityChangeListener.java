@@ -0,0 +1,35 @@
+package org.agency.course_work.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.agency.course_work.entity.BaseEntity;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA callback that republishes entity writes as {@link EntityChangedEvent}s.
+ * Hibernate creates it through Spring's bean container, so the publisher is injected.
+ * Consumers should listen with {@code @TransactionalEventListener} to see committed state only.
+ */
+public class EntityChangeListener {
+    private final ApplicationEventPublisher publisher;
+
+    public EntityChangeListener(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @PostPersist
+    public void onPersist(BaseEntity entity) {
+        publisher.publishEvent(new EntityChangedEvent(entity, EntityChangedEvent.ChangeType.PERSISTED));
+    }
+
+    @PostUpdate
+    public void onUpdate(BaseEntity entity) {
+        publisher.publishEvent(new EntityChangedEvent(entity, EntityChangedEvent.ChangeType.UPDATED));
+    }
+
+    @PostRemove
+    public void onRemove(BaseEntity entity) {
+        publisher.publishEvent(new EntityChangedEvent(entity, EntityChangedEvent.ChangeType.REMOVED));
+    }
+}
@@ -0,0 +1,22 @@
+package org.agency.course_work.event;
+
+import org.agency.course_work.entity.BaseEntity;
+
+/**
+ * Published for every insert, update (including soft deletes) and removal of a {@link BaseEntity}.
+ */
+public record EntityChangedEvent(BaseEntity entity, ChangeType type) {
+
+    public enum ChangeType {
+        PERSISTED,
+        UPDATED,
+        REMOVED
+    }
+
+    /**
+     * Whether the entity is still visible through the {@code is_deleted = false} restriction after this change.
+     */
+    public boolean isLive() {
+        return type != ChangeType.REMOVED && !entity.isDeleted();
+    }
+}
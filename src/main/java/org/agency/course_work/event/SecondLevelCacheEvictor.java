@@ -0,0 +1,45 @@
+package org.agency.course_work.event;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Match;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the second-level cache in line with the {@code is_deleted = false} restriction.
+ * A soft delete is an ordinary update to Hibernate, so the cached row and the collections that list it
+ * would otherwise keep serving an entity the database no longer returns.
+ */
+@Component
+public class SecondLevelCacheEvictor {
+    private static final String CLUB_MATCHES = Club.class.getName() + ".matches";
+    private static final String MATCH_CLUBS = Match.class.getName() + ".clubs";
+
+    private final Cache cache;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.isLive()) {
+            return;
+        }
+        if (event.entity() instanceof Club club) {
+            cache.evictEntityData(Club.class, club.getId());
+            cache.evictCollectionData(CLUB_MATCHES, club.getId());
+            cache.evictCollectionData(MATCH_CLUBS);
+        } else if (event.entity() instanceof Match match) {
+            cache.evictEntityData(Match.class, match.getId());
+            cache.evictCollectionData(MATCH_CLUBS, match.getId());
+            cache.evictCollectionData(CLUB_MATCHES);
+        } else if (event.entity() instanceof Agent agent) {
+            cache.evictEntityData(Agent.class, agent.getId());
+        }
+    }
+}
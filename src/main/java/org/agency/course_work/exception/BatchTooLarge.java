@@ -0,0 +1,7 @@
+package org.agency.course_work.exception;
+
+public class BatchTooLarge extends RuntimeException {
+    public BatchTooLarge(String message) {
+        super(message);
+    }
+}
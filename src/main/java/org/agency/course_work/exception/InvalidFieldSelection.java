@@ -0,0 +1,7 @@
+package org.agency.course_work.exception;
+
+public class InvalidFieldSelection extends RuntimeException {
+    public InvalidFieldSelection(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.agency.course_work.exception;
+
+public class InvalidSortField extends RuntimeException {
+    public InvalidSortField(String message) {
+        super(message);
+    }
+}
@@ -27,4 +27,17 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
         body.put("error", "Not Found");        body.put("message", ex.getMessage());
         body.put("path", request.getDescription(false).replace("uri=", ""));
         return handleExceptionInternal(ex, body, new HttpHeaders(), HttpStatus.NOT_FOUND, request);    }
+
+    @ExceptionHandler(value = { InvalidFieldSelection.class, BatchTooLarge.class, InvalidSortField.class })
+    protected ResponseEntity<Object> handleBadRequestException(RuntimeException ex, WebRequest request) {
+        Map<String, Object> body = new HashMap<>();
+
+        String timestamp = ZonedDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        body.put("timestamp", timestamp);
+        body.put("status", HttpStatus.BAD_REQUEST.value());
+        body.put("error", "Bad Request");
+        body.put("message", ex.getMessage());
+        body.put("path", request.getDescription(false).replace("uri=", ""));
+        return handleExceptionInternal(ex, body, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
+    }
 }
@@ -0,0 +1,159 @@
+package org.agency.course_work.index;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Slot bookkeeping shared by the off-heap snapshots: an id and a live flag per slot, a free list of deleted slots, and
+ * growth of every column together.
+ * <p>
+ * Subclasses add their own columns in {@link #growColumns}, write them under the write lock after {@link #slotFor},
+ * and scan slots {@code 0} to {@link #slotCount} under the read lock, skipping slots that are not live.
+ */
+abstract class ColumnSnapshot {
+    protected static final int AMOUNT_SCALE = 2;
+    protected static final long NO_AMOUNT = Long.MIN_VALUE;
+
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+    protected ByteBuffer ids;
+    protected ByteBuffer live;
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final int initialCapacity;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    private int capacity;
+
+    protected ColumnSnapshot(int initialCapacity) {
+        this.initialCapacity = Math.max(initialCapacity, 16);
+    }
+
+    /**
+     * Grows every subclass column to {@code capacity} rows, keeping the rows already written.
+     */
+    protected abstract void growColumns(int capacity);
+
+    /**
+     * Bytes reserved by the subclass columns.
+     */
+    protected abstract long columnBytes();
+
+    /**
+     * Called under the write lock when the snapshot is cleared.
+     */
+    protected void onClear() {
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot != null) {
+                live.put(slot, (byte) 0);
+                if (freeCount == freeSlots.length) {
+                    freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+                }
+                freeSlots[freeCount++] = slot;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotsById.clear();
+            freeCount = 0;
+            slotCount = 0;
+            onClear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Bytes reserved by the off-heap columns, including unused capacity.
+     */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return capacity == 0 ? 0 : (long) ids.capacity() + live.capacity() + columnBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The slot holding {@code id}, taking a free one for a new id and marking it live. Call under the write lock.
+     */
+    protected int slotFor(long id) {
+        Integer slot = slotsById.get(id);
+        if (slot == null) {
+            slot = takeSlot();
+            slotsById.put(id, slot);
+            ids.putLong(slot << 3, id);
+            live.put(slot, (byte) 1);
+        }
+        return slot;
+    }
+
+    /**
+     * One past the highest slot ever used since the last clear. Call under a lock.
+     */
+    protected int slotCount() {
+        return slotCount;
+    }
+
+    private int takeSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == capacity) {
+            int grown = capacity == 0 ? initialCapacity : capacity * 2;
+            ids = grow(ids, grown * Long.BYTES);
+            live = grow(live, grown);
+            growColumns(grown);
+            capacity = grown;
+        }
+        return slotCount++;
+    }
+
+    protected static ByteBuffer grow(ByteBuffer column, int bytes) {
+        ByteBuffer grown = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        if (column != null) {
+            grown.put(0, column, 0, column.capacity());
+        }
+        return grown;
+    }
+
+    /**
+     * {@code amount} in hundredths, clamped so that it never collides with {@link #NO_AMOUNT}.
+     */
+    protected static long scaled(BigDecimal amount, RoundingMode rounding) {
+        BigDecimal hundredths = amount.setScale(AMOUNT_SCALE, rounding).movePointRight(AMOUNT_SCALE);
+        if (hundredths.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) >= 0) {
+            return Long.MAX_VALUE;
+        }
+        if (hundredths.compareTo(BigDecimal.valueOf(NO_AMOUNT + 1)) <= 0) {
+            return NO_AMOUNT + 1;
+        }
+        return hundredths.longValueExact();
+    }
+}
@@ -0,0 +1,154 @@
+package org.agency.course_work.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contracts bucketed by end date, globally and per agent and club.
+ * <p>
+ * Each timeline is a {@link TreeMap} from epoch day to the contracts ending that day, so a window query costs one
+ * {@code O(log n)} descent plus the {@code k} contracts it returns.
+ */
+public class ContractExpiryIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Expiry> byContractId = new HashMap<>();
+    private final TreeMap<Long, List<Expiry>> timeline = new TreeMap<>();
+    private final Map<Long, TreeMap<Long, List<Expiry>>> timelinesByAgent = new HashMap<>();
+    private final Map<Long, TreeMap<Long, List<Expiry>>> timelinesByClub = new HashMap<>();
+
+    public record Expiry(long contractId, LocalDate endDate, Long agentId, Long clubId, Long playerId) {
+    }
+
+    public enum Scope {
+        ALL,
+        AGENT,
+        CLUB
+    }
+
+    public void upsert(Expiry expiry) {
+        lock.writeLock().lock();
+        try {
+            Expiry previous = byContractId.remove(expiry.contractId());
+            if (previous != null) {
+                unlink(previous);
+            }
+            if (expiry.endDate() != null) {
+                byContractId.put(expiry.contractId(), expiry);
+                long day = expiry.endDate().toEpochDay();
+                link(timeline, day, expiry);
+                if (expiry.agentId() != null) {
+                    link(timelinesByAgent.computeIfAbsent(expiry.agentId(), key -> new TreeMap<>()), day, expiry);
+                }
+                if (expiry.clubId() != null) {
+                    link(timelinesByClub.computeIfAbsent(expiry.clubId(), key -> new TreeMap<>()), day, expiry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long contractId) {
+        lock.writeLock().lock();
+        try {
+            Expiry previous = byContractId.remove(contractId);
+            if (previous != null) {
+                unlink(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byContractId.clear();
+            timeline.clear();
+            timelinesByAgent.clear();
+            timelinesByClub.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byContractId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Contracts ending between {@code from} and {@code to}, both inclusive, earliest first, at most {@code limit}.
+     */
+    public List<Expiry> expiring(Scope scope, Long scopeId, LocalDate from, LocalDate to, int limit) {
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, List<Expiry>> days = switch (scope) {
+                case ALL -> timeline;
+                case AGENT -> timelinesByAgent.get(scopeId);
+                case CLUB -> timelinesByClub.get(scopeId);
+            };
+            List<Expiry> result = new ArrayList<>();
+            if (days == null || from.isAfter(to)) {
+                return result;
+            }
+            for (List<Expiry> bucket : days.subMap(from.toEpochDay(), true, to.toEpochDay(), true).values()) {
+                for (Expiry expiry : bucket) {
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                    result.add(expiry);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(Expiry expiry) {
+        long day = expiry.endDate().toEpochDay();
+        unlink(timeline, day, expiry);
+        if (expiry.agentId() != null) {
+            unlinkScoped(timelinesByAgent, expiry.agentId(), day, expiry);
+        }
+        if (expiry.clubId() != null) {
+            unlinkScoped(timelinesByClub, expiry.clubId(), day, expiry);
+        }
+    }
+
+    private static void unlinkScoped(Map<Long, TreeMap<Long, List<Expiry>>> timelines, Long scopeId, long day, Expiry expiry) {
+        TreeMap<Long, List<Expiry>> days = timelines.get(scopeId);
+        if (days != null) {
+            unlink(days, day, expiry);
+            if (days.isEmpty()) {
+                timelines.remove(scopeId);
+            }
+        }
+    }
+
+    private static void link(TreeMap<Long, List<Expiry>> days, long day, Expiry expiry) {
+        days.computeIfAbsent(day, key -> new ArrayList<>(2)).add(expiry);
+    }
+
+    private static void unlink(TreeMap<Long, List<Expiry>> days, long day, Expiry expiry) {
+        List<Expiry> bucket = days.get(day);
+        if (bucket != null) {
+            bucket.removeIf(candidate -> candidate.contractId() == expiry.contractId());
+            if (bucket.isEmpty()) {
+                days.remove(day);
+            }
+        }
+    }
+}
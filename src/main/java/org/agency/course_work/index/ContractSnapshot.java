@@ -0,0 +1,104 @@
+package org.agency.course_work.index;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * The filterable columns of every live contract, one off-heap column per attribute.
+ * <p>
+ * Start and end dates are int epoch days and salary a long in hundredths. Scans rank matches by salary through a
+ * {@link ParallelScan}, like {@link PlayerSnapshot} does by value.
+ */
+public class ContractSnapshot extends ColumnSnapshot {
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    private ByteBuffer startDays;
+    private ByteBuffer endDays;
+    private ByteBuffer salaries;
+
+    /**
+     * The criteria of {@code getFilteredContracts}; null means not filtered on. Contracts starting on or after
+     * {@code startDate}, ending on or before {@code endDate}, with a salary within the inclusive bounds.
+     */
+    public record Criteria(LocalDate startDate, LocalDate endDate, BigDecimal minSalary, BigDecimal maxSalary) {
+    }
+
+    /**
+     * How many contracts matched, and the ids of the {@code limit} best paid of them, highest salary first and then
+     * highest id; contracts without a salary come last.
+     */
+    public record Result(long matches, long[] ids) {
+    }
+
+    public ContractSnapshot(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    public void upsert(long id, LocalDate startDate, LocalDate endDate, BigDecimal salary) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotFor(id);
+            startDays.putInt(slot << 2, startDate != null ? day(startDate) : NO_DATE);
+            endDays.putInt(slot << 2, endDate != null ? day(endDate) : NO_DATE);
+            salaries.putLong(slot << 3, salary != null ? scaled(salary, RoundingMode.HALF_UP) : NO_AMOUNT);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Result scan(Criteria criteria, int limit, ParallelScan executor) {
+        lock.readLock().lock();
+        try {
+            boolean startRequired = criteria.startDate() != null;
+            boolean endRequired = criteria.endDate() != null;
+            boolean salaryRequired = criteria.minSalary() != null || criteria.maxSalary() != null;
+            int minStart = startRequired ? day(criteria.startDate()) : Integer.MIN_VALUE;
+            int maxEnd = endRequired ? day(criteria.endDate()) : Integer.MAX_VALUE;
+            long minSalary = criteria.minSalary() != null ? scaled(criteria.minSalary(), RoundingMode.CEILING) : Long.MIN_VALUE;
+            long maxSalary = criteria.maxSalary() != null ? scaled(criteria.maxSalary(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+
+            ParallelScan.Result result = executor.run(slotCount(), Math.max(limit, 0), (from, to, top) -> {
+                long matches = 0;
+                for (int slot = from; slot < to; slot++) {
+                    int start = startDays.getInt(slot << 2);
+                    int end = endDays.getInt(slot << 2);
+                    long salary = salaries.getLong(slot << 3);
+                    boolean match = live.get(slot) != 0
+                            & (!startRequired | start != NO_DATE) & start >= minStart
+                            & (!endRequired | end != NO_DATE) & end <= maxEnd
+                            & (!salaryRequired | salary != NO_AMOUNT)
+                            & salary >= minSalary & salary <= maxSalary;
+                    if (match) {
+                        top.offer(salary, ids.getLong(slot << 3));
+                        matches++;
+                    }
+                }
+                return matches;
+            });
+            return new Result(result.matches(), result.top().ids());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void growColumns(int capacity) {
+        startDays = grow(startDays, capacity * Integer.BYTES);
+        endDays = grow(endDays, capacity * Integer.BYTES);
+        salaries = grow(salaries, capacity * Long.BYTES);
+    }
+
+    @Override
+    protected long columnBytes() {
+        return (long) startDays.capacity() + endDays.capacity() + salaries.capacity();
+    }
+
+    /**
+     * The epoch day of {@code date}, clamped into an int; no contract date comes near the limits.
+     */
+    private static int day(LocalDate date) {
+        return (int) Math.max(Math.min(date.toEpochDay(), Integer.MAX_VALUE), NO_DATE + 1);
+    }
+}
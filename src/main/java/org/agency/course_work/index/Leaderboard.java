@@ -0,0 +1,173 @@
+package org.agency.course_work.index;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * The highest-scoring rows of one ranking, at most {@code capacity} of them, ordered by score then id, both descending.
+ * <p>
+ * The board always holds an exact prefix of the full ranking. A row only enters when it ranks above the current last
+ * entry, when it was already on the board and has not moved down, or when the board is known to hold every row.
+ * A row that leaves or falls below the last entry shrinks the prefix rather than leaving a gap. A read longer than the
+ * prefix returns {@code null}, and the caller refills the board with {@link #reload}. A new board knows nothing and
+ * answers no read until it is cleared or reloaded.
+ */
+public class Leaderboard<T> {
+    private static final Comparator<Entry<?>> RANKING = (left, right) -> {
+        int byScore = right.score().compareTo(left.score());
+        return byScore != 0 ? byScore : Long.compare(right.id(), left.id());
+    };
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int capacity;
+    private final TreeSet<Entry<T>> ranked = new TreeSet<>(RANKING);
+    private final Map<Long, Entry<T>> byId = new HashMap<>();
+    private boolean complete;
+    private long version;
+
+    public record Entry<T>(long id, BigDecimal score, T payload) {
+    }
+
+    public Leaderboard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Places row {@code id} at {@code score}, or drops it when {@code score} is null.
+     * The payload is only built when the row makes the board.
+     */
+    public void upsert(long id, BigDecimal score, Supplier<T> payload) {
+        lock.writeLock().lock();
+        try {
+            version++;
+            Entry<T> previous = byId.remove(id);
+            if (previous != null) {
+                ranked.remove(previous);
+            }
+            if (score == null) {
+                return;
+            }
+            Entry<T> probe = new Entry<>(id, score, null);
+            boolean keepsPlace = previous != null && RANKING.compare(probe, previous) <= 0;
+            boolean beatsLast = !ranked.isEmpty() && RANKING.compare(probe, ranked.last()) < 0;
+            if (!complete && !keepsPlace && !beatsLast) {
+                return;
+            }
+            Entry<T> entry = new Entry<>(id, score, payload.get());
+            ranked.add(entry);
+            byId.put(id, entry);
+            if (ranked.size() > capacity) {
+                byId.remove(ranked.pollLast().id());
+                complete = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            version++;
+            Entry<T> previous = byId.remove(id);
+            if (previous != null) {
+                ranked.remove(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            version++;
+            ranked.clear();
+            byId.clear();
+            complete = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the board with the top rows read from the database, unless a write arrived after {@code expectedVersion}
+     * was taken, in which case the rows may already be out of date and the board is left as it is.
+     *
+     * @param top the first rows of the ranking, in order, as many as {@link #capacity()} or all there are
+     */
+    public boolean reload(long expectedVersion, List<Entry<T>> top) {
+        lock.writeLock().lock();
+        try {
+            if (version != expectedVersion) {
+                return false;
+            }
+            version++;
+            ranked.clear();
+            byId.clear();
+            for (Entry<T> entry : top) {
+                ranked.add(entry);
+                byId.put(entry.id(), entry);
+            }
+            complete = top.size() < capacity;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Payloads ranked {@code offset} to {@code offset + limit - 1}, or {@code null} when that range reaches past what
+     * the board knows. A board holding every row answers any range, returning fewer payloads at the end.
+     */
+    public List<T> slice(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (!complete && offset + limit > ranked.size()) {
+                return null;
+            }
+            List<T> result = new ArrayList<>(Math.max(Math.min(limit, ranked.size() - offset), 0));
+            Iterator<Entry<T>> entries = ranked.iterator();
+            for (int rank = 0; rank < offset + limit && entries.hasNext(); rank++) {
+                Entry<T> entry = entries.next();
+                if (rank >= offset) {
+                    result.add(entry.payload());
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranked.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,243 @@
+package org.agency.course_work.index;
+
+import org.agency.course_work.enums.City;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Club standings and per-city totals kept in primitive arrays.
+ * <p>
+ * Every applied result is remembered per match, so a corrected score or a deleted match is first taken back out
+ * of the totals before the new result goes in; no rescan of match history is needed.
+ */
+public class LeagueTable {
+    public static final int POINTS_FOR_WIN = 3;
+    public static final int POINTS_FOR_DRAW = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotsByClubId = new HashMap<>();
+    private final Map<Long, Result> resultsByMatchId = new HashMap<>();
+    private long[] clubIds = new long[64];
+    private String[] clubNames = new String[64];
+    private boolean[] hidden = new boolean[64];
+    private int[] played = new int[64];
+    private int[] won = new int[64];
+    private int[] drawn = new int[64];
+    private int[] lost = new int[64];
+    private int[] goalsFor = new int[64];
+    private int[] goalsAgainst = new int[64];
+    private int clubCount;
+
+    private final int[] cityMatches = new int[City.values().length];
+    private final int[] cityGoals = new int[City.values().length];
+    private final int[] cityHomeWins = new int[City.values().length];
+    private final int[] cityDraws = new int[City.values().length];
+    private final int[] cityAwayWins = new int[City.values().length];
+
+    private record Result(int homeSlot, int awaySlot, int homeGoals, int awayGoals, int city) {
+    }
+
+    public record Standing(long clubId, String clubName, int played, int won, int drawn, int lost,
+                           int goalsFor, int goalsAgainst, int points) {
+        public int goalDifference() {
+            return goalsFor - goalsAgainst;
+        }
+    }
+
+    public record CityStats(City city, int matches, int goals, int homeWins, int draws, int awayWins) {
+    }
+
+    private static final Comparator<Standing> TABLE_ORDER = Comparator.comparingInt(Standing::points).reversed()
+            .thenComparing(Comparator.comparingInt(Standing::goalDifference).reversed())
+            .thenComparing(Comparator.comparingInt(Standing::goalsFor).reversed())
+            .thenComparingLong(Standing::clubId);
+
+    /**
+     * Records the result of a match, replacing whatever was recorded for it before.
+     */
+    public void apply(long matchId, long homeClubId, String homeClubName, long awayClubId, String awayClubName,
+                      int homeGoals, int awayGoals, City city) {
+        lock.writeLock().lock();
+        try {
+            Result previous = resultsByMatchId.remove(matchId);
+            if (previous != null) {
+                add(previous, -1);
+            }
+            Result result = new Result(slot(homeClubId, homeClubName), slot(awayClubId, awayClubName),
+                    homeGoals, awayGoals, city != null ? city.ordinal() : -1);
+            add(result, 1);
+            resultsByMatchId.put(matchId, result);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long matchId) {
+        lock.writeLock().lock();
+        try {
+            Result previous = resultsByMatchId.remove(matchId);
+            if (previous != null) {
+                add(previous, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the clubs recorded for a match as {@code [homeClubId, awayClubId]}, or {@code null} if it is unknown.
+     */
+    public long[] clubsOf(long matchId) {
+        lock.readLock().lock();
+        try {
+            Result result = resultsByMatchId.get(matchId);
+            return result != null ? new long[]{clubIds[result.homeSlot()], clubIds[result.awaySlot()]} : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void renameClub(long clubId, String name) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByClubId.get(clubId);
+            if (slot != null) {
+                clubNames[slot] = name;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Hides a soft-deleted club from the standings; its results still count for its opponents.
+     */
+    public void hideClub(long clubId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByClubId.get(clubId);
+            if (slot != null) {
+                hidden[slot] = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotsByClubId.clear();
+            resultsByMatchId.clear();
+            Arrays.fill(clubNames, 0, clubCount, null);
+            for (int[] column : List.of(played, won, drawn, lost, goalsFor, goalsAgainst,
+                    cityMatches, cityGoals, cityHomeWins, cityDraws, cityAwayWins)) {
+                Arrays.fill(column, 0);
+            }
+            Arrays.fill(hidden, false);
+            clubCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Standing> standings() {
+        lock.readLock().lock();
+        try {
+            List<Standing> standings = new ArrayList<>(clubCount);
+            for (int slot = 0; slot < clubCount; slot++) {
+                if (played[slot] > 0 && !hidden[slot]) {
+                    standings.add(new Standing(clubIds[slot], clubNames[slot], played[slot], won[slot], drawn[slot],
+                            lost[slot], goalsFor[slot], goalsAgainst[slot],
+                            won[slot] * POINTS_FOR_WIN + drawn[slot] * POINTS_FOR_DRAW));
+                }
+            }
+            standings.sort(TABLE_ORDER);
+            return standings;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<CityStats> cityStats() {
+        lock.readLock().lock();
+        try {
+            List<CityStats> stats = new ArrayList<>(cityMatches.length);
+            for (City city : City.values()) {
+                int i = city.ordinal();
+                stats.add(new CityStats(city, cityMatches[i], cityGoals[i], cityHomeWins[i], cityDraws[i], cityAwayWins[i]));
+            }
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Result result, int sign) {
+        int home = result.homeSlot();
+        int away = result.awaySlot();
+        int outcome = Integer.compare(result.homeGoals(), result.awayGoals());
+        played[home] += sign;
+        played[away] += sign;
+        goalsFor[home] += sign * result.homeGoals();
+        goalsAgainst[home] += sign * result.awayGoals();
+        goalsFor[away] += sign * result.awayGoals();
+        goalsAgainst[away] += sign * result.homeGoals();
+        if (outcome > 0) {
+            won[home] += sign;
+            lost[away] += sign;
+        } else if (outcome < 0) {
+            lost[home] += sign;
+            won[away] += sign;
+        } else {
+            drawn[home] += sign;
+            drawn[away] += sign;
+        }
+        int city = result.city();
+        if (city >= 0) {
+            cityMatches[city] += sign;
+            cityGoals[city] += sign * (result.homeGoals() + result.awayGoals());
+            if (outcome > 0) {
+                cityHomeWins[city] += sign;
+            } else if (outcome < 0) {
+                cityAwayWins[city] += sign;
+            } else {
+                cityDraws[city] += sign;
+            }
+        }
+    }
+
+    private int slot(long clubId, String clubName) {
+        Integer slot = slotsByClubId.get(clubId);
+        if (slot != null) {
+            if (clubName != null) {
+                clubNames[slot] = clubName;
+            }
+            return slot;
+        }
+        if (clubCount == clubIds.length) {
+            int capacity = clubIds.length * 2;
+            clubIds = Arrays.copyOf(clubIds, capacity);
+            clubNames = Arrays.copyOf(clubNames, capacity);
+            hidden = Arrays.copyOf(hidden, capacity);
+            played = Arrays.copyOf(played, capacity);
+            won = Arrays.copyOf(won, capacity);
+            drawn = Arrays.copyOf(drawn, capacity);
+            lost = Arrays.copyOf(lost, capacity);
+            goalsFor = Arrays.copyOf(goalsFor, capacity);
+            goalsAgainst = Arrays.copyOf(goalsAgainst, capacity);
+        }
+        int newSlot = clubCount++;
+        clubIds[newSlot] = clubId;
+        clubNames[newSlot] = clubName;
+        slotsByClubId.put(clubId, newSlot);
+        return newSlot;
+    }
+}
@@ -0,0 +1,103 @@
+package org.agency.course_work.index;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs a snapshot scan over row chunks on a dedicated {@link ForkJoinPool}.
+ * <p>
+ * The rows are split into at most {@code parallelism} chunks of at least {@code minChunkRows}. Each chunk applies the
+ * predicates to its own rows, counts the matches and keeps its best {@code k} in a {@link TopK}. Chunks are joined
+ * pairwise by merging their sorted results. A scan too small for two chunks runs on the calling thread.
+ * <p>
+ * The caller keeps the snapshot's read lock for the whole call, so the chunks read columns that cannot change under them.
+ */
+public class ParallelScan implements AutoCloseable {
+    private final int parallelism;
+    private final int minChunkRows;
+    private final ForkJoinPool pool;
+
+    /**
+     * Scans rows {@code from} (inclusive) to {@code to} (exclusive), offering each match to {@code top},
+     * and returns the number of matches.
+     */
+    @FunctionalInterface
+    public interface RangeScan {
+        long scan(int from, int to, TopK top);
+    }
+
+    /**
+     * The number of rows matched and the best {@code k} of them, best first.
+     */
+    public record Result(long matches, TopK.Sorted top) {
+        static final Result NONE = new Result(0, TopK.Sorted.EMPTY);
+
+        Result merge(Result other, int k) {
+            return new Result(matches + other.matches, top.merge(other.top, k));
+        }
+    }
+
+    public ParallelScan(int parallelism, int minChunkRows) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.minChunkRows = Math.max(minChunkRows, 1);
+        this.pool = this.parallelism > 1 ? new ForkJoinPool(this.parallelism) : null;
+    }
+
+    public Result run(int rows, int k, RangeScan scan) {
+        int chunks = Math.max(1, Math.min(parallelism, rows / minChunkRows));
+        if (chunks == 1 || pool == null) {
+            return leaf(0, rows, k, scan);
+        }
+        int chunkRows = (rows + chunks - 1) / chunks;
+        return pool.invoke(new Chunk(0, rows, chunkRows, k, scan));
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private static Result leaf(int from, int to, int k, RangeScan scan) {
+        if (from >= to) {
+            return Result.NONE;
+        }
+        TopK top = new TopK(k);
+        long matches = scan.scan(from, to, top);
+        return new Result(matches, top.drain());
+    }
+
+    private static final class Chunk extends RecursiveTask<Result> {
+        private final int from;
+        private final int to;
+        private final int chunkRows;
+        private final int k;
+        private final RangeScan scan;
+
+        private Chunk(int from, int to, int chunkRows, int k, RangeScan scan) {
+            this.from = from;
+            this.to = to;
+            this.chunkRows = chunkRows;
+            this.k = k;
+            this.scan = scan;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from <= chunkRows) {
+                return leaf(from, to, k, scan);
+            }
+            int chunksInRange = (to - from + chunkRows - 1) / chunkRows;
+            int middle = from + (chunksInRange / 2) * chunkRows;
+            Chunk left = new Chunk(from, middle, chunkRows, k, scan);
+            left.fork();
+            Result right = new Chunk(middle, to, chunkRows, k, scan).compute();
+            return left.join().merge(right, k);
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package org.agency.course_work.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix and trigram index over player name, surname and nationality.
+ * <p>
+ * Every player occupies an int slot; postings are growable int arrays of slots, so a lookup touches no boxed values.
+ * Prefixes of up to {@link #MAX_PREFIX_LENGTH} characters are indexed per token and longer query tokens are verified
+ * against the slot text. Trigrams cover matches inside a token when prefixes alone do not fill the result.
+ * <p>
+ * Each slot remembers its position in every posting it belongs to, so an update or removal costs one swap per term
+ * however long the posting is. A query walks its rarest posting, so a one-letter query still visits every player
+ * with a token starting with that letter.
+ */
+public class PlayerAutocompleteIndex {
+    static final int MAX_PREFIX_LENGTH = 4;
+    static final int GRAM_LENGTH = 3;
+
+    private static final int EXACT_SCORE = 3;
+    private static final int PREFIX_SCORE = 2;
+    private static final int INFIX_SCORE = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Map<String, IntPostings> prefixes = new HashMap<>();
+    private final Map<String, IntPostings> trigrams = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private long[] ids = new long[1024];
+    private String[] names = new String[1024];
+    private String[] surnames = new String[1024];
+    private String[] nationalities = new String[1024];
+    private String[] searchTexts = new String[1024];
+    private int[][] positions = new int[1024][];
+    private int slotCount;
+
+    public record Suggestion(long id, String name, String surname, String nationality) {
+    }
+
+    public void upsert(long id, String name, String surname, String nationality) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot != null) {
+                unindex(slot);
+            } else {
+                slot = allocate(id);
+            }
+            names[slot] = name;
+            surnames[slot] = surname;
+            nationalities[slot] = nationality != null ? nationality.intern() : null;
+            searchTexts[slot] = String.join(" ", tokenize(name, surname, nationality));
+            index(slot);
+            live.set(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            unindex(slot);
+            live.clear(slot);
+            names[slot] = null;
+            surnames[slot] = null;
+            nationalities[slot] = null;
+            searchTexts[slot] = null;
+            positions[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotsById.clear();
+            prefixes.clear();
+            trigrams.clear();
+            freeCount = 0;
+            live.clear();
+            Arrays.fill(names, 0, slotCount, null);
+            Arrays.fill(surnames, 0, slotCount, null);
+            Arrays.fill(nationalities, 0, slotCount, null);
+            Arrays.fill(searchTexts, 0, slotCount, null);
+            Arrays.fill(positions, 0, slotCount, null);
+            slotCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} players whose tokens all match the query tokens, best first.
+     * An exact token scores higher than a prefix, which scores higher than a match inside a token;
+     * ties go to the shorter text and then to the lower slot.
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        List<String> queryTokens = query != null ? tokenize(query) : List.of();
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String[] tokens = queryTokens.toArray(String[]::new);
+        String[] spacedTokens = new String[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            spacedTokens[i] = " " + tokens[i];
+        }
+
+        lock.readLock().lock();
+        try {
+            TopK top = new TopK(limit);
+            BitSet seen = new BitSet(slotCount);
+            IntPostings byPrefix = rarest(prefixes, prefixTerms(tokens));
+            if (byPrefix != null) {
+                collect(byPrefix, tokens, spacedTokens, seen, top);
+            }
+            if (!top.isFull()) {
+                IntPostings byTrigram = rarest(trigrams, trigramTerms(tokens));
+                if (byTrigram != null) {
+                    collect(byTrigram, tokens, spacedTokens, seen, top);
+                }
+            }
+            return top.toSuggestions();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(IntPostings postings, String[] tokens, String[] spacedTokens, BitSet seen, TopK top) {
+        for (int i = 0; i < postings.size; i++) {
+            int slot = postings.slots[i];
+            if (seen.get(slot) || !live.get(slot)) {
+                continue;
+            }
+            seen.set(slot);
+            int score = score(searchTexts[slot], tokens, spacedTokens);
+            if (score > 0) {
+                top.offer(slot, score, searchTexts[slot].length());
+            }
+        }
+    }
+
+    private static int score(String text, String[] tokens, String[] spacedTokens) {
+        int total = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            int tokenScore = tokenScore(text, tokens[i], spacedTokens[i]);
+            if (tokenScore == 0) {
+                return 0;
+            }
+            total += tokenScore;
+        }
+        return total;
+    }
+
+    private static int tokenScore(String text, String token, String spacedToken) {
+        int best = 0;
+        int at = text.startsWith(token) ? 0 : -1;
+        int from = 0;
+        while (true) {
+            if (at < 0) {
+                int spaced = text.indexOf(spacedToken, from);
+                if (spaced < 0) {
+                    break;
+                }
+                at = spaced + 1;
+            }
+            int end = at + token.length();
+            if (end == text.length() || text.charAt(end) == ' ') {
+                return EXACT_SCORE;
+            }
+            best = PREFIX_SCORE;
+            from = at;
+            at = -1;
+        }
+        if (best == 0 && text.contains(token)) {
+            best = INFIX_SCORE;
+        }
+        return best;
+    }
+
+    private static IntPostings rarest(Map<String, IntPostings> terms, List<String> keys) {
+        if (keys.isEmpty()) {
+            return null;
+        }
+        IntPostings rarest = null;
+        for (String key : keys) {
+            IntPostings postings = terms.get(key);
+            if (postings == null) {
+                return null;
+            }
+            if (rarest == null || postings.size < rarest.size) {
+                rarest = postings;
+            }
+        }
+        return rarest;
+    }
+
+    private static List<String> prefixTerms(String[] tokens) {
+        List<String> terms = new ArrayList<>(tokens.length);
+        for (String token : tokens) {
+            terms.add(token.length() <= MAX_PREFIX_LENGTH ? token : token.substring(0, MAX_PREFIX_LENGTH));
+        }
+        return terms;
+    }
+
+    private static List<String> trigramTerms(String[] tokens) {
+        List<String> terms = new ArrayList<>();
+        for (String token : tokens) {
+            if (token.length() < GRAM_LENGTH) {
+                return List.of();
+            }
+            for (int i = 0; i + GRAM_LENGTH <= token.length(); i++) {
+                terms.add(token.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Adds the slot to the postings of its terms, numbering the terms in the order {@link #unindex} visits them,
+     * and records where each posting holds it.
+     */
+    private void index(int slot) {
+        Set<String> prefixTerms = prefixTermsOf(searchTexts[slot]);
+        Set<String> trigramTerms = trigramTermsOf(searchTexts[slot]);
+        int[] at = new int[prefixTerms.size() + trigramTerms.size()];
+        int term = 0;
+        for (String prefix : prefixTerms) {
+            at[term] = prefixes.computeIfAbsent(prefix, key -> new IntPostings()).add(slot, term);
+            term++;
+        }
+        for (String trigram : trigramTerms) {
+            at[term] = trigrams.computeIfAbsent(trigram, key -> new IntPostings()).add(slot, term);
+            term++;
+        }
+        positions[slot] = at;
+    }
+
+    private void unindex(int slot) {
+        int[] at = positions[slot];
+        int term = 0;
+        for (String prefix : prefixTermsOf(searchTexts[slot])) {
+            removeAt(prefixes, prefix, at[term++]);
+        }
+        for (String trigram : trigramTermsOf(searchTexts[slot])) {
+            removeAt(trigrams, trigram, at[term++]);
+        }
+    }
+
+    /**
+     * Moves the last entry of the posting into {@code position} and tells its slot where it went.
+     */
+    private void removeAt(Map<String, IntPostings> terms, String term, int position) {
+        IntPostings postings = terms.get(term);
+        int last = --postings.size;
+        if (position != last) {
+            int moved = postings.slots[last];
+            int movedTerm = postings.terms[last];
+            postings.slots[position] = moved;
+            postings.terms[position] = movedTerm;
+            positions[moved][movedTerm] = position;
+        }
+        if (postings.size == 0) {
+            terms.remove(term);
+        }
+    }
+
+    private static Set<String> prefixTermsOf(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : text.split(" ")) {
+            for (int length = 1; length <= Math.min(token.length(), MAX_PREFIX_LENGTH); length++) {
+                terms.add(token.substring(0, length).intern());
+            }
+        }
+        return terms;
+    }
+
+    private static Set<String> trigramTermsOf(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : text.split(" ")) {
+            for (int i = 0; i + GRAM_LENGTH <= token.length(); i++) {
+                terms.add(token.substring(i, i + GRAM_LENGTH).intern());
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> tokenize(String... values) {
+        List<String> tokens = new ArrayList<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            for (String token : value.toLowerCase(Locale.ROOT).split("[\\s\\-'.]+")) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private int allocate(long id) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                names = Arrays.copyOf(names, capacity);
+                surnames = Arrays.copyOf(surnames, capacity);
+                nationalities = Arrays.copyOf(nationalities, capacity);
+                searchTexts = Arrays.copyOf(searchTexts, capacity);
+                positions = Arrays.copyOf(positions, capacity);
+            }
+            slot = slotCount++;
+        }
+        ids[slot] = id;
+        slotsById.put(id, slot);
+        return slot;
+    }
+
+    /**
+     * The slots holding a term, each with the number of the term among that slot's terms.
+     */
+    private static final class IntPostings {
+        private int[] slots = new int[4];
+        private int[] terms = new int[4];
+        private int size;
+
+        int add(int slot, int term) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                terms = Arrays.copyOf(terms, size * 2);
+            }
+            slots[size] = slot;
+            terms[size] = term;
+            return size++;
+        }
+    }
+
+    /**
+     * Bounded result list kept sorted best-first; {@code limit} is small, so insertion is a short array shift.
+     */
+    private final class TopK {
+        private final int[] slots;
+        private final int[] scores;
+        private final int[] lengths;
+        private int size;
+
+        TopK(int limit) {
+            slots = new int[limit];
+            scores = new int[limit];
+            lengths = new int[limit];
+        }
+
+        boolean isFull() {
+            return size == slots.length;
+        }
+
+        void offer(int slot, int score, int length) {
+            int position = size;
+            while (position > 0 && better(score, length, slot, position - 1)) {
+                position--;
+            }
+            if (position == slots.length) {
+                return;
+            }
+            int moved = Math.min(size, slots.length - 1) - position;
+            System.arraycopy(slots, position, slots, position + 1, moved);
+            System.arraycopy(scores, position, scores, position + 1, moved);
+            System.arraycopy(lengths, position, lengths, position + 1, moved);
+            slots[position] = slot;
+            scores[position] = score;
+            lengths[position] = length;
+            size = Math.min(size + 1, slots.length);
+        }
+
+        private boolean better(int score, int length, int slot, int i) {
+            if (score != scores[i]) {
+                return score > scores[i];
+            }
+            if (length != lengths[i]) {
+                return length < lengths[i];
+            }
+            return slot < slots[i];
+        }
+
+        List<Suggestion> toSuggestions() {
+            List<Suggestion> suggestions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int slot = slots[i];
+                suggestions.add(new Suggestion(ids[slot], names[slot], surnames[slot], nationalities[slot]));
+            }
+            return suggestions;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.agency.course_work.index;
+
+import org.agency.course_work.enums.PlayerPosition;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The filterable columns of every live player, one off-heap column per attribute.
+ * <p>
+ * Age is a byte, position its enum ordinal, value a long in hundredths and nationality an int code into a dictionary
+ * of lower-cased names. A scan walks the columns with no allocation per row and no branch per criterion, split into
+ * chunks by a {@link ParallelScan}, so only the ids of the most valuable matches ever reach the heap.
+ */
+public class PlayerSnapshot extends ColumnSnapshot {
+    private static final byte NO_POSITION = -1;
+    private static final int NO_NATIONALITY = -1;
+    private static final int MAX_AGE = 0xFF;
+
+    private final Map<String, Integer> nationalityCodes = new HashMap<>();
+    private ByteBuffer ages;
+    private ByteBuffer positions;
+    private ByteBuffer values;
+    private ByteBuffer nationalities;
+
+    /**
+     * The criteria of {@code getFilteredPlayers} that the snapshot holds; null means not filtered on.
+     * Value bounds are inclusive, as in the database filter.
+     */
+    public record Criteria(Integer age, PlayerPosition position, String nationality, BigDecimal minValue, BigDecimal maxValue) {
+    }
+
+    /**
+     * How many players matched, and the ids of the {@code limit} most valuable of them, highest value first and then
+     * highest id; players without a value come last.
+     */
+    public record Result(long matches, long[] ids) {
+    }
+
+    public PlayerSnapshot(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    public void upsert(long id, int age, PlayerPosition position, String nationality, BigDecimal value) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotFor(id);
+            ages.put(slot, (byte) Math.min(Math.max(age, 0), MAX_AGE));
+            positions.put(slot, position != null ? (byte) position.ordinal() : NO_POSITION);
+            values.putLong(slot << 3, value != null ? scaled(value, RoundingMode.HALF_UP) : NO_AMOUNT);
+            nationalities.putInt(slot << 2, encode(nationality));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Result scan(Criteria criteria, int limit, ParallelScan executor) {
+        lock.readLock().lock();
+        try {
+            if (criteria.age() != null && (criteria.age() < 0 || criteria.age() > MAX_AGE)) {
+                return new Result(0, new long[0]);
+            }
+            int age = criteria.age() != null ? criteria.age() : -1;
+            byte position = criteria.position() != null ? (byte) criteria.position().ordinal() : NO_POSITION;
+            int nationality = NO_NATIONALITY;
+            if (criteria.nationality() != null && !criteria.nationality().isEmpty()) {
+                Integer code = nationalityCodes.get(criteria.nationality().toLowerCase());
+                if (code == null) {
+                    return new Result(0, new long[0]);
+                }
+                nationality = code;
+            }
+            int nationalityCode = nationality;
+            boolean valueRequired = criteria.minValue() != null || criteria.maxValue() != null;
+            long minValue = criteria.minValue() != null ? scaled(criteria.minValue(), RoundingMode.CEILING) : Long.MIN_VALUE;
+            long maxValue = criteria.maxValue() != null ? scaled(criteria.maxValue(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+
+            ParallelScan.Result result = executor.run(slotCount(), Math.max(limit, 0), (from, to, top) -> {
+                long matches = 0;
+                for (int slot = from; slot < to; slot++) {
+                    long value = values.getLong(slot << 3);
+                    boolean match = live.get(slot) != 0
+                            & (age < 0 | (ages.get(slot) & 0xFF) == age)
+                            & (position == NO_POSITION | positions.get(slot) == position)
+                            & (nationalityCode == NO_NATIONALITY | nationalities.getInt(slot << 2) == nationalityCode)
+                            & (!valueRequired | value != NO_AMOUNT)
+                            & value >= minValue & value <= maxValue;
+                    if (match) {
+                        top.offer(value, ids.getLong(slot << 3));
+                        matches++;
+                    }
+                }
+                return matches;
+            });
+            return new Result(result.matches(), result.top().ids());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void growColumns(int capacity) {
+        ages = grow(ages, capacity);
+        positions = grow(positions, capacity);
+        values = grow(values, capacity * Long.BYTES);
+        nationalities = grow(nationalities, capacity * Integer.BYTES);
+    }
+
+    @Override
+    protected long columnBytes() {
+        return (long) ages.capacity() + positions.capacity() + values.capacity() + nationalities.capacity();
+    }
+
+    @Override
+    protected void onClear() {
+        nationalityCodes.clear();
+    }
+
+    private int encode(String nationality) {
+        if (nationality == null || nationality.isEmpty()) {
+            return NO_NATIONALITY;
+        }
+        return nationalityCodes.computeIfAbsent(nationality.toLowerCase(), name -> nationalityCodes.size());
+    }
+}
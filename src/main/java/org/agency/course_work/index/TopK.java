@@ -0,0 +1,124 @@
+package org.agency.course_work.index;
+
+/**
+ * The {@code k} best {@code (score, id)} pairs offered, highest score first and then highest id, kept in primitive
+ * arrays as a heap with the worst pair at the root.
+ */
+public class TopK {
+    private final int k;
+    private final long[] scores;
+    private final long[] ids;
+    private int size;
+
+    /**
+     * A finished ranking: pairs in order, best first.
+     */
+    public record Sorted(long[] scores, long[] ids) {
+        public static final Sorted EMPTY = new Sorted(new long[0], new long[0]);
+
+        public int size() {
+            return ids.length;
+        }
+
+        /**
+         * Merges two rankings into the best {@code k} pairs of both.
+         */
+        public Sorted merge(Sorted other, int k) {
+            int length = Math.min(k, size() + other.size());
+            long[] mergedScores = new long[length];
+            long[] mergedIds = new long[length];
+            int left = 0;
+            int right = 0;
+            for (int i = 0; i < length; i++) {
+                boolean takeLeft = right == other.size()
+                        || left < size() && better(scores[left], ids[left], other.scores[right], other.ids[right]);
+                if (takeLeft) {
+                    mergedScores[i] = scores[left];
+                    mergedIds[i] = ids[left++];
+                } else {
+                    mergedScores[i] = other.scores[right];
+                    mergedIds[i] = other.ids[right++];
+                }
+            }
+            return new Sorted(mergedScores, mergedIds);
+        }
+    }
+
+    public TopK(int k) {
+        this.k = k;
+        this.scores = new long[k];
+        this.ids = new long[k];
+    }
+
+    public void offer(long score, long id) {
+        if (size < k) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+        } else if (k > 0 && better(score, id, scores[0], ids[0])) {
+            scores[0] = score;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Empties the heap into a ranking, best first.
+     */
+    public Sorted drain() {
+        int length = size;
+        long[] sortedScores = new long[length];
+        long[] sortedIds = new long[length];
+        for (int i = length - 1; i >= 0; i--) {
+            sortedScores[i] = scores[0];
+            sortedIds[i] = ids[0];
+            size--;
+            if (size > 0) {
+                scores[0] = scores[size];
+                ids[0] = ids[size];
+                siftDown(0);
+            }
+        }
+        return new Sorted(sortedScores, sortedIds);
+    }
+
+    static boolean better(long score, long id, long otherScore, long otherId) {
+        return score > otherScore || score == otherScore && id > otherId;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(scores[parent], ids[parent], scores[index], ids[index])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int worst = index;
+            for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                if (better(scores[worst], ids[worst], scores[child], ids[child])) {
+                    worst = child;
+                }
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+    }
+}
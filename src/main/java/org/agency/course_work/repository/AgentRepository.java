@@ -3,6 +3,90 @@ package org.agency.course_work.repository;
 import org.agency.course_work.entity.Agent;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 
 public interface AgentRepository extends JpaRepository<Agent, Long>, JpaSpecificationExecutor<Agent> {
+
+    @Query(value = """
+            select a.id as id, a.first_name as "firstName", a.last_name as "lastName", a.phone_number as "phoneNumber",
+                   a.commission_rate as "commissionRate",
+                   greatest(similarity(lower(a.first_name), :query), similarity(lower(a.last_name), :query)) as similarity
+            from agents a
+            where a.is_deleted = false
+              and (lower(a.first_name) % :query or lower(a.last_name) % :query)
+            order by similarity desc, a.id
+            limit :limit
+            """, nativeQuery = true)
+    List<SearchHit> searchByName(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = """
+            select agent_id as "agentId", first_name as "firstName", last_name as "lastName", commission_rate as "commissionRate",
+                   player_count as "playerCount", total_value as "totalValue", average_value as "averageValue",
+                   total_salary as "totalSalary", expected_commission as "expectedCommission"
+            from agent_portfolio
+            where agent_id = :agentId
+            """, nativeQuery = true)
+    Optional<PortfolioView> findPortfolio(@Param("agentId") Long agentId);
+
+    @Query(value = """
+            select agent_id as "agentId", first_name as "firstName", last_name as "lastName", commission_rate as "commissionRate",
+                   player_count as "playerCount", total_value as "totalValue", average_value as "averageValue",
+                   total_salary as "totalSalary", expected_commission as "expectedCommission"
+            from agent_portfolio
+            order by expected_commission desc, agent_id
+            limit :limit
+            """, nativeQuery = true)
+    List<PortfolioView> findPortfolioLeaderboard(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "refresh materialized view concurrently agent_portfolio", nativeQuery = true)
+    void refreshPortfolio();
+
+    @Modifying
+    @Query(value = """
+            insert into commission_rates (commission_rate, rate)
+            values (:commissionRate, :rate)
+            on conflict (commission_rate) do update set rate = excluded.rate
+            """, nativeQuery = true)
+    void saveCommissionRate(@Param("commissionRate") String commissionRate, @Param("rate") BigDecimal rate);
+
+    interface PortfolioView {
+        Long getAgentId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getCommissionRate();
+
+        Number getPlayerCount();
+
+        BigDecimal getTotalValue();
+
+        BigDecimal getAverageValue();
+
+        BigDecimal getTotalSalary();
+
+        BigDecimal getExpectedCommission();
+    }
+
+    interface SearchHit {
+        Long getId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getPhoneNumber();
+
+        String getCommissionRate();
+
+        Number getSimilarity();
+    }
 }
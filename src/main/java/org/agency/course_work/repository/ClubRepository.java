@@ -1,11 +1,92 @@
 package org.agency.course_work.repository;
 
+import jakarta.persistence.QueryHint;
 import org.agency.course_work.entity.Club;
+import org.agency.course_work.enums.Stadium;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ClubRepository extends JpaRepository<Club, Long>, JpaSpecificationExecutor<Club> {
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "query-results")})
     List<Club> findByMatches_Id(Long matchId);
+
+    @Modifying
+    @Query(value = """
+            insert into club_season_payroll (club_id, season, total_salary, contract_count)
+            select :clubId, season, :salary, :contracts
+            from generate_series(:fromSeason, :toSeason) as season
+            on conflict (club_id, season) do update
+                set total_salary = club_season_payroll.total_salary + excluded.total_salary,
+                    contract_count = club_season_payroll.contract_count + excluded.contract_count
+            """, nativeQuery = true)
+    void addToPayroll(@Param("clubId") Long clubId, @Param("fromSeason") int fromSeason, @Param("toSeason") int toSeason,
+                      @Param("salary") BigDecimal salary, @Param("contracts") int contracts);
+
+    @Query(value = """
+            select season as season, total_salary as "totalSalary", contract_count as "contractCount"
+            from club_season_payroll
+            where club_id = :clubId
+              and season >= :fromSeason
+              and contract_count > 0
+            order by season
+            """, nativeQuery = true)
+    List<SeasonPayrollView> findPayrollFromSeason(@Param("clubId") Long clubId, @Param("fromSeason") int fromSeason);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("""
+            select c.id as id, c.createdAt as createdAt, c.updatedAt as updatedAt, c.name as name, c.stadium as stadium,
+                   c.country as country, c.budget as budget
+            from Club c
+            where c.budget is not null
+            """)
+    Stream<RankingView> streamBudgetRankings();
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select c.id as id, c.createdAt as createdAt, c.updatedAt as updatedAt, c.name as name, c.stadium as stadium,
+                   c.country as country, c.budget as budget
+            from Club c
+            where c.budget is not null
+            order by c.budget desc, c.id desc
+            """)
+    List<RankingView> findTopByBudget(Limit limit);
+
+    interface RankingView {
+        Long getId();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        String getName();
+
+        Stadium getStadium();
+
+        String getCountry();
+
+        BigDecimal getBudget();
+    }
+
+    interface SeasonPayrollView {
+        Integer getSeason();
+
+        BigDecimal getTotalSalary();
+
+        Integer getContractCount();
+    }
 }
@@ -1,8 +1,150 @@
 package org.agency.course_work.repository;
 
+import jakarta.persistence.QueryHint;
 import org.agency.course_work.entity.Contract;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ContractRepository extends JpaRepository<Contract, Long>, JpaSpecificationExecutor<Contract> {
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("""
+            select c.id as id, c.endDate as endDate, c.agent.id as agentId, c.club.id as clubId, c.player.id as playerId
+            from Contract c
+            where c.endDate is not null
+            """)
+    Stream<ExpiryView> streamExpiries();
+
+    @Query(value = "select last_scanned from contract_expiry_scans where id = 1", nativeQuery = true)
+    Optional<LocalDate> findLastExpiryScan();
+
+    @Modifying
+    @Query(value = """
+            insert into contract_expiry_scans (id, last_scanned)
+            values (1, :day)
+            on conflict (id) do update set last_scanned = excluded.last_scanned
+            """, nativeQuery = true)
+    void saveLastExpiryScan(@Param("day") LocalDate day);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("""
+            select c.id as id, c.createdAt as createdAt, c.updatedAt as updatedAt, c.startDate as startDate,
+                   c.endDate as endDate, c.salary as salary
+            from Contract c
+            where c.salary is not null
+            """)
+    Stream<RankingView> streamSalaryRankings();
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select c.id as id, c.createdAt as createdAt, c.updatedAt as updatedAt, c.startDate as startDate,
+                   c.endDate as endDate, c.salary as salary
+            from Contract c
+            where c.salary is not null
+            order by c.salary desc, c.id desc
+            """)
+    List<RankingView> findTopBySalary(Limit limit);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("""
+            select c.id as id, c.startDate as startDate, c.endDate as endDate, c.salary as salary
+            from Contract c
+            order by c.id
+            """)
+    Stream<SnapshotView> streamSnapshot();
+
+    interface SnapshotView {
+        Long getId();
+
+        LocalDate getStartDate();
+
+        LocalDate getEndDate();
+
+        BigDecimal getSalary();
+    }
+
+    interface RankingView {
+        Long getId();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        LocalDate getStartDate();
+
+        LocalDate getEndDate();
+
+        BigDecimal getSalary();
+    }
+
+    interface ExpiryView {
+        Long getId();
+
+        LocalDate getEndDate();
+
+        Long getAgentId();
+
+        Long getClubId();
+
+        Long getPlayerId();
+    }
+
+    /**
+     * One keyset page of contracts with the names of their player, club and agent, ordered by id.
+     * A reference that has been soft-deleted comes back with null columns instead of hiding the contract.
+     */
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select c.id as id, c.startDate as startDate, c.endDate as endDate, c.salary as salary,
+                   p.id as playerId, p.name as playerName, p.surname as playerSurname,
+                   cl.id as clubId, cl.name as clubName,
+                   a.id as agentId, a.firstName as agentFirstName, a.lastName as agentLastName
+            from Contract c
+            left join c.player p
+            left join c.club cl
+            left join c.agent a
+            where c.id > :afterId
+            order by c.id
+            """)
+    List<OverviewView> findOverviewAfter(@Param("afterId") long afterId, Limit limit);
+
+    interface OverviewView {
+        Long getId();
+
+        LocalDate getStartDate();
+
+        LocalDate getEndDate();
+
+        BigDecimal getSalary();
+
+        Long getPlayerId();
+
+        String getPlayerName();
+
+        String getPlayerSurname();
+
+        Long getClubId();
+
+        String getClubName();
+
+        Long getAgentId();
+
+        String getAgentFirstName();
+
+        String getAgentLastName();
+    }
 }
@@ -1,13 +1,60 @@
 package org.agency.course_work.repository;
 
+import jakarta.persistence.QueryHint;
 import org.agency.course_work.entity.Contract;
 import org.agency.course_work.entity.Match;
 import org.agency.course_work.enums.City;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface MatchRepository extends JpaRepository<Match, Long>, JpaSpecificationExecutor<Match> {
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "query-results")})
     List<Match> findAllByCity(City city);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = """
+            select m.id as "matchId", m.home_club_id as "homeClubId", home.name as "homeClubName",
+                   home.is_deleted as "homeClubDeleted", away.id as "awayClubId", away.name as "awayClubName",
+                   away.is_deleted as "awayClubDeleted", m.home_goals as "homeGoals", m.away_goals as "awayGoals",
+                   m.city as city
+            from matches m
+                     join clubs home on home.id = m.home_club_id
+                     join club_match cm on cm.match_id = m.id and cm.club_id <> m.home_club_id
+                     join clubs away on away.id = cm.club_id
+            where m.is_deleted = false
+              and m.home_goals is not null
+              and m.away_goals is not null
+            """, nativeQuery = true)
+    Stream<ResultView> streamResults();
+
+    interface ResultView {
+        Long getMatchId();
+
+        Long getHomeClubId();
+
+        String getHomeClubName();
+
+        Boolean getHomeClubDeleted();
+
+        Long getAwayClubId();
+
+        String getAwayClubName();
+
+        Boolean getAwayClubDeleted();
+
+        Integer getHomeGoals();
+
+        Integer getAwayGoals();
+
+        String getCity();
+    }
 }
@@ -1,13 +1,156 @@
 package org.agency.course_work.repository;
 
+import jakarta.persistence.QueryHint;
 import org.agency.course_work.entity.Player;
+import org.agency.course_work.enums.PlayerPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecificationExecutor<Player> {
     Page<Player> findAllByAgentId(Long agentId, Pageable pageable);
+
+    @Query(value = """
+            select p.id as id, p.name as name, p.surname as surname, p.nationality as nationality, p.position as position,
+                   greatest(similarity(lower(p.name), :query), similarity(lower(p.surname), :query)) as similarity
+            from players p
+            where p.is_deleted = false
+              and (lower(p.name) % :query or lower(p.surname) % :query)
+            order by similarity desc, p.id
+            limit :limit
+            """, nativeQuery = true)
+    List<SearchHit> searchByName(@Param("query") String query, @Param("limit") int limit);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select p.id as id, p.name as name, p.surname as surname, p.nationality as nationality from Player p")
+    Stream<NameView> streamAllNames();
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("""
+            select p.id as id, p.createdAt as createdAt, p.updatedAt as updatedAt, p.name as name, p.surname as surname,
+                   p.age as age, p.position as position, p.nationality as nationality, p.value as value
+            from Player p
+            """)
+    Stream<RankingView> streamRankings();
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select p.id as id, p.createdAt as createdAt, p.updatedAt as updatedAt, p.name as name, p.surname as surname,
+                   p.age as age, p.position as position, p.nationality as nationality, p.value as value
+            from Player p
+            where p.value is not null
+            order by p.value desc, p.id desc
+            """)
+    List<RankingView> findTopByValue(Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select p.id as id, p.createdAt as createdAt, p.updatedAt as updatedAt, p.name as name, p.surname as surname,
+                   p.age as age, p.position as position, p.nationality as nationality, p.value as value
+            from Player p
+            where p.value is not null and p.position = :position
+            order by p.value desc, p.id desc
+            """)
+    List<RankingView> findTopByValueInPosition(@Param("position") PlayerPosition position, Limit limit);
+
+    /**
+     * @param nationality lower case, matched against {@code lower(nationality)}
+     */
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select p.id as id, p.createdAt as createdAt, p.updatedAt as updatedAt, p.name as name, p.surname as surname,
+                   p.age as age, p.position as position, p.nationality as nationality, p.value as value
+            from Player p
+            where p.value is not null and lower(p.nationality) = :nationality
+            order by p.value desc, p.id desc
+            """)
+    List<RankingView> findTopByValueInNationality(@Param("nationality") String nationality, Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select p.id as id, p.createdAt as createdAt, p.updatedAt as updatedAt, p.name as name, p.surname as surname,
+                   p.age as age, p.position as position, p.nationality as nationality, p.value as value
+            from Player p
+            where p.value is not null and p.position = :position and lower(p.nationality) = :nationality
+            order by p.value desc, p.id desc
+            """)
+    List<RankingView> findTopByValueInPositionAndNationality(@Param("position") PlayerPosition position,
+                                                             @Param("nationality") String nationality, Limit limit);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("""
+            select p.id as id, p.age as age, p.position as position, p.nationality as nationality, p.value as value
+            from Player p
+            order by p.id
+            """)
+    Stream<SnapshotView> streamSnapshot();
+
+    interface SnapshotView {
+        Long getId();
+
+        Integer getAge();
+
+        PlayerPosition getPosition();
+
+        String getNationality();
+
+        BigDecimal getValue();
+    }
+
+    interface RankingView {
+        Long getId();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        String getName();
+
+        String getSurname();
+
+        Integer getAge();
+
+        PlayerPosition getPosition();
+
+        String getNationality();
+
+        BigDecimal getValue();
+    }
+
+    interface NameView {
+        Long getId();
+
+        String getName();
+
+        String getSurname();
+
+        String getNationality();
+    }
+
+    interface SearchHit {
+        Long getId();
+
+        String getName();
+
+        String getSurname();
+
+        String getNationality();
+
+        String getPosition();
+
+        Number getSimilarity();
+    }
 }
@@ -0,0 +1,120 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.annotation.Timed;
+import org.agency.course_work.config.MetricsConfig;
+import org.agency.course_work.dto.AgentPortfolioDto;
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.enums.CommissionRate;
+import org.agency.course_work.event.ContractExpiryEvent;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.exception.AgentNotFound;
+import org.agency.course_work.repository.AgentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves agent totals from the agent_portfolio materialized view.
+ * Writes to agents, players or contracts only mark the view dirty; it is refreshed on the next tick,
+ * so reads stay a single indexed row lookup whatever the portfolio size.
+ * The view takes commission rates from the commission_rates table, which is written from {@link CommissionRate} on startup.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class AgentPortfolioService {
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+    private static final Logger logger = LoggerFactory.getLogger(AgentPortfolioService.class);
+    private final AgentRepository agentRepository;
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    public AgentPortfolioService(AgentRepository agentRepository) {
+        this.agentRepository = agentRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public AgentPortfolioDto getPortfolio(Long agentId) {
+        logger.info("Fetching portfolio for agent with ID: {}", agentId);
+        return agentRepository.findPortfolio(agentId)
+                .map(AgentPortfolioService::toDto)
+                .orElseGet(() -> {
+                    // Created since the last refresh: nothing can be attached to it yet.
+                    Agent agent = agentRepository.findById(agentId).orElseThrow(() -> {
+                        logger.warn("Agent with ID: {} not found", agentId);
+                        return new AgentNotFound("Agent with ID " + agentId + " not found.");
+                    });
+                    return new AgentPortfolioDto(agent.getId(), agent.getFirstName(), agent.getLastName(),
+                            agent.getCommissionRate(), 0, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public List<AgentPortfolioDto> getLeaderboard(int limit) {
+        int cappedLimit = Math.min(Math.max(limit, 1), MAX_LEADERBOARD_SIZE);
+        logger.info("Fetching agent portfolio leaderboard, limit: {}", cappedLimit);
+        return agentRepository.findPortfolioLeaderboard(cappedLimit).stream()
+                .map(AgentPortfolioService::toDto)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void saveCommissionRates() {
+        for (CommissionRate commissionRate : CommissionRate.values()) {
+            agentRepository.saveCommissionRate(commissionRate.name(), commissionRate.getRate());
+        }
+        logger.info("Saved {} commission rates", CommissionRate.values().length);
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof Agent || event.entity() instanceof Player || event.entity() instanceof Contract) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * Contracts drop out of the totals when they end, which no write announces.
+     */
+    @EventListener
+    public void onContractExpiry(ContractExpiryEvent event) {
+        if (event.kind() == ContractExpiryEvent.Kind.EXPIRED) {
+            dirty.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.agent-portfolio.refresh-interval}")
+    @Transactional
+    public void refreshIfDirty() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            agentRepository.refreshPortfolio();
+            logger.info("Refreshed agent portfolio view in {} ms", (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            logger.error("Error refreshing agent portfolio view. Error: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    private static AgentPortfolioDto toDto(AgentRepository.PortfolioView view) {
+        return new AgentPortfolioDto(view.getAgentId(), view.getFirstName(), view.getLastName(),
+                view.getCommissionRate() != null ? CommissionRate.valueOf(view.getCommissionRate()) : null,
+                view.getPlayerCount().longValue(), view.getTotalValue(), view.getAverageValue(),
+                view.getTotalSalary(), view.getExpectedCommission());
+    }
+}
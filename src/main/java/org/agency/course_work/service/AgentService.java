@@ -1,33 +1,53 @@
 package org.agency.course_work.service;
 
+import io.micrometer.core.annotation.Timed;
+import org.agency.course_work.config.MetricsConfig;
 import org.agency.course_work.dto.AgentCreationDto;
 import org.agency.course_work.dto.AgentDto;
+import org.agency.course_work.dto.AgentSearchResultDto;
 import org.agency.course_work.entity.Agent;
 import org.agency.course_work.enums.CommissionRate;
 import org.agency.course_work.exception.AgentNotFound;
 import org.agency.course_work.mapper.AgentMapper;
 import org.agency.course_work.repository.AgentRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
+
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Transactional
 public class AgentService {
     private final AgentRepository agentRepository;
     private final AgentMapper agentMapper;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final BatchLookup batchLookup;
+    private final FilterEngine filterEngine;
+    private final SortRegistry sortRegistry;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final FilterDefinition<Agent> AGENT_FILTER = FilterDefinition.of(Agent.class)
+            .criterion("firstName", "lower(e.firstName) like :firstName")
+            .criterion("lastName", "lower(e.lastName) like :lastName")
+            .criterion("phoneNumber", "e.phoneNumber like :phoneNumber")
+            .criterion("commissionRate", "e.commissionRate = :commissionRate")
+            .build();
     private static final Logger logger = LoggerFactory.getLogger(AgentService.class);
 
-    public AgentService(AgentRepository agentRepository, AgentMapper agentMapper) {
+    public AgentService(AgentRepository agentRepository, AgentMapper agentMapper, SparseFieldQuery sparseFieldQuery,
+                        BatchLookup batchLookup, FilterEngine filterEngine, SortRegistry sortRegistry) {
         this.agentRepository = agentRepository;
         this.agentMapper = agentMapper;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.batchLookup = batchLookup;
+        this.filterEngine = filterEngine;
+        this.sortRegistry = sortRegistry;
     }
 
     @Transactional(readOnly = true)
@@ -46,6 +66,14 @@ public class AgentService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public List<AgentDto> getAgentsByIds(List<Long> ids) {
+        logger.info("Fetching agents by IDs: {}", ids);
+        List<AgentDto> agents = batchLookup.getAll("agents", ids, AgentDto.class, agentRepository::findAllById, agentMapper::toDto);
+        logger.info("Fetched {} of {} requested agents", agents.size(), ids.size());
+        return agents;
+    }
+
     public AgentDto createAgent(AgentCreationDto agent) {
         logger.info("Creating new agent: {}", agent);
         try {
@@ -71,6 +99,19 @@ public class AgentService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllAgentFields(List<String> fields, Pageable pageable) {
+        logger.info("Fetching all agents with fields: {} and pagination: {}", fields, pageable);
+        try {
+            Page<Map<String, Object>> agents = sparseFieldQuery.findAll(AGENT_FILTER.filter(), fields, pageable);
+            logger.info("Fetched {} agents successfully", agents.getTotalElements());
+            return agents;
+        } catch (Exception e) {
+            logger.error("Error fetching all agents with fields: {}", fields, e);
+            throw e;
+        }
+    }
+
     public AgentDto updateAgent(Long id, AgentDto agentDto) {
         logger.info("Updating agent with ID: {}", id);
         try {
@@ -92,13 +133,7 @@ public class AgentService {
     public Page<AgentDto> getSortedAgents(String sortBy, String order, Pageable pageable) {
         logger.info("Fetching sorted agents: sortBy={}, order={}", sortBy, order);
         try {
-            if (sortBy == null || sortBy.isEmpty()) {
-                logger.warn("SortBy parameter is null or empty. Default sorting will be applied.");
-                sortBy = "id";
-            }
-            Sort sort = order.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-            Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
-            Page<Agent> agentsPage = agentRepository.findAll(sortedPageable);
+            Page<Agent> agentsPage = agentRepository.findAll(sortRegistry.sortedPageable(Agent.class, sortBy, order, pageable));
             logger.info("Fetched sorted agents successfully. Total found: {}", agentsPage.getTotalElements());
             return agentsPage.map(agentMapper::toDto);
         } catch (Exception e) {
@@ -107,35 +142,25 @@ public class AgentService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getSortedAgentFields(String sortBy, String order, List<String> fields, Pageable pageable) {
+        logger.info("Fetching sorted agents: sortBy={}, order={}, fields={}", sortBy, order, fields);
+        try {
+            Page<Map<String, Object>> agentsPage = sparseFieldQuery.findAll(AGENT_FILTER.filter(), fields, sortRegistry.sortedPageable(Agent.class, sortBy, order, pageable));
+            logger.info("Fetched sorted agents successfully. Total found: {}", agentsPage.getTotalElements());
+            return agentsPage;
+        } catch (Exception e) {
+            logger.error("Error fetching sorted agents: sortBy={}, order={}, fields={}", sortBy, order, fields, e);
+            throw e;
+        }
+    }
+
     @Transactional(readOnly = true)
     public Page<AgentDto> getFilteredAgents(String firstName, String lastName, String phoneNumber, CommissionRate commissionRate, Boolean isDeleted, Pageable pageable) {
         logger.info("Fetching filtered agents: firstName={}, lastName={}, phoneNumber={}, commissionRate={}",
                 firstName, lastName, phoneNumber, commissionRate);
         try {
-            Specification<Agent> specification = Specification.where(null);
-
-            if (firstName != null && !firstName.isEmpty()) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("firstName")), "%" + firstName.toLowerCase() + "%"));
-                logger.debug("Added filter for firstName: {}", firstName);
-            }
-            if (lastName != null && !lastName.isEmpty()) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("lastName")), "%" + lastName.toLowerCase() + "%"));
-                logger.debug("Added filter for lastName: {}", lastName);
-            }
-            if (phoneNumber != null && !phoneNumber.isEmpty()) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.like(root.get("phoneNumber"), "%" + phoneNumber + "%"));
-                logger.debug("Added filter for phoneNumber: {}", phoneNumber);
-            }
-            if (commissionRate != null) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.equal(root.get("commissionRate"), commissionRate));
-                logger.debug("Added filter for commissionRate: {}", commissionRate);
-            }
-
-            Page<Agent> agents = agentRepository.findAll(specification, pageable);
+            Page<Agent> agents = filterEngine.findAll(agentFilter(firstName, lastName, phoneNumber, commissionRate), pageable);
             logger.info("Filtered agents fetched successfully. Total found: {}", agents.getTotalElements());
             return agents.map(agentMapper::toDto);
         } catch (Exception e) {
@@ -145,6 +170,60 @@ public class AgentService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getFilteredAgentFields(String firstName, String lastName, String phoneNumber, CommissionRate commissionRate,
+                                                            List<String> fields, Pageable pageable) {
+        logger.info("Fetching filtered agents: firstName={}, lastName={}, phoneNumber={}, commissionRate={}, fields={}",
+                firstName, lastName, phoneNumber, commissionRate, fields);
+        try {
+            Page<Map<String, Object>> agents = sparseFieldQuery.findAll(
+                    agentFilter(firstName, lastName, phoneNumber, commissionRate), fields, pageable);
+            logger.info("Filtered agents fetched successfully. Total found: {}", agents.getTotalElements());
+            return agents;
+        } catch (Exception e) {
+            logger.error("Error fetching filtered agents: firstName={}, lastName={}, phoneNumber={}, commissionRate={}, fields={}",
+                    firstName, lastName, phoneNumber, commissionRate, fields, e);
+            throw e;
+        }
+    }
+
+    private static FilterDefinition.Filter<Agent> agentFilter(String firstName, String lastName, String phoneNumber, CommissionRate commissionRate) {
+        FilterDefinition.Filter<Agent> filter = AGENT_FILTER.filter();
+        if (firstName != null && !firstName.isEmpty()) {
+            filter.where("firstName", "%" + firstName.toLowerCase() + "%");
+            logger.debug("Added filter for firstName: {}", firstName);
+        }
+        if (lastName != null && !lastName.isEmpty()) {
+            filter.where("lastName", "%" + lastName.toLowerCase() + "%");
+            logger.debug("Added filter for lastName: {}", lastName);
+        }
+        if (phoneNumber != null && !phoneNumber.isEmpty()) {
+            filter.where("phoneNumber", "%" + phoneNumber + "%");
+            logger.debug("Added filter for phoneNumber: {}", phoneNumber);
+        }
+        if (commissionRate != null) {
+            filter.where("commissionRate", commissionRate);
+            logger.debug("Added filter for commissionRate: {}", commissionRate);
+        }
+        return filter;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AgentSearchResultDto> searchAgents(String query, int limit) {
+        logger.info("Searching agents by name: {}, limit: {}", query, limit);
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        int cappedLimit = Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS);
+        List<AgentSearchResultDto> results = agentRepository.searchByName(query.trim().toLowerCase(), cappedLimit).stream()
+                .map(hit -> new AgentSearchResultDto(hit.getId(), hit.getFirstName(), hit.getLastName(), hit.getPhoneNumber(),
+                        hit.getCommissionRate() != null ? CommissionRate.valueOf(hit.getCommissionRate()) : null,
+                        hit.getSimilarity().doubleValue()))
+                .toList();
+        logger.info("Found {} agents matching: {}", results.size(), query);
+        return results;
+    }
+
     @Transactional
     public void deleteAgentById(Long id) {
         Logger logger = LoggerFactory.getLogger(getClass());
@@ -0,0 +1,106 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.agency.course_work.entity.BaseEntity;
+import org.agency.course_work.exception.BatchTooLarge;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Resolves a list of ids against the per-entity cache regions that back the {@code GET /{id}} endpoints.
+ * <p>
+ * Hits are taken from the region as cached by the controllers. All misses are loaded with one {@code findAllById}
+ * and then written back as {@code ResponseEntity.ok(dto)} under the bare id, so later single gets hit as well. Results keep the order
+ * of first appearance in the request. Ids that do not exist or are soft-deleted are left out.
+ */
+@Component
+public class BatchLookup {
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final int maxIds;
+
+    public BatchLookup(CacheManager cacheManager, MeterRegistry meterRegistry,
+                       @Value("${batch-get.max-ids}") int maxIds) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.maxIds = maxIds;
+    }
+
+    public <E extends BaseEntity, D> List<D> getAll(String region, List<Long> ids, Class<D> dtoType,
+                                                   Function<Set<Long>, List<E>> loader, Function<E, D> mapper) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.size() > maxIds) {
+            throw new BatchTooLarge("At most " + maxIds + " ids can be requested at once, got " + requested.size());
+        }
+        DistributionSummary.builder("agency.batch.size")
+                .tag("region", region)
+                .register(meterRegistry)
+                .record(requested.size());
+
+        Cache cache = cacheManager.getCache(region);
+        Map<Long, D> found = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+        for (Long id : requested) {
+            D cached = cache != null ? cached(cache, id, dtoType) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        lookups(region, "hit").increment(found.size());
+        lookups(region, "miss").increment(misses.size());
+
+        if (!misses.isEmpty()) {
+            for (E entity : loader.apply(misses)) {
+                D dto = mapper.apply(entity);
+                found.put(entity.getId(), dto);
+                if (cache != null) {
+                    cache.putIfAbsent(entity.getId(), ResponseEntity.ok(dto));
+                }
+            }
+        }
+
+        List<D> result = new ArrayList<>(found.size());
+        for (Long id : requested) {
+            D dto = found.get(id);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The bare id key belongs to the {@code GET /{id}} endpoint; the other per-id endpoints in a region prefix
+     * their keys. The type check still guards against a payload of another DTO type.
+     */
+    private static <D> D cached(Cache cache, Long id, Class<D> dtoType) {
+        Cache.ValueWrapper wrapper = cache.get(id);
+        if (wrapper != null && wrapper.get() instanceof ResponseEntity<?> response && dtoType.isInstance(response.getBody())) {
+            return dtoType.cast(response.getBody());
+        }
+        return null;
+    }
+
+    private Counter lookups(String region, String result) {
+        return Counter.builder("agency.batch.lookups")
+                .tag("region", region)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
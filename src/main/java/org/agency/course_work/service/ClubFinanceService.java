@@ -0,0 +1,60 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.annotation.Timed;
+import org.agency.course_work.config.MetricsConfig;
+import org.agency.course_work.dto.ClubFinanceDto;
+import org.agency.course_work.dto.SeasonPayrollDto;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.exception.ClubNotFound;
+import org.agency.course_work.repository.ClubRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Year;
+import java.util.List;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
+public class ClubFinanceService {
+    private static final Logger logger = LoggerFactory.getLogger(ClubFinanceService.class);
+    private final ClubRepository clubRepository;
+    private final Clock clock;
+
+    public ClubFinanceService(ClubRepository clubRepository, Clock clock) {
+        this.clubRepository = clubRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Payroll of the current season, salary committed to later seasons and budget left after the current payroll,
+     * read from the club_season_payroll rollup. The current season is the calendar year of the clock's zone.
+     */
+    public ClubFinanceDto getClubFinance(Long clubId) {
+        logger.info("Fetching finance overview for club with ID: {}", clubId);
+        Club club = clubRepository.findById(clubId).orElseThrow(() -> {
+            logger.warn("Club with ID: {} not found", clubId);
+            return new ClubNotFound("Club with ID " + clubId + " not found.");
+        });
+        int currentSeason = Year.now(clock).getValue();
+        List<SeasonPayrollDto> seasons = clubRepository.findPayrollFromSeason(clubId, currentSeason).stream()
+                .map(view -> new SeasonPayrollDto(view.getSeason(), view.getTotalSalary(), view.getContractCount()))
+                .toList();
+        BigDecimal currentPayroll = BigDecimal.ZERO;
+        BigDecimal committedFutureSalary = BigDecimal.ZERO;
+        for (SeasonPayrollDto season : seasons) {
+            if (season.season() == currentSeason) {
+                currentPayroll = season.totalSalary();
+            } else {
+                committedFutureSalary = committedFutureSalary.add(season.totalSalary());
+            }
+        }
+        BigDecimal headroom = club.getBudget() != null ? club.getBudget().subtract(currentPayroll) : null;
+        return new ClubFinanceDto(club.getId(), club.getName(), club.getBudget(), currentPayroll,
+                committedFutureSalary, headroom, seasons);
+    }
+}
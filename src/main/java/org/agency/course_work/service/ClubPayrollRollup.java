@@ -0,0 +1,61 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.EntityIds;
+import org.agency.course_work.repository.ClubRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Applies contract writes to the club_season_payroll rollup inside the caller's transaction.
+ * Each change is an atomic upsert of deltas, so concurrent contract writes for one club never lose an update.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class ClubPayrollRollup {
+    private final ClubRepository clubRepository;
+
+    public ClubPayrollRollup(ClubRepository clubRepository) {
+        this.clubRepository = clubRepository;
+    }
+
+    /**
+     * The parts of a contract the rollup depends on, captured before an update changes them.
+     */
+    public record Entry(Long clubId, LocalDate startDate, LocalDate endDate, BigDecimal salary) {
+        public static Entry of(Contract contract) {
+            return new Entry(EntityIds.idOf(contract.getClub()), contract.getStartDate(), contract.getEndDate(), contract.getSalary());
+        }
+    }
+
+    public void add(Contract contract) {
+        apply(Entry.of(contract), 1);
+    }
+
+    public void remove(Contract contract) {
+        apply(Entry.of(contract), -1);
+    }
+
+    public void replace(Entry before, Contract contract) {
+        Entry after = Entry.of(contract);
+        if (!before.equals(after)) {
+            apply(before, -1);
+            apply(after, 1);
+        }
+    }
+
+    private void apply(Entry entry, int direction) {
+        if (entry.clubId() == null || entry.startDate() == null) {
+            return;
+        }
+        int fromSeason = entry.startDate().getYear();
+        int toSeason = entry.endDate() != null ? Math.max(entry.endDate().getYear(), fromSeason) : fromSeason;
+        BigDecimal salary = entry.salary() != null ? entry.salary() : BigDecimal.ZERO;
+        clubRepository.addToPayroll(entry.clubId(), fromSeason, toSeason,
+                direction > 0 ? salary : salary.negate(), direction);
+    }
+}
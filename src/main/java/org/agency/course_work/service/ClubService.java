@@ -1,6 +1,8 @@
 package org.agency.course_work.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.agency.course_work.config.MetricsConfig;
 import org.agency.course_work.dto.ClubCreationDto;
 import org.agency.course_work.dto.ClubDto;
 import org.agency.course_work.entity.Club;
@@ -10,25 +12,34 @@ import org.agency.course_work.mapper.ClubMapper;
 import org.agency.course_work.repository.ClubRepository;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import org.slf4j.Logger;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @AllArgsConstructor
 @Transactional
 public class ClubService {
     private static final Logger logger = LoggerFactory.getLogger(ClubService.class);
+    private static final FilterDefinition<Club> CLUB_FILTER = FilterDefinition.of(Club.class)
+            .criterion("name", "lower(e.name) like :name")
+            .criterion("stadium", "e.stadium = :stadium")
+            .criterion("country", "lower(e.country) = :country")
+            .criterion("minBudget", "e.budget >= :minBudget")
+            .criterion("maxBudget", "e.budget <= :maxBudget")
+            .build();
 
     private final ClubRepository clubRepository;
     private final ClubMapper clubMapper;
+    private final BatchLookup batchLookup;
+    private final FilterEngine filterEngine;
+    private final SortRegistry sortRegistry;
 
     @Transactional(readOnly = true)
     public ClubDto getClubById(Long id) {
@@ -46,6 +57,14 @@ public class ClubService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public List<ClubDto> getClubsByIds(List<Long> ids) {
+        logger.info("Fetching clubs by IDs: {}", ids);
+        List<ClubDto> clubs = batchLookup.getAll("clubs", ids, ClubDto.class, clubRepository::findAllById, clubMapper::toDto);
+        logger.info("Fetched {} of {} requested clubs", clubs.size(), ids.size());
+        return clubs;
+    }
+
     public ClubDto createClub(ClubCreationDto club) {
         logger.info("Creating new club: {}", club);
         try {
@@ -94,9 +113,7 @@ public class ClubService {
     public Page<ClubDto> getSortedClubs(String sortBy, String order, Pageable pageable) {
         logger.info("Fetching sorted clubs: sortBy={}, order={}, pageable={}", sortBy, order, pageable);
         try {
-            Sort sort = order.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-            Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
-            Page<Club> clubsPage = clubRepository.findAll(sortedPageable);
+            Page<Club> clubsPage = clubRepository.findAll(sortRegistry.sortedPageable(Club.class, sortBy, order, pageable));
             logger.info("Sorted clubs fetched successfully. Total found: {}", clubsPage.getTotalElements());
             return clubsPage.map(club -> new ClubDto(club.getId(), club.getCreatedAt(), club.getUpdatedAt(), club.getName(),
                     club.getStadium(), club.getCountry(), club.getBudget()));
@@ -111,35 +128,30 @@ public class ClubService {
         logger.info("Fetching filtered clubs with parameters: name={}, stadium={}, country={}, minBudget={}, maxBudget={}",
                 name, stadium, country, minBudget, maxBudget);
         try {
-            Specification<Club> specification = Specification.where(null);
+            FilterDefinition.Filter<Club> filter = CLUB_FILTER.filter();
 
             if (name != null && !name.isEmpty()) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
+                filter.where("name", "%" + name.toLowerCase() + "%");
                 logger.debug("Added filter for name: {}", name);
             }
             if (stadium != null) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.equal(root.get("stadium"), stadium));
+                filter.where("stadium", stadium);
                 logger.debug("Added filter for stadium: {}", stadium);
             }
             if (country != null && !country.isEmpty()) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.equal(criteriaBuilder.lower(root.get("country")), country.toLowerCase()));
+                filter.where("country", country.toLowerCase());
                 logger.debug("Added filter for country: {}", country);
             }
             if (minBudget != null) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.greaterThanOrEqualTo(root.get("budget"), minBudget));
+                filter.where("minBudget", minBudget);
                 logger.debug("Added filter for minBudget: {}", minBudget);
             }
             if (maxBudget != null) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.lessThanOrEqualTo(root.get("budget"), maxBudget));
+                filter.where("maxBudget", maxBudget);
                 logger.debug("Added filter for maxBudget: {}", maxBudget);
             }
 
-            Page<Club> clubsPage = clubRepository.findAll(specification, pageable);
+            Page<Club> clubsPage = filterEngine.findAll(filter, pageable);
             logger.info("Filtered clubs fetched successfully. Total found: {}", clubsPage.getTotalElements());
             return clubsPage.map(club -> new ClubDto(club.getId(), club.getCreatedAt(), club.getUpdatedAt(), club.getName(),
                     club.getStadium(), club.getCountry(), club.getBudget()));
@@ -0,0 +1,125 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.agency.course_work.dto.ContractExpiryDto;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.EntityIds;
+import org.agency.course_work.event.ContractExpiryEvent;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.index.ContractExpiryIndex;
+import org.agency.course_work.repository.ContractRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the {@link ContractExpiryIndex} and runs the daily scan that publishes {@link ContractExpiryEvent}s.
+ */
+@Service
+public class ContractExpiryService {
+    private static final int MAX_RESULTS = 500;
+    private static final Logger logger = LoggerFactory.getLogger(ContractExpiryService.class);
+    private final ContractRepository contractRepository;
+    private final ApplicationEventPublisher publisher;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ContractExpiryIndex index = new ContractExpiryIndex();
+    private final int noticeDays;
+    private LocalDate lastScanned;
+
+    public ContractExpiryService(ContractRepository contractRepository, ApplicationEventPublisher publisher,
+                                 MeterRegistry meterRegistry, Clock clock,
+                                 @Value("${contracts.expiry.notice-days}") int noticeDays) {
+        this.contractRepository = contractRepository;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.noticeDays = noticeDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        logger.info("Building contract expiry index");
+        index.clear();
+        try (Stream<ContractRepository.ExpiryView> contracts = contractRepository.streamExpiries()) {
+            contracts.forEach(contract -> index.upsert(new ContractExpiryIndex.Expiry(contract.getId(),
+                    contract.getEndDate(), contract.getAgentId(), contract.getClubId(), contract.getPlayerId())));
+        }
+        logger.info("Contract expiry index built with {} contracts", index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!(event.entity() instanceof Contract contract)) {
+            return;
+        }
+        if (event.isLive()) {
+            index.upsert(new ContractExpiryIndex.Expiry(contract.getId(), contract.getEndDate(),
+                    EntityIds.idOf(contract.getAgent()), EntityIds.idOf(contract.getClub()),
+                    EntityIds.idOf(contract.getPlayer())));
+        } else {
+            index.remove(contract.getId());
+        }
+    }
+
+    public List<ContractExpiryDto> getExpiring(int days, Long agentId, Long clubId, int limit) {
+        ContractExpiryIndex.Scope scope = agentId != null ? ContractExpiryIndex.Scope.AGENT
+                : clubId != null ? ContractExpiryIndex.Scope.CLUB : ContractExpiryIndex.Scope.ALL;
+        LocalDate today = LocalDate.now(clock);
+        int cappedLimit = Math.min(Math.max(limit, 1), MAX_RESULTS);
+        logger.info("Fetching contracts expiring in the next {} days, agent ID: {}, club ID: {}", days, agentId, clubId);
+        return index.expiring(scope, agentId != null ? agentId : clubId, today, today.plusDays(Math.max(days, 0)), cappedLimit)
+                .stream()
+                .map(expiry -> new ContractExpiryDto(expiry.contractId(), expiry.playerId(), expiry.clubId(),
+                        expiry.agentId(), expiry.endDate(), ChronoUnit.DAYS.between(today, expiry.endDate())))
+                .toList();
+    }
+
+    /**
+     * Covers every day since the previous scan, so a missed run does not lose events. The day of the last scan is
+     * saved, so this holds across restarts too; the very first scan only covers yesterday.
+     * <p>
+     * A scan on day {@code d} has published contracts that ended before {@code d} and those ending within the notice
+     * period of {@code d}; the next one picks up from the day after each of those windows.
+     */
+    @Scheduled(cron = "${contracts.expiry.scan-cron}")
+    @Transactional
+    public synchronized void scan() {
+        LocalDate today = LocalDate.now(clock);
+        if (lastScanned == null) {
+            lastScanned = contractRepository.findLastExpiryScan().orElse(null);
+        }
+        LocalDate since = lastScanned != null ? lastScanned : today.minusDays(1);
+        if (!since.isBefore(today)) {
+            return;
+        }
+        int expired = publish(since, today.minusDays(1), ContractExpiryEvent.Kind.EXPIRED);
+        int upcoming = publish(since.plusDays(1 + noticeDays), today.plusDays(noticeDays), ContractExpiryEvent.Kind.UPCOMING);
+        contractRepository.saveLastExpiryScan(today);
+        lastScanned = today;
+        logger.info("Contract expiry scan published {} expired and {} upcoming events", expired, upcoming);
+    }
+
+    private int publish(LocalDate from, LocalDate to, ContractExpiryEvent.Kind kind) {
+        List<ContractExpiryIndex.Expiry> expiries = index.expiring(ContractExpiryIndex.Scope.ALL, null, from, to, Integer.MAX_VALUE);
+        for (ContractExpiryIndex.Expiry expiry : expiries) {
+            publisher.publishEvent(new ContractExpiryEvent(expiry, kind));
+        }
+        meterRegistry.counter("agency.contracts.expiry.events", "kind", kind.name()).increment(expiries.size());
+        return expiries.size();
+    }
+}
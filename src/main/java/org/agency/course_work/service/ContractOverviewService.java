@@ -0,0 +1,146 @@
+package org.agency.course_work.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.agency.course_work.config.MetricsConfig;
+import org.agency.course_work.dto.ContractOverviewDto;
+import org.agency.course_work.dto.ContractOverviewPageDto;
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.BaseEntity;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.repository.ContractRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Contract listing with player, club and agent names, read from one joined projection in keyset pages.
+ * <p>
+ * Pages live in their own cache region, keyed by cursor and size. A write to a contract drops only the pages whose
+ * id range covers it; a write to a player, club or agent drops only the pages that show it.
+ * <p>
+ * A page loaded while a write commits may already be stale, and the write's invalidation may run before the page is
+ * stored. Invalidations are therefore counted, and a page is only kept if the count did not change while it loaded.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
+public class ContractOverviewService {
+    public static final int MAX_PAGE_SIZE = 200;
+    private static final Logger logger = LoggerFactory.getLogger(ContractOverviewService.class);
+
+    private final ContractRepository contractRepository;
+    private final Cache<PageKey, CachedPage> pages;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private record PageKey(long afterId, int size) {
+    }
+
+    private record CachedPage(long afterId, ContractOverviewPageDto page) {
+        boolean covers(long contractId) {
+            return contractId > afterId && (page.nextCursor() == null || contractId <= page.nextCursor());
+        }
+
+        boolean shows(Function<ContractOverviewDto, Long> reference, Long id) {
+            for (ContractOverviewDto row : page.content()) {
+                if (Objects.equals(reference.apply(row), id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public ContractOverviewService(ContractRepository contractRepository, MeterRegistry meterRegistry,
+                                   @Value("${contract-overview.max-pages}") long maxPages,
+                                   @Value("${contract-overview.expire-after-write}") Duration expireAfterWrite) {
+        this.contractRepository = contractRepository;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "contract-overview");
+    }
+
+    /**
+     * Returns up to {@code limit} contracts with an id greater than {@code after}, in id order.
+     */
+    public ContractOverviewPageDto getOverview(long after, int limit) {
+        PageKey key = new PageKey(Math.max(after, 0), Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+        logger.info("Fetching contract overview after ID: {}, size: {}", key.afterId(), key.size());
+        CachedPage cached = pages.getIfPresent(key);
+        if (cached != null) {
+            return cached.page();
+        }
+        long generation = invalidations.get();
+        CachedPage loaded = load(key);
+        if (invalidations.get() == generation) {
+            pages.put(key, loaded);
+            // an invalidation between the check and the put would otherwise leave this page behind
+            if (invalidations.get() != generation) {
+                pages.invalidate(key);
+            }
+        }
+        return loaded.page();
+    }
+
+    private CachedPage load(PageKey key) {
+        List<ContractOverviewDto> rows = contractRepository.findOverviewAfter(key.afterId(), Limit.of(key.size())).stream()
+                .map(view -> new ContractOverviewDto(view.getId(), view.getStartDate(), view.getEndDate(), view.getSalary(),
+                        view.getPlayerId(), fullName(view.getPlayerName(), view.getPlayerSurname()),
+                        view.getClubId(), view.getClubName(),
+                        view.getAgentId(), fullName(view.getAgentFirstName(), view.getAgentLastName())))
+                .toList();
+        Long nextCursor = rows.size() == key.size() ? rows.get(rows.size() - 1).id() : null;
+        logger.debug("Loaded {} contract overview rows after ID: {}", rows.size(), key.afterId());
+        return new CachedPage(key.afterId(), new ContractOverviewPageDto(rows, nextCursor));
+    }
+
+    private static String fullName(String first, String last) {
+        if (first == null && last == null) {
+            return null;
+        }
+        return first == null ? last : last == null ? first : first + " " + last;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        BaseEntity entity = event.entity();
+        Long id = entity.getId();
+        if (id == null) {
+            return;
+        }
+        if (entity instanceof Contract) {
+            invalidate(page -> page.covers(id));
+        } else if (entity instanceof Player) {
+            invalidate(page -> page.shows(ContractOverviewDto::playerId, id));
+        } else if (entity instanceof Club) {
+            invalidate(page -> page.shows(ContractOverviewDto::clubId, id));
+        } else if (entity instanceof Agent) {
+            invalidate(page -> page.shows(ContractOverviewDto::agentId, id));
+        }
+    }
+
+    private void invalidate(Predicate<CachedPage> stale) {
+        invalidations.incrementAndGet();
+        pages.asMap().values().removeIf(stale);
+    }
+}
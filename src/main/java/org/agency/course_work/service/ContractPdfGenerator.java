@@ -0,0 +1,94 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.entity.Contract;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.tomcat.util.http.fileupload.ByteArrayOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class ContractPdfGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(ContractPdfGenerator.class);
+
+    public byte[] generate(Contract contract) throws IOException {
+        logger.info("Generating PDF content for contract ID: {}", contract.getId());
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 16);
+                contentStream.beginText();
+                contentStream.setLeading(20f);
+                contentStream.newLineAtOffset(50, 750);
+                contentStream.showText("Contract details");
+                contentStream.endText();
+
+                contentStream.beginText();
+                contentStream.setFont(PDType1Font.HELVETICA, 12);
+                contentStream.setLeading(18f);
+                contentStream.newLineAtOffset(50, 720);
+
+                contentStream.showText("Contract start date: " + contract.getStartDate());
+                contentStream.newLine();
+                contentStream.showText("Contract end date: " + contract.getEndDate());
+                contentStream.newLine();
+                contentStream.showText("Salary: " + contract.getSalary() + " $");
+                contentStream.newLine();
+                contentStream.newLine();
+
+                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
+                contentStream.showText("Player information:");
+                contentStream.newLine();
+                contentStream.setFont(PDType1Font.HELVETICA, 12);
+                contentStream.showText("Name: " + contract.getPlayer().getName() + " " + contract.getPlayer().getSurname());
+                contentStream.newLine();
+                contentStream.showText("Age: " + contract.getPlayer().getAge());
+                contentStream.newLine();
+                contentStream.showText("Position: " + contract.getPlayer().getPosition());
+                contentStream.newLine();
+                contentStream.showText("Nationality: " + contract.getPlayer().getNationality());
+                contentStream.newLine();
+                contentStream.showText("Market value: " + contract.getPlayer().getValue() + " $");
+                contentStream.newLine();
+                contentStream.newLine();
+
+                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
+                contentStream.showText("Club information:");
+                contentStream.newLine();
+                contentStream.setFont(PDType1Font.HELVETICA, 12);
+                contentStream.showText("Name: " + contract.getClub().getName());
+                contentStream.newLine();
+                contentStream.newLine();
+
+                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
+                contentStream.showText("Agent information:");
+                contentStream.newLine();
+                contentStream.setFont(PDType1Font.HELVETICA, 12);
+                contentStream.showText("Name: " + contract.getAgent().getFirstName() + " " + contract.getAgent().getLastName());
+                contentStream.newLine();
+                contentStream.showText("Phone: " + contract.getAgent().getPhoneNumber());
+                contentStream.newLine();
+                contentStream.showText("Commission rate: " + contract.getAgent().getCommissionRate());
+                contentStream.newLine();
+                contentStream.endText();
+
+                contentStream.setFont(PDType1Font.TIMES_ITALIC, 20);
+                contentStream.beginText();
+                contentStream.setLeading(24f);
+                contentStream.newLineAtOffset(50, 50);
+                contentStream.showText("VAMOS - football agency!");
+                contentStream.endText();
+            }
+
+            document.save(outputStream);
+            logger.info("PDF content generated successfully for contract ID: {}", contract.getId());
+            return outputStream.toByteArray();
+        }
+    }
+}
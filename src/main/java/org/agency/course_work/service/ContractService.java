@@ -1,34 +1,28 @@
 package org.agency.course_work.service;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.AllArgsConstructor;
+import org.agency.course_work.config.MetricsConfig;
 import org.agency.course_work.dto.*;
 import org.agency.course_work.entity.Agent;
 import org.agency.course_work.entity.Club;
 import org.agency.course_work.entity.Contract;
 import org.agency.course_work.entity.Player;
-import org.agency.course_work.exception.AgentNotFound;
 import org.agency.course_work.exception.ClubNotFound;
 import org.agency.course_work.exception.ContractNotFound;
-import org.agency.course_work.exception.PlayerNotFound;
 import org.agency.course_work.mapper.ContractMapper;
 import org.agency.course_work.repository.AgentRepository;
 import org.agency.course_work.repository.ClubRepository;
 import org.agency.course_work.repository.ContractRepository;
 import org.agency.course_work.repository.PlayerRepository;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
-import org.apache.tomcat.util.http.fileupload.ByteArrayOutputStream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -38,10 +32,13 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @AllArgsConstructor
 @Transactional(readOnly = true)
 public class ContractService {
@@ -50,6 +47,20 @@ public class ContractService {
     private final ClubRepository clubRepository;
     private final PlayerRepository playerRepository;
     private final AgentRepository agentRepository;
+    private final MeterRegistry meterRegistry;
+    private final ContractPdfGenerator contractPdfGenerator;
+    private final ReferenceValidator referenceValidator;
+    private final ClubPayrollRollup clubPayrollRollup;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final BatchLookup batchLookup;
+    private final FilterEngine filterEngine;
+    private final SortRegistry sortRegistry;
+    private static final FilterDefinition<Contract> CONTRACT_FILTER = FilterDefinition.of(Contract.class)
+            .criterion("startDate", "e.startDate >= :startDate")
+            .criterion("endDate", "e.endDate <= :endDate")
+            .criterion("minSalary", "e.salary >= :minSalary")
+            .criterion("maxSalary", "e.salary <= :maxSalary")
+            .build();
     private static final Logger logger = LoggerFactory.getLogger(ClubService.class);
     @Autowired
     private JavaMailSender javaMailSender;
@@ -67,30 +78,25 @@ public class ContractService {
         return contractDto;
     }
 
+    public List<ContractDto> getContractsByIds(List<Long> ids) {
+        logger.info("Fetching contracts by IDs: {}", ids);
+        List<ContractDto> contracts = batchLookup.getAll("contracts", ids, ContractDto.class, contractRepository::findAllById, contractMapper::toDto);
+        logger.info("Fetched {} of {} requested contracts", contracts.size(), ids.size());
+        return contracts;
+    }
+
     @Transactional
     public ContractDto createContract(ContractCreationDto contractDto) {
         logger.info("Creating new contract with details: {}", contractDto);
 
-        if (!agentRepository.existsById(contractDto.agentId())) {
-            logger.error("Agent with ID {} not found", contractDto.agentId());
-            throw new AgentNotFound("Agent not found with ID: " + contractDto.agentId());
-        }
+        referenceValidator.check()
+                .require(Agent.class, contractDto.agentId())
+                .require(Club.class, contractDto.clubId())
+                .require(Player.class, contractDto.playerId())
+                .validate();
         Agent agent = agentRepository.getReferenceById(contractDto.agentId());
-        logger.debug("Fetched agent: {}", agent);
-
-        if (!clubRepository.existsById(contractDto.clubId())) {
-            logger.error("Club with ID {} not found", contractDto.clubId());
-            throw new ClubNotFound("Club not found with ID: " + contractDto.clubId());
-        }
         Club club = clubRepository.getReferenceById(contractDto.clubId());
-        logger.debug("Fetched club: {}", club);
-
-        if (!playerRepository.existsById(contractDto.playerId())) {
-            logger.error("Player with ID {} not found", contractDto.playerId());
-            throw new PlayerNotFound("Player not found with ID: " + contractDto.playerId());
-        }
         Player player = playerRepository.getReferenceById(contractDto.playerId());
-        logger.debug("Fetched player: {}", player);
 
         Contract contract = contractMapper.toEntity(contractDto);
         contract.setAgent(agent);
@@ -99,6 +105,7 @@ public class ContractService {
         logger.debug("Mapped contract DTO to entity: {}", contract);
 
         Contract savedContract = contractRepository.save(contract);
+        clubPayrollRollup.add(savedContract);
         logger.info("Contract saved successfully with ID: {}", savedContract.getId());
 
         ContractDto savedContractDto = contractMapper.toDto(savedContract);
@@ -114,6 +121,13 @@ public class ContractService {
         return contracts;
     }
 
+    public Page<Map<String, Object>> getAllContractFields(List<String> fields, Pageable pageable) {
+        logger.info("Fetching all contracts with fields: {} and pagination: page {}, size {}", fields, pageable.getPageNumber(), pageable.getPageSize());
+        Page<Map<String, Object>> contracts = sparseFieldQuery.findAll(CONTRACT_FILTER.filter(), fields, pageable);
+        logger.debug("Fetched {} contracts", contracts.getContent().size());
+        return contracts;
+    }
+
     @Transactional
     public ContractDto updateContract(Long id, ContractDto contractDto) {
         logger.info("Updating contract with ID: {}", id);
@@ -123,8 +137,10 @@ public class ContractService {
                     return new ContractNotFound("Contract not found");
                 });
         logger.debug("Original contract data: {}", contract);
+        ClubPayrollRollup.Entry before = ClubPayrollRollup.Entry.of(contract);
         contractMapper.partialUpdate(contractDto, contract);
         Contract updatedContract = contractRepository.save(contract);
+        clubPayrollRollup.replace(before, updatedContract);
         logger.info("Contract with ID {} updated successfully", id);
         logger.debug("Updated contract data: {}", updatedContract);
         return contractMapper.toDto(updatedContract);
@@ -133,9 +149,7 @@ public class ContractService {
     public Page<ContractDto> getSortedContracts(String sortBy, String order, Pageable pageable) {
         logger.info("Fetching sorted contracts by {} in {} order with pagination: page {}, size {}",
                 sortBy, order, pageable.getPageNumber(), pageable.getPageSize());
-        Sort sort = order.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
-        Page<Contract> contractsPage = contractRepository.findAll(sortedPageable);
+        Page<Contract> contractsPage = contractRepository.findAll(sortRegistry.sortedPageable(Contract.class, sortBy, order, pageable));
         logger.debug("Fetched {} sorted contracts", contractsPage.getContent().size());
         return contractsPage.map(contract -> new ContractDto(
                 contract.getId(),
@@ -147,50 +161,72 @@ public class ContractService {
         ));
     }
 
+    public Page<Map<String, Object>> getSortedContractFields(String sortBy, String order, List<String> fields, Pageable pageable) {
+        logger.info("Fetching sorted contracts by {} in {} order with fields: {} and pagination: page {}, size {}",
+                sortBy, order, fields, pageable.getPageNumber(), pageable.getPageSize());
+        Page<Map<String, Object>> contractsPage = sparseFieldQuery.findAll(CONTRACT_FILTER.filter(), fields, sortRegistry.sortedPageable(Contract.class, sortBy, order, pageable));
+        logger.debug("Fetched {} sorted contracts", contractsPage.getContent().size());
+        return contractsPage;
+    }
+
     public Page<ContractDto> getFilteredContracts(LocalDate startDate, LocalDate endDate, BigDecimal minSalary, BigDecimal maxSalary, Pageable pageable) {
         logger.info("Fetching filtered contracts with startDate: {}, endDate: {}, minSalary: {}, maxSalary: {}",
                 startDate, endDate, minSalary, maxSalary);
-        Specification<Contract> specification = Specification.where(null);
+        Page<Contract> contractsPage = filterEngine.findAll(contractFilter(startDate, endDate, minSalary, maxSalary), pageable);
+        logger.info("Fetched {} filtered contracts", contractsPage.getContent().size());
+        return contractsPage.map(contract -> new ContractDto(
+                contract.getId(),
+                contract.getCreatedAt(),
+                contract.getUpdatedAt(),
+                contract.getStartDate(),
+                contract.getEndDate(),
+                contract.getSalary()
+        ));
+    }
+
+    public Page<Map<String, Object>> getFilteredContractFields(LocalDate startDate, LocalDate endDate, BigDecimal minSalary, BigDecimal maxSalary,
+                                                               List<String> fields, Pageable pageable) {
+        logger.info("Fetching filtered contracts with fields: {}, startDate: {}, endDate: {}, minSalary: {}, maxSalary: {}",
+                fields, startDate, endDate, minSalary, maxSalary);
+        Page<Map<String, Object>> contractsPage = sparseFieldQuery.findAll(
+                contractFilter(startDate, endDate, minSalary, maxSalary), fields, pageable);
+        logger.info("Fetched {} filtered contracts", contractsPage.getContent().size());
+        return contractsPage;
+    }
+
+    private static FilterDefinition.Filter<Contract> contractFilter(LocalDate startDate, LocalDate endDate, BigDecimal minSalary, BigDecimal maxSalary) {
+        FilterDefinition.Filter<Contract> filter = CONTRACT_FILTER.filter();
         if (startDate != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.greaterThanOrEqualTo(root.get("startDate"), startDate));
+            filter.where("startDate", startDate);
             logger.debug("Added filter for startDate >= {}", startDate);
         }
         if (endDate != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.lessThanOrEqualTo(root.get("endDate"), endDate));
+            filter.where("endDate", endDate);
             logger.debug("Added filter for endDate <= {}", endDate);
         }
         if (minSalary != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.greaterThanOrEqualTo(root.get("salary"), minSalary));
+            filter.where("minSalary", minSalary);
             logger.debug("Added filter for salary >= {}", minSalary);
         }
         if (maxSalary != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.lessThanOrEqualTo(root.get("salary"), maxSalary));
+            filter.where("maxSalary", maxSalary);
             logger.debug("Added filter for salary <= {}", maxSalary);
         }
-        Page<Contract> contractsPage = contractRepository.findAll(specification, pageable);
-        logger.info("Fetched {} filtered contracts", contractsPage.getContent().size());
-        return contractsPage.map(contract -> new ContractDto(
-                contract.getId(),
-                contract.getCreatedAt(),
-                contract.getUpdatedAt(),
-                contract.getStartDate(),
-                contract.getEndDate(),
-                contract.getSalary()
-        ));
+        return filter;
     }
 
     public void sendContractAsPdf(Contract contract, String recipientEmail) {
         try {
             logger.info("Generating PDF for contract ID: {}", contract.getId());
-            byte[] pdfContent = generatePdf(contract);
+            Timer.Sample pdfSample = Timer.start(meterRegistry);
+            byte[] pdfContent = contractPdfGenerator.generate(contract);
+            pdfSample.stop(meterRegistry.timer("agency.contract.pdf"));
             logger.info("PDF generated successfully for contract ID: {}. Sending to email: {}", contract.getId(), recipientEmail);
+            Timer.Sample mailSample = Timer.start(meterRegistry);
             sendEmailWithAttachment(recipientEmail, pdfContent,
                     "Contract Details " + contract.getPlayer().getName() + " " + contract.getPlayer().getSurname(),
                     "Contract details are attached.");
+            mailSample.stop(meterRegistry.timer("agency.contract.mail"));
             logger.info("Email sent successfully to: {}", recipientEmail);
         } catch (IOException | MessagingException e) {
             logger.error("Error while sending contract as PDF for contract ID: {}: {}", contract.getId(), e.getMessage(), e);
@@ -198,82 +234,6 @@ public class ContractService {
         }
     }
 
-    private byte[] generatePdf(Contract contract) throws IOException {
-        logger.info("Generating PDF content for contract ID: {}", contract.getId());
-        try (PDDocument document = new PDDocument(); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            PDPage page = new PDPage();
-            document.addPage(page);
-            try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
-                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 16);
-                contentStream.beginText();
-                contentStream.setLeading(20f);
-                contentStream.newLineAtOffset(50, 750);
-                contentStream.showText("Contract details");
-                contentStream.endText();
-
-                contentStream.beginText();
-                contentStream.setFont(PDType1Font.HELVETICA, 12);
-                contentStream.setLeading(18f);
-                contentStream.newLineAtOffset(50, 720);
-
-                contentStream.showText("Contract start date: " + contract.getStartDate());
-                contentStream.newLine();
-                contentStream.showText("Contract end date: " + contract.getEndDate());
-                contentStream.newLine();
-                contentStream.showText("Salary: " + contract.getSalary() + " $");
-                contentStream.newLine();
-                contentStream.newLine();
-
-                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
-                contentStream.showText("Player information:");
-                contentStream.newLine();
-                contentStream.setFont(PDType1Font.HELVETICA, 12);
-                contentStream.showText("Name: " + contract.getPlayer().getName() + " " + contract.getPlayer().getSurname());
-                contentStream.newLine();
-                contentStream.showText("Age: " + contract.getPlayer().getAge());
-                contentStream.newLine();
-                contentStream.showText("Position: " + contract.getPlayer().getPosition());
-                contentStream.newLine();
-                contentStream.showText("Nationality: " + contract.getPlayer().getNationality());
-                contentStream.newLine();
-                contentStream.showText("Market value: " + contract.getPlayer().getValue() + " $");
-                contentStream.newLine();
-                contentStream.newLine();
-
-                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
-                contentStream.showText("Club information:");
-                contentStream.newLine();
-                contentStream.setFont(PDType1Font.HELVETICA, 12);
-                contentStream.showText("Name: " + contract.getClub().getName());
-                contentStream.newLine();
-                contentStream.newLine();
-
-                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
-                contentStream.showText("Agent information:");
-                contentStream.newLine();
-                contentStream.setFont(PDType1Font.HELVETICA, 12);
-                contentStream.showText("Name: " + contract.getAgent().getFirstName() + " " + contract.getAgent().getLastName());
-                contentStream.newLine();
-                contentStream.showText("Phone: " + contract.getAgent().getPhoneNumber());
-                contentStream.newLine();
-                contentStream.showText("Commission rate: " + contract.getAgent().getCommissionRate());
-                contentStream.newLine();
-                contentStream.endText();
-
-                contentStream.setFont(PDType1Font.TIMES_ITALIC, 20);
-                contentStream.beginText();
-                contentStream.setLeading(24f);
-                contentStream.newLineAtOffset(50, 50);
-                contentStream.showText("VAMOS - football agency!");
-                contentStream.endText();
-            }
-
-            document.save(outputStream);
-            logger.info("PDF content generated successfully for contract ID: {}", contract.getId());
-            return outputStream.toByteArray();
-        }
-    }
-
     private void sendEmailWithAttachment(String to, byte[] attachmentContent, String subject, String text)
             throws MessagingException {
         logger.info("Preparing email with subject: '{}' to recipient: {}", subject, to);
@@ -325,6 +285,7 @@ public class ContractService {
 
             contract.setDeleted(true);
             contractRepository.save(contract);
+            clubPayrollRollup.remove(contract);
 
             logger.info("Contract with ID: {} marked as deleted successfully", id);
         } catch (Exception e) {
@@ -0,0 +1,94 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.agency.course_work.dto.SnapshotScanDto;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.index.ContractSnapshot;
+import org.agency.course_work.index.ParallelScan;
+import org.agency.course_work.repository.ContractRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the {@link ContractSnapshot} and answers scans over contract dates and salary from it.
+ * <p>
+ * A write committed while the snapshot is being rebuilt waits for the rebuild and is applied on top of it, so a row
+ * streamed from before the write cannot overwrite it.
+ */
+@Service
+public class ContractSnapshotService {
+    public static final int MAX_IDS = 1000;
+    private static final Logger logger = LoggerFactory.getLogger(ContractSnapshotService.class);
+    private final ContractRepository contractRepository;
+    private final ParallelScan snapshotScan;
+    private final ContractSnapshot snapshot;
+
+    public ContractSnapshotService(ContractRepository contractRepository, ParallelScan snapshotScan, MeterRegistry meterRegistry,
+                                   @Value("${contract-snapshot.initial-capacity}") int initialCapacity) {
+        this.contractRepository = contractRepository;
+        this.snapshotScan = snapshotScan;
+        this.snapshot = new ContractSnapshot(initialCapacity);
+        Gauge.builder("agency.contracts.snapshot.rows", snapshot, ContractSnapshot::size)
+                .description("Contracts held in the off-heap snapshot")
+                .register(meterRegistry);
+        Gauge.builder("agency.contracts.snapshot.bytes", snapshot, ContractSnapshot::offHeapBytes)
+                .description("Off-heap bytes reserved by the contract snapshot columns")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        logger.info("Building contract snapshot");
+        synchronized (this) {
+            snapshot.clear();
+            try (Stream<ContractRepository.SnapshotView> contracts = contractRepository.streamSnapshot()) {
+                contracts.forEach(contract -> snapshot.upsert(contract.getId(), contract.getStartDate(),
+                        contract.getEndDate(), contract.getSalary()));
+            }
+        }
+        logger.info("Contract snapshot built with {} contracts in {} off-heap bytes", snapshot.size(), snapshot.offHeapBytes());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!(event.entity() instanceof Contract contract)) {
+            return;
+        }
+        synchronized (this) {
+            if (event.isLive()) {
+                snapshot.upsert(contract.getId(), contract.getStartDate(), contract.getEndDate(), contract.getSalary());
+            } else {
+                snapshot.remove(contract.getId());
+            }
+        }
+    }
+
+    /**
+     * Counts the contracts matching the {@code getFilteredContracts} criteria,
+     * and returns the ids of up to {@code limit} of them, best paid first.
+     */
+    public SnapshotScanDto scan(LocalDate startDate, LocalDate endDate, BigDecimal minSalary, BigDecimal maxSalary, int limit) {
+        logger.info("Scanning contract snapshot with startDate: {}, endDate: {}, minSalary: {}, maxSalary: {}",
+                startDate, endDate, minSalary, maxSalary);
+        ContractSnapshot.Result result = snapshot.scan(
+                new ContractSnapshot.Criteria(startDate, endDate, minSalary, maxSalary),
+                Math.min(Math.max(limit, 0), MAX_IDS), snapshotScan);
+        logger.debug("Contract snapshot scan matched {} contracts", result.matches());
+        return new SnapshotScanDto(result.matches(), Arrays.stream(result.ids()).boxed().toList());
+    }
+}
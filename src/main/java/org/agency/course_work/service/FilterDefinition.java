@@ -0,0 +1,135 @@
+package org.agency.course_work.service;
+
+import jakarta.persistence.Entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The fixed set of optional criteria one filter endpoint supports, each a JPQL fragment over alias {@code e} with
+ * named parameters.
+ * <p>
+ * A request only decides which criteria are present and what is bound to them. The present criteria form a bitmask,
+ * so every combination maps to one query text that {@link FilterEngine} builds once and reuses.
+ */
+public final class FilterDefinition<T> {
+    public static final String ALIAS = "e";
+    private static final Pattern PARAMETER = Pattern.compile(":(\\w+)");
+
+    private final Class<T> type;
+    private final String entityName;
+    private final List<Criterion> criteria;
+    private final Map<String, Integer> bitsByName;
+
+    record Criterion(String name, String fragment, List<String> parameters) {
+    }
+
+    private FilterDefinition(Class<T> type, List<Criterion> criteria) {
+        this.type = type;
+        Entity entity = type.getAnnotation(Entity.class);
+        this.entityName = entity != null && !entity.name().isEmpty() ? entity.name() : type.getSimpleName();
+        this.criteria = List.copyOf(criteria);
+        this.bitsByName = new LinkedHashMap<>();
+        for (int bit = 0; bit < criteria.size(); bit++) {
+            bitsByName.put(criteria.get(bit).name(), bit);
+        }
+    }
+
+    public static <T> Builder<T> of(Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    String entityName() {
+        return entityName;
+    }
+
+    Criterion criterion(int bit) {
+        return criteria.get(bit);
+    }
+
+    int size() {
+        return criteria.size();
+    }
+
+    public Filter<T> filter() {
+        return new Filter<>(this);
+    }
+
+    public static final class Builder<T> {
+        private final Class<T> type;
+        private final List<Criterion> criteria = new ArrayList<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        public Builder<T> criterion(String name, String fragment) {
+            if (criteria.size() == Long.SIZE) {
+                throw new IllegalStateException("A filter supports at most " + Long.SIZE + " criteria");
+            }
+            List<String> parameters = new ArrayList<>();
+            Matcher matcher = PARAMETER.matcher(fragment);
+            while (matcher.find()) {
+                parameters.add(matcher.group(1));
+            }
+            criteria.add(new Criterion(name, fragment, List.copyOf(parameters)));
+            return this;
+        }
+
+        public FilterDefinition<T> build() {
+            return new FilterDefinition<>(type, criteria);
+        }
+    }
+
+    /**
+     * The criteria present in one request and their bind values.
+     */
+    public static final class Filter<T> {
+        private final FilterDefinition<T> definition;
+        private final Object[][] values;
+        private long mask;
+
+        private Filter(FilterDefinition<T> definition) {
+            this.definition = definition;
+            this.values = new Object[definition.size()][];
+        }
+
+        /**
+         * Marks a criterion present and binds {@code values} to its parameters in the order they appear in the fragment.
+         */
+        public Filter<T> where(String criterion, Object... values) {
+            Integer bit = definition.bitsByName.get(criterion);
+            if (bit == null) {
+                throw new IllegalArgumentException("Unknown criterion '" + criterion + "' for " + definition.entityName);
+            }
+            if (values.length != definition.criterion(bit).parameters().size()) {
+                throw new IllegalArgumentException("Criterion '" + criterion + "' takes "
+                        + definition.criterion(bit).parameters().size() + " values, got " + Arrays.toString(values));
+            }
+            this.values[bit] = values;
+            mask |= 1L << bit;
+            return this;
+        }
+
+        public FilterDefinition<T> definition() {
+            return definition;
+        }
+
+        long mask() {
+            return mask;
+        }
+
+        Object[] values(int bit) {
+            return values[bit];
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.agency.course_work.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.agency.course_work.service.FilterDefinition.ALIAS;
+
+/**
+ * Runs {@link FilterDefinition} filters from a bounded cache of query plans.
+ * <p>
+ * A plan is the select and count JPQL for one combination of present criteria, selected columns and sort, keyed by
+ * the criteria bitmask. Requests with the same shape send Hibernate the same query text, so its own interpretation
+ * cache hits too; only the bind values and paging change.
+ */
+@Component
+public class FilterEngine {
+    private final EntityManager entityManager;
+    private final Cache<PlanKey, Plan> plans;
+
+    private record PlanKey(FilterDefinition<?> definition, long mask, List<String> selection, Sort sort) {
+    }
+
+    private record Plan(String selectQuery, String countQuery) {
+    }
+
+    public FilterEngine(EntityManager entityManager, MeterRegistry meterRegistry,
+                        @Value("${filter.plan-cache.max-size}") long maxSize) {
+        this.entityManager = entityManager;
+        this.plans = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, plans, "filter-plans");
+        Gauge.builder("agency.filter.plans.hit.ratio", plans, cache -> cache.stats().hitRate())
+                .description("Share of filter requests answered with a cached query plan")
+                .register(meterRegistry);
+    }
+
+    public <T> Page<T> findAll(FilterDefinition.Filter<T> filter, Pageable pageable) {
+        Plan plan = plan(filter, null, pageable.getSort());
+        TypedQuery<T> query = entityManager.createQuery(plan.selectQuery(), filter.definition().type());
+        bind(query, filter);
+        page(query, pageable);
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(plan, filter));
+    }
+
+    /**
+     * Like {@link #findAll(FilterDefinition.Filter, Pageable)} but selects only the given attributes,
+     * returning each row as a map in selection order.
+     */
+    public Page<Map<String, Object>> findAll(FilterDefinition.Filter<?> filter, List<String> selection, Pageable pageable) {
+        Plan plan = plan(filter, List.copyOf(selection), pageable.getSort());
+        TypedQuery<Tuple> query = entityManager.createQuery(plan.selectQuery(), Tuple.class);
+        bind(query, filter);
+        page(query, pageable);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>(selection.size() * 2);
+            for (String attribute : selection) {
+                row.put(attribute, tuple.get(attribute));
+            }
+            rows.add(row);
+        }
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(plan, filter));
+    }
+
+    private long count(Plan plan, FilterDefinition.Filter<?> filter) {
+        TypedQuery<Long> query = entityManager.createQuery(plan.countQuery(), Long.class);
+        bind(query, filter);
+        return query.getSingleResult();
+    }
+
+    private Plan plan(FilterDefinition.Filter<?> filter, List<String> selection, Sort sort) {
+        return plans.get(new PlanKey(filter.definition(), filter.mask(), selection, sort), FilterEngine::compile);
+    }
+
+    private static Plan compile(PlanKey key) {
+        FilterDefinition<?> definition = key.definition();
+        StringBuilder where = new StringBuilder();
+        for (int bit = 0; bit < definition.size(); bit++) {
+            if ((key.mask() & (1L << bit)) != 0) {
+                where.append(where.isEmpty() ? " where (" : " and (").append(definition.criterion(bit).fragment()).append(')');
+            }
+        }
+        String from = " from " + definition.entityName() + " " + ALIAS + where;
+
+        String select;
+        if (key.selection() == null) {
+            select = "select " + ALIAS;
+        } else {
+            List<String> columns = new ArrayList<>(key.selection().size());
+            for (String attribute : key.selection()) {
+                columns.add(ALIAS + "." + attribute + " as " + attribute);
+            }
+            select = "select " + String.join(", ", columns);
+        }
+        return new Plan(QueryUtils.applySorting(select + from, key.sort(), ALIAS), "select count(" + ALIAS + ")" + from);
+    }
+
+    private static void bind(TypedQuery<?> query, FilterDefinition.Filter<?> filter) {
+        FilterDefinition<?> definition = filter.definition();
+        for (int bit = 0; bit < definition.size(); bit++) {
+            if ((filter.mask() & (1L << bit)) != 0) {
+                List<String> parameters = definition.criterion(bit).parameters();
+                Object[] values = filter.values(bit);
+                for (int i = 0; i < parameters.size(); i++) {
+                    query.setParameter(parameters.get(i), values[i]);
+                }
+            }
+        }
+    }
+
+    private static void page(TypedQuery<?> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+    }
+}
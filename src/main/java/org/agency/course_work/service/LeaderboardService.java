@@ -0,0 +1,312 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.agency.course_work.dto.ClubDto;
+import org.agency.course_work.dto.ContractDto;
+import org.agency.course_work.dto.PlayerDto;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.enums.PlayerPosition;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.index.Leaderboard;
+import org.agency.course_work.repository.ClubRepository;
+import org.agency.course_work.repository.ContractRepository;
+import org.agency.course_work.repository.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the {@link Leaderboard}s for player value, overall and per position and nationality, contract salary
+ * and club budget.
+ * <p>
+ * The boards are built from one streaming read at startup and kept current from committed writes. A board that has
+ * shrunk below a requested range is refilled with a single top-N query.
+ * The position and nationality of every live player are remembered, so a player moving between partitions is taken
+ * off the old board. Until {@link #rebuild} has run, every read goes to the database.
+ */
+@Service
+public class LeaderboardService {
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+    private final PlayerRepository playerRepository;
+    private final ContractRepository contractRepository;
+    private final ClubRepository clubRepository;
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final Leaderboard<PlayerDto> players;
+    private final Map<PlayerPosition, Leaderboard<PlayerDto>> playersByPosition = new EnumMap<>(PlayerPosition.class);
+    private final Map<String, Leaderboard<PlayerDto>> playersByNationality = new ConcurrentHashMap<>();
+    private final Leaderboard<ContractDto> contracts;
+    private final Leaderboard<ClubDto> clubs;
+    private final Map<Long, PlayerSlot> playerSlots = new HashMap<>();
+    private int unvaluedPlayers;
+
+    private record PlayerSlot(PlayerPosition position, String nationality, boolean valued) {
+    }
+
+    public LeaderboardService(PlayerRepository playerRepository, ContractRepository contractRepository,
+                              ClubRepository clubRepository, MeterRegistry meterRegistry,
+                              @Value("${leaderboards.capacity}") int capacity) {
+        this.playerRepository = playerRepository;
+        this.contractRepository = contractRepository;
+        this.clubRepository = clubRepository;
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.players = new Leaderboard<>(capacity);
+        for (PlayerPosition position : PlayerPosition.values()) {
+            playersByPosition.put(position, new Leaderboard<>(capacity));
+        }
+        this.contracts = new Leaderboard<>(capacity);
+        this.clubs = new Leaderboard<>(capacity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        logger.info("Building leaderboards");
+        synchronized (this) {
+            playerSlots.clear();
+            unvaluedPlayers = 0;
+            players.clear();
+            playersByPosition.values().forEach(Leaderboard::clear);
+            playersByNationality.clear();
+            try (Stream<PlayerRepository.RankingView> rows = playerRepository.streamRankings()) {
+                rows.forEach(row -> placePlayer(row.getId(), row.getPosition(), row.getNationality(), row.getValue(),
+                        () -> playerDto(row)));
+            }
+        }
+        contracts.clear();
+        try (Stream<ContractRepository.RankingView> rows = contractRepository.streamSalaryRankings()) {
+            rows.forEach(row -> contracts.upsert(row.getId(), row.getSalary(), () -> contractDto(row)));
+        }
+        clubs.clear();
+        try (Stream<ClubRepository.RankingView> rows = clubRepository.streamBudgetRankings()) {
+            rows.forEach(row -> clubs.upsert(row.getId(), row.getBudget(), () -> clubDto(row)));
+        }
+        logger.info("Leaderboards built with {} players, {} contracts and {} clubs",
+                players.size(), contracts.size(), clubs.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof Player player) {
+            synchronized (this) {
+                if (event.isLive()) {
+                    placePlayer(player.getId(), player.getPosition(), player.getNationality(), player.getValue(),
+                            () -> playerDto(player));
+                } else {
+                    removePlayer(player.getId());
+                }
+            }
+        } else if (event.entity() instanceof Contract contract) {
+            if (event.isLive()) {
+                contracts.upsert(contract.getId(), contract.getSalary(), () -> contractDto(contract));
+            } else {
+                contracts.remove(contract.getId());
+            }
+        } else if (event.entity() instanceof Club club) {
+            if (event.isLive()) {
+                clubs.upsert(club.getId(), club.getBudget(), () -> clubDto(club));
+            } else {
+                clubs.remove(club.getId());
+            }
+        }
+    }
+
+    /**
+     * Updates the player in place on the boards it stays on, and takes it off the partitions it has left.
+     */
+    private void placePlayer(Long id, PlayerPosition position, String nationality, BigDecimal value, Supplier<PlayerDto> dto) {
+        PlayerSlot slot = new PlayerSlot(position, nationalityKey(nationality), value != null);
+        PlayerSlot previous = playerSlots.put(id, slot);
+        if (previous != null) {
+            if (!previous.valued()) {
+                unvaluedPlayers--;
+            }
+            if (previous.position() != null && previous.position() != position) {
+                playersByPosition.get(previous.position()).remove(id);
+            }
+            if (previous.nationality() != null && !previous.nationality().equals(slot.nationality())) {
+                playersByNationality.get(previous.nationality()).remove(id);
+            }
+        }
+        if (!slot.valued()) {
+            unvaluedPlayers++;
+        }
+        players.upsert(id, value, dto);
+        if (position != null) {
+            playersByPosition.get(position).upsert(id, value, dto);
+        }
+        if (slot.nationality() != null) {
+            playersByNationality.computeIfAbsent(slot.nationality(), key -> emptyBoard()).upsert(id, value, dto);
+        }
+    }
+
+    private void removePlayer(Long id) {
+        PlayerSlot slot = playerSlots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        if (!slot.valued()) {
+            unvaluedPlayers--;
+        }
+        players.remove(id);
+        if (slot.position() != null) {
+            playersByPosition.get(slot.position()).remove(id);
+        }
+        if (slot.nationality() != null) {
+            playersByNationality.get(slot.nationality()).remove(id);
+        }
+    }
+
+    /**
+     * The most valuable players, optionally of one position or nationality, or both, at most {@code capacity}.
+     * Position and nationality together are not kept as a board and are read from the database.
+     */
+    public List<PlayerDto> getTopPlayers(PlayerPosition position, String nationality, int limit) {
+        int cappedLimit = Math.min(Math.max(limit, 1), capacity);
+        String key = nationalityKey(nationality);
+        logger.info("Fetching top {} players by value, position: {}, nationality: {}", cappedLimit, position, key);
+        if (position != null && key != null) {
+            return playerRepository.findTopByValueInPositionAndNationality(position, key, Limit.of(cappedLimit)).stream()
+                    .map(LeaderboardService::playerDto)
+                    .toList();
+        }
+        if (position != null) {
+            return read("players.position", playersByPosition.get(position), 0, cappedLimit,
+                    top -> playerEntries(playerRepository.findTopByValueInPosition(position, top)));
+        }
+        if (key != null) {
+            Leaderboard<PlayerDto> board = playersByNationality.get(key);
+            if (board == null) {
+                return List.of();
+            }
+            return read("players.nationality", board, 0, cappedLimit,
+                    top -> playerEntries(playerRepository.findTopByValueInNationality(key, top)));
+        }
+        return read("players", players, 0, cappedLimit, top -> playerEntries(playerRepository.findTopByValue(top)));
+    }
+
+    /**
+     * One page of all players by value, highest first and then by id, exactly as the database sorts it, or
+     * {@code null} when the page reaches past the board or some players have no value, which the database would list first.
+     * The total is counted in the database, and the board is only used while it tracks as many players as the table
+     * holds, so rows written around the service, such as a bulk import, send reads to the database until the next
+     * {@link #rebuild}.
+     */
+    public Page<PlayerDto> getPlayersByValue(Pageable pageable) {
+        if (pageable.getOffset() + pageable.getPageSize() > capacity) {
+            return null;
+        }
+        long total = playerRepository.count();
+        synchronized (this) {
+            if (unvaluedPlayers > 0 || total != playerSlots.size()) {
+                return null;
+            }
+        }
+        List<PlayerDto> content = read("players", players, (int) pageable.getOffset(), pageable.getPageSize(),
+                top -> playerEntries(playerRepository.findTopByValue(top)));
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    public List<ContractDto> getTopContracts(int limit) {
+        int cappedLimit = Math.min(Math.max(limit, 1), capacity);
+        logger.info("Fetching top {} contracts by salary", cappedLimit);
+        return read("contracts", contracts, 0, cappedLimit, top -> contractRepository.findTopBySalary(top).stream()
+                .map(row -> new Leaderboard.Entry<>(row.getId(), row.getSalary(), contractDto(row)))
+                .toList());
+    }
+
+    public List<ClubDto> getTopClubs(int limit) {
+        int cappedLimit = Math.min(Math.max(limit, 1), capacity);
+        logger.info("Fetching top {} clubs by budget", cappedLimit);
+        return read("clubs", clubs, 0, cappedLimit, top -> clubRepository.findTopByBudget(top).stream()
+                .map(row -> new Leaderboard.Entry<>(row.getId(), row.getBudget(), clubDto(row)))
+                .toList());
+    }
+
+    private <T> List<T> read(String name, Leaderboard<T> board, int offset, int limit,
+                             Function<Limit, List<Leaderboard.Entry<T>>> loader) {
+        List<T> slice = board.slice(offset, limit);
+        if (slice != null) {
+            meterRegistry.counter("agency.leaderboard.reads", "board", name, "result", "hit").increment();
+            return slice;
+        }
+        meterRegistry.counter("agency.leaderboard.reads", "board", name, "result", "refill").increment();
+        long version = board.version();
+        List<Leaderboard.Entry<T>> top = loader.apply(Limit.of(board.capacity()));
+        if (!board.reload(version, top)) {
+            logger.debug("Leaderboard {} changed while refilling, keeping it as is", name);
+        }
+        return top.stream().skip(offset).limit(limit).map(Leaderboard.Entry::payload).toList();
+    }
+
+    /**
+     * A board for a nationality no tracked player had, which therefore holds every player of it.
+     */
+    private Leaderboard<PlayerDto> emptyBoard() {
+        Leaderboard<PlayerDto> board = new Leaderboard<>(capacity);
+        board.clear();
+        return board;
+    }
+
+    private static String nationalityKey(String nationality) {
+        return nationality == null || nationality.isBlank() ? null : nationality.trim().toLowerCase();
+    }
+
+    private static List<Leaderboard.Entry<PlayerDto>> playerEntries(List<PlayerRepository.RankingView> rows) {
+        return rows.stream()
+                .map(row -> new Leaderboard.Entry<>(row.getId(), row.getValue(), playerDto(row)))
+                .toList();
+    }
+
+    private static PlayerDto playerDto(PlayerRepository.RankingView row) {
+        return new PlayerDto(row.getId(), row.getCreatedAt(), row.getUpdatedAt(), row.getName(), row.getSurname(),
+                row.getAge(), row.getPosition(), row.getNationality(), row.getValue());
+    }
+
+    private static PlayerDto playerDto(Player player) {
+        return new PlayerDto(player.getId(), player.getCreatedAt(), player.getUpdatedAt(), player.getName(),
+                player.getSurname(), player.getAge(), player.getPosition(), player.getNationality(), player.getValue());
+    }
+
+    private static ContractDto contractDto(ContractRepository.RankingView row) {
+        return new ContractDto(row.getId(), row.getCreatedAt(), row.getUpdatedAt(), row.getStartDate(),
+                row.getEndDate(), row.getSalary());
+    }
+
+    private static ContractDto contractDto(Contract contract) {
+        return new ContractDto(contract.getId(), contract.getCreatedAt(), contract.getUpdatedAt(),
+                contract.getStartDate(), contract.getEndDate(), contract.getSalary());
+    }
+
+    private static ClubDto clubDto(ClubRepository.RankingView row) {
+        return new ClubDto(row.getId(), row.getCreatedAt(), row.getUpdatedAt(), row.getName(), row.getStadium(),
+                row.getCountry(), row.getBudget());
+    }
+
+    private static ClubDto clubDto(Club club) {
+        return new ClubDto(club.getId(), club.getCreatedAt(), club.getUpdatedAt(), club.getName(), club.getStadium(),
+                club.getCountry(), club.getBudget());
+    }
+}
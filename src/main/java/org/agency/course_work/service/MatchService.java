@@ -1,11 +1,14 @@
 package org.agency.course_work.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.agency.course_work.config.MetricsConfig;
 import org.agency.course_work.dto.MatchCreationDto;
 import org.agency.course_work.dto.MatchDto;
 import org.agency.course_work.dto.MathesWithClubsDto;
 import org.agency.course_work.entity.Club;
 import org.agency.course_work.entity.Match;
+import org.agency.course_work.entity.MatchScore;
 import org.agency.course_work.enums.City;
 import org.agency.course_work.exception.MatchNotFound;
 import org.agency.course_work.mapper.MatchMapper;
@@ -14,25 +17,33 @@ import org.agency.course_work.repository.MatchRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @AllArgsConstructor
 @Transactional(readOnly = true)
 public class MatchService {
     private final MatchRepository matchRepository;
     private final MatchMapper matchMapper;
     private final ClubRepository clubRepository;
+    private final BatchLookup batchLookup;
+    private final FilterEngine filterEngine;
+    private final SortRegistry sortRegistry;
     private static final Logger logger = LoggerFactory.getLogger(ClubService.class);
+    private static final FilterDefinition<Match> MATCH_FILTER = FilterDefinition.of(Match.class)
+            .criterion("startDate", "e.date >= :startDate")
+            .criterion("endDate", "e.date <= :endDate")
+            .criterion("city", "e.city = :city")
+            .criterion("goals", "e.homeGoals = :homeGoals and e.awayGoals = :awayGoals")
+            .criterion("score", "lower(e.score) = :score")
+            .build();
 
     public MatchDto getMatchById(Long id) {
         logger.info("Fetching match with ID: {}", id);
@@ -50,6 +61,13 @@ public class MatchService {
         }
     }
 
+    public List<MatchDto> getMatchesByIds(List<Long> ids) {
+        logger.info("Fetching matches by IDs: {}", ids);
+        List<MatchDto> matches = batchLookup.getAll("matches", ids, MatchDto.class, matchRepository::findAllById, matchMapper::toDto);
+        logger.info("Fetched {} of {} requested matches", matches.size(), ids.size());
+        return matches;
+    }
+
     @Transactional
     public MatchDto createMatch(MatchCreationDto match) {
         logger.info("Creating match with details: {}", match);
@@ -66,6 +84,9 @@ public class MatchService {
                 club.getMatches().add(matchCreated);
                 matchCreated.getClubs().add(club);
             }
+            if (!match.clubIds().isEmpty()) {
+                matchCreated.setHomeClubId(match.clubIds().get(0));
+            }
             Match savedMatch = matchRepository.save(matchCreated);
             logger.info("Match created successfully with ID: {}", savedMatch.getId());
             return matchMapper.toDto(savedMatch);
@@ -127,9 +148,7 @@ public class MatchService {
     public Page<MatchDto> getSortedMatches(String sortBy, String order, Pageable pageable) {
         logger.info("Fetching sorted matches by {} in {} order, pagination: {}", sortBy, order, pageable);
         try {
-            Sort sort = order.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-            Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
-            Page<Match> matchesPage = matchRepository.findAll(sortedPageable);
+            Page<Match> matchesPage = matchRepository.findAll(sortRegistry.sortedPageable(Match.class, sortBy, order, pageable));
             Page<MatchDto> result = matchesPage.map(match -> new MatchDto(
                     match.getId(), match.getCreatedAt(), match.getUpdatedAt(), match.getDate(),
                     match.getCity(), match.getScore()));
@@ -146,31 +165,32 @@ public class MatchService {
         logger.debug("Filter Criteria - Start Date: {}, End Date: {}, City: {}, Score: {}",
                 startDate, endDate, city, score);
         try {
-            Specification<Match> specification = Specification.where(null);
+            FilterDefinition.Filter<Match> filter = MATCH_FILTER.filter();
 
             if (startDate != null) {
                 logger.debug("Adding start date filter: {}", startDate);
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.greaterThanOrEqualTo(root.get("date"), startDate));
+                filter.where("startDate", startDate);
             }
             if (endDate != null) {
                 logger.debug("Adding end date filter: {}", endDate);
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.lessThanOrEqualTo(root.get("date"), endDate));
+                filter.where("endDate", endDate);
             }
             if (city != null) {
                 logger.debug("Adding city filter: {}", city);
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.equal(root.get("city"), city));
+                filter.where("city", city);
             }
             if (score != null && !score.isEmpty()) {
                 logger.debug("Adding score filter: {}", score);
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.equal(criteriaBuilder.lower(root.get("score")), score.toLowerCase()));
+                MatchScore parsedScore = MatchScore.parse(score);
+                if (parsedScore != null) {
+                    filter.where("goals", parsedScore.homeGoals(), parsedScore.awayGoals());
+                } else {
+                    filter.where("score", score.toLowerCase());
+                }
             }
 
             logger.info("Executing the filtered query...");
-            Page<Match> matchesPage = matchRepository.findAll(specification, pageable);
+            Page<Match> matchesPage = filterEngine.findAll(filter, pageable);
             logger.info("Fetched {} filtered matches", matchesPage.getTotalElements());
 
             return matchesPage.map(match -> new MatchDto(
@@ -0,0 +1,69 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.dto.PlayerSuggestionDto;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.index.PlayerAutocompleteIndex;
+import org.agency.course_work.repository.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@link PlayerAutocompleteIndex} in step with committed player writes.
+ * A write committed while the index is being rebuilt waits for the rebuild and is applied on top of it, so a row
+ * streamed from before the write cannot overwrite it.
+ */
+@Service
+public class PlayerAutocompleteService {
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final Logger logger = LoggerFactory.getLogger(PlayerAutocompleteService.class);
+    private final PlayerRepository playerRepository;
+    private final PlayerAutocompleteIndex index = new PlayerAutocompleteIndex();
+
+    public PlayerAutocompleteService(PlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        logger.info("Building player autocomplete index");
+        long started = System.nanoTime();
+        synchronized (this) {
+            index.clear();
+            try (Stream<PlayerRepository.NameView> players = playerRepository.streamAllNames()) {
+                players.forEach(player -> index.upsert(player.getId(), player.getName(), player.getSurname(), player.getNationality()));
+            }
+        }
+        logger.info("Player autocomplete index built with {} players in {} ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!(event.entity() instanceof Player player)) {
+            return;
+        }
+        synchronized (this) {
+            if (event.isLive()) {
+                index.upsert(player.getId(), player.getName(), player.getSurname(), player.getNationality());
+            } else {
+                index.remove(player.getId());
+            }
+        }
+    }
+
+    public List<PlayerSuggestionDto> suggest(String query, int limit) {
+        int cappedLimit = Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        return index.suggest(query, cappedLimit).stream()
+                .map(suggestion -> new PlayerSuggestionDto(suggestion.id(), suggestion.name(), suggestion.surname(), suggestion.nationality()))
+                .toList();
+    }
+}
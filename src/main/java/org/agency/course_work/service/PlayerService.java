@@ -1,10 +1,13 @@
 package org.agency.course_work.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.agency.course_work.config.MetricsConfig;
 import org.agency.course_work.dto.PlayerCreationDto;
 import org.agency.course_work.dto.PlayerDetailsDto;
 import org.agency.course_work.dto.PlayerDto;
 import org.agency.course_work.dto.PlayerAgentDto;
+import org.agency.course_work.dto.PlayerSearchResultDto;
 import org.agency.course_work.entity.*;
 import org.agency.course_work.enums.PlayerPosition;
 import org.agency.course_work.exception.*;
@@ -15,17 +18,17 @@ import org.agency.course_work.repository.PlayerRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.data.jpa.domain.Specification;
 
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @AllArgsConstructor
 @Transactional
 public class PlayerService {
@@ -33,6 +36,22 @@ public class PlayerService {
     private final PlayerMapper playerMapper;
     private final AgentRepository agentRepository;
     private final ClubRepository clubRepository;
+    private final ReferenceValidator referenceValidator;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final BatchLookup batchLookup;
+    private final FilterEngine filterEngine;
+    private final SortRegistry sortRegistry;
+    private final LeaderboardService leaderboardService;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final FilterDefinition<Player> PLAYER_FILTER = FilterDefinition.of(Player.class)
+            .criterion("age", "e.age = :age")
+            .criterion("name", "lower(e.name) like :name")
+            .criterion("surname", "lower(e.surname) like :surname")
+            .criterion("nationality", "lower(e.nationality) = :nationality")
+            .criterion("minValue", "e.value >= :minValue")
+            .criterion("maxValue", "e.value <= :maxValue")
+            .criterion("position", "e.position = :position")
+            .build();
     private static final Logger logger = LoggerFactory.getLogger(ClubService.class);
 
     @Transactional(readOnly = true)
@@ -50,6 +69,14 @@ public class PlayerService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public List<PlayerDto> getPlayersByIds(List<Long> ids) {
+        logger.info("Fetching players by IDs: {}", ids);
+        List<PlayerDto> players = batchLookup.getAll("players", ids, PlayerDto.class, playerRepository::findAllById, playerMapper::toDto);
+        logger.info("Fetched {} of {} requested players", players.size(), ids.size());
+        return players;
+    }
+
     @Transactional(readOnly = true)
     public Page<PlayerDto> getAllPlayers(Pageable pageable) {
         logger.info("Fetching all players with pagination: {}", pageable);
@@ -64,18 +91,27 @@ public class PlayerService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllPlayerFields(List<String> fields, Pageable pageable) {
+        logger.info("Fetching all players with fields: {} and pagination: {}", fields, pageable);
+        try {
+            Page<Map<String, Object>> playersPage = sparseFieldQuery.findAll(PLAYER_FILTER.filter(), fields, pageable);
+            logger.info("Successfully fetched {} players", playersPage.getTotalElements());
+            return playersPage;
+        } catch (Exception e) {
+            logger.error("Error fetching all players with fields: {}. Error: {}", fields, e.getMessage());
+            throw e;
+        }
+    }
+
     public PlayerDto createPlayer(PlayerCreationDto playerDto) {
         logger.info("Creating new player with agent ID: {} and club ID: {}", playerDto.agentId(), playerDto.clubId());
         try {
-            if (!agentRepository.existsById(playerDto.agentId())) {
-                logger.warn("Agent with ID: {} not found", playerDto.agentId());
-                throw new AgentNotFound("Agent not found with ID: " + playerDto.agentId());
-            }
+            referenceValidator.check()
+                    .require(Agent.class, playerDto.agentId())
+                    .require(Club.class, playerDto.clubId())
+                    .validate();
             Agent agent = agentRepository.getReferenceById(playerDto.agentId());
-            if (!clubRepository.existsById(playerDto.clubId())) {
-                logger.warn("Club with ID: {} not found", playerDto.clubId());
-                throw new ClubNotFound("Club not found with ID: " + playerDto.clubId());
-            }
             Club club = clubRepository.getReferenceById(playerDto.clubId());
             Player player = playerMapper.toEntity(playerDto);
             player.setAgent(agent);
@@ -177,8 +213,14 @@ public class PlayerService {
         logger.info("Fetching sorted players by: {} in {} order", sortBy, order);
 
         try {
-            Sort.Direction direction = "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
-            Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(direction, sortBy));
+            Pageable sortedPageable = sortRegistry.sortedPageable(Player.class, sortBy, order, pageable);
+            if ("value".equals(sortBy.trim()) && !"asc".equalsIgnoreCase(order)) {
+                Page<PlayerDto> ranked = leaderboardService.getPlayersByValue(sortedPageable);
+                if (ranked != null) {
+                    logger.info("Served players by value from the leaderboard");
+                    return ranked;
+                }
+            }
             Page<Player> players = playerRepository.findAll(sortedPageable);
 
             logger.info("Successfully fetched sorted players by: {} in {} order", sortBy, order);
@@ -192,44 +234,26 @@ public class PlayerService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getSortedPlayerFields(String sortBy, String order, List<String> fields, Pageable pageable) {
+        logger.info("Fetching sorted players by: {} in {} order with fields: {}", sortBy, order, fields);
+        try {
+            Page<Map<String, Object>> players = sparseFieldQuery.findAll(PLAYER_FILTER.filter(), fields, sortRegistry.sortedPageable(Player.class, sortBy, order, pageable));
+            logger.info("Successfully fetched sorted players by: {} in {} order", sortBy, order);
+            return players;
+        } catch (Exception e) {
+            logger.error("Error fetching sorted players by: {} in {} order with fields: {}. Error: {}", sortBy, order, fields, e.getMessage());
+            throw e;
+        }
+    }
+
     @Transactional(readOnly = true)
     public Page<PlayerDto> getFilteredPlayers(Integer age, String name, String surname, String nationality, BigDecimal minValue, BigDecimal maxValue, PlayerPosition position, Pageable pageable) {
         logger.info("Fetching filtered players with filters - Age: {}, Name: {}, Surname: {}, Nationality: {}, Min Value: {}, Max Value: {}, Position: {}",
                 age, name, surname, nationality, minValue, maxValue, position);
 
         try {
-            Specification<Player> specification = Specification.where(null);
-
-            if (age != null) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.equal(root.get("age"), age));
-            }
-            if (name != null && !name.isEmpty()) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
-            }
-            if (surname != null && !surname.isEmpty()) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("surname")), "%" + surname.toLowerCase() + "%"));
-            }
-            if (nationality != null && !nationality.isEmpty()) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.equal(criteriaBuilder.lower(root.get("nationality")), nationality.toLowerCase()));
-            }
-            if (minValue != null) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.greaterThanOrEqualTo(root.get("value"), minValue));
-            }
-            if (maxValue != null) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.lessThanOrEqualTo(root.get("value"), maxValue));
-            }
-            if (position != null) {
-                specification = specification.and((root, query, criteriaBuilder) ->
-                        criteriaBuilder.equal(root.get("position"), position));
-            }
-
-            Page<Player> players = playerRepository.findAll(specification, pageable);
+            Page<Player> players = filterEngine.findAll(playerFilter(age, name, surname, nationality, minValue, maxValue, position), pageable);
 
             logger.info("Successfully fetched filtered players with the provided filters.");
             return players.map(player -> new PlayerDto(player.getId(), player.getCreatedAt(), player.getUpdatedAt(), player.getName(),
@@ -242,6 +266,65 @@ public class PlayerService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getFilteredPlayerFields(Integer age, String name, String surname, String nationality, BigDecimal minValue, BigDecimal maxValue, PlayerPosition position,
+                                                             List<String> fields, Pageable pageable) {
+        logger.info("Fetching filtered players with fields: {} and filters - Age: {}, Name: {}, Surname: {}, Nationality: {}, Min Value: {}, Max Value: {}, Position: {}",
+                fields, age, name, surname, nationality, minValue, maxValue, position);
+        try {
+            Page<Map<String, Object>> players = sparseFieldQuery.findAll(
+                    playerFilter(age, name, surname, nationality, minValue, maxValue, position), fields, pageable);
+            logger.info("Successfully fetched filtered players with the provided filters.");
+            return players;
+        } catch (Exception e) {
+            logger.error("Error fetching filtered players with fields: {}. Error: {}", fields, e.getMessage());
+            throw e;
+        }
+    }
+
+    private static FilterDefinition.Filter<Player> playerFilter(Integer age, String name, String surname, String nationality,
+                                                               BigDecimal minValue, BigDecimal maxValue, PlayerPosition position) {
+        FilterDefinition.Filter<Player> filter = PLAYER_FILTER.filter();
+        if (age != null) {
+            filter.where("age", age);
+        }
+        if (name != null && !name.isEmpty()) {
+            filter.where("name", "%" + name.toLowerCase() + "%");
+        }
+        if (surname != null && !surname.isEmpty()) {
+            filter.where("surname", "%" + surname.toLowerCase() + "%");
+        }
+        if (nationality != null && !nationality.isEmpty()) {
+            filter.where("nationality", nationality.toLowerCase());
+        }
+        if (minValue != null) {
+            filter.where("minValue", minValue);
+        }
+        if (maxValue != null) {
+            filter.where("maxValue", maxValue);
+        }
+        if (position != null) {
+            filter.where("position", position);
+        }
+        return filter;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlayerSearchResultDto> searchPlayers(String query, int limit) {
+        logger.info("Searching players by name: {}, limit: {}", query, limit);
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        int cappedLimit = Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS);
+        List<PlayerSearchResultDto> results = playerRepository.searchByName(query.trim().toLowerCase(), cappedLimit).stream()
+                .map(hit -> new PlayerSearchResultDto(hit.getId(), hit.getName(), hit.getSurname(), hit.getNationality(),
+                        hit.getPosition() != null ? PlayerPosition.valueOf(hit.getPosition()) : null,
+                        hit.getSimilarity().doubleValue()))
+                .toList();
+        logger.info("Found {} players matching: {}", results.size(), query);
+        return results;
+    }
+
     @Transactional
     public void deletePlayerById(Long id) {
         logger.info("Attempting to mark Player with ID: {} as deleted", id);
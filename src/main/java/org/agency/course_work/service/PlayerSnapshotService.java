@@ -0,0 +1,95 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.agency.course_work.dto.SnapshotScanDto;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.enums.PlayerPosition;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.index.ParallelScan;
+import org.agency.course_work.index.PlayerSnapshot;
+import org.agency.course_work.repository.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the {@link PlayerSnapshot} and answers scouting scans over age, position, value and nationality from it.
+ * <p>
+ * A write committed while the snapshot is being rebuilt waits for the rebuild and is applied on top of it, so a row
+ * streamed from before the write cannot overwrite it.
+ */
+@Service
+public class PlayerSnapshotService {
+    public static final int MAX_IDS = 1000;
+    private static final Logger logger = LoggerFactory.getLogger(PlayerSnapshotService.class);
+    private final PlayerRepository playerRepository;
+    private final ParallelScan snapshotScan;
+    private final PlayerSnapshot snapshot;
+
+    public PlayerSnapshotService(PlayerRepository playerRepository, ParallelScan snapshotScan, MeterRegistry meterRegistry,
+                                 @Value("${player-snapshot.initial-capacity}") int initialCapacity) {
+        this.playerRepository = playerRepository;
+        this.snapshotScan = snapshotScan;
+        this.snapshot = new PlayerSnapshot(initialCapacity);
+        Gauge.builder("agency.players.snapshot.rows", snapshot, PlayerSnapshot::size)
+                .description("Players held in the off-heap snapshot")
+                .register(meterRegistry);
+        Gauge.builder("agency.players.snapshot.bytes", snapshot, PlayerSnapshot::offHeapBytes)
+                .description("Off-heap bytes reserved by the player snapshot columns")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        logger.info("Building player snapshot");
+        synchronized (this) {
+            snapshot.clear();
+            try (Stream<PlayerRepository.SnapshotView> players = playerRepository.streamSnapshot()) {
+                players.forEach(player -> snapshot.upsert(player.getId(), player.getAge(), player.getPosition(),
+                        player.getNationality(), player.getValue()));
+            }
+        }
+        logger.info("Player snapshot built with {} players in {} off-heap bytes", snapshot.size(), snapshot.offHeapBytes());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!(event.entity() instanceof Player player)) {
+            return;
+        }
+        synchronized (this) {
+            if (event.isLive()) {
+                snapshot.upsert(player.getId(), player.getAge(), player.getPosition(), player.getNationality(), player.getValue());
+            } else {
+                snapshot.remove(player.getId());
+            }
+        }
+    }
+
+    /**
+     * Counts the players matching the {@code getFilteredPlayers} criteria other than name and surname,
+     * and returns the ids of up to {@code limit} of them, most valuable first.
+     */
+    public SnapshotScanDto scan(Integer age, PlayerPosition position, String nationality, BigDecimal minValue,
+                                BigDecimal maxValue, int limit) {
+        logger.info("Scanning player snapshot - Age: {}, Position: {}, Nationality: {}, Min Value: {}, Max Value: {}",
+                age, position, nationality, minValue, maxValue);
+        PlayerSnapshot.Result result = snapshot.scan(
+                new PlayerSnapshot.Criteria(age, position, nationality, minValue, maxValue),
+                Math.min(Math.max(limit, 0), MAX_IDS), snapshotScan);
+        logger.debug("Player snapshot scan matched {} players", result.matches());
+        return new SnapshotScanDto(result.matches(), Arrays.stream(result.ids()).boxed().toList());
+    }
+}
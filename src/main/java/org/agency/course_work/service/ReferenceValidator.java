@@ -0,0 +1,118 @@
+package org.agency.course_work.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.BaseEntity;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Match;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.exception.AgentNotFound;
+import org.agency.course_work.exception.ClubNotFound;
+import org.agency.course_work.exception.ContractNotFound;
+import org.agency.course_work.exception.MatchNotFound;
+import org.agency.course_work.exception.PlayerNotFound;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Checks that referenced ids exist with one {@code id in (...)} query per entity type instead of an
+ * {@code existsById} per id. Ids found recently are remembered for a short while; soft deletes drop them at once.
+ */
+@Component
+public class ReferenceValidator {
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceValidator.class);
+    private static final Duration POSITIVE_TTL = Duration.ofSeconds(30);
+    private static final Map<Class<? extends BaseEntity>, Function<String, EntityNotFoundException>> NOT_FOUND = Map.of(
+            Agent.class, AgentNotFound::new,
+            Club.class, ClubNotFound::new,
+            Player.class, PlayerNotFound::new,
+            Contract.class, ContractNotFound::new,
+            Match.class, MatchNotFound::new);
+
+    private final EntityManager entityManager;
+    private final Cache<Reference, Boolean> existing = Caffeine.newBuilder()
+            .expireAfterWrite(POSITIVE_TTL)
+            .maximumSize(10_000)
+            .build();
+
+    public ReferenceValidator(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public Check check() {
+        return new Check();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!event.isLive()) {
+            existing.invalidate(new Reference(event.entity().getClass(), event.entity().getId()));
+        }
+    }
+
+    private record Reference(Class<?> type, Long id) {
+    }
+
+    /**
+     * Collects the ids one request or batch refers to. Types are verified in the order they were first required,
+     * and the first missing id is reported with the same not-found exception the services used to throw.
+     */
+    public class Check {
+        private final Map<Class<? extends BaseEntity>, Set<Long>> idsByType = new LinkedHashMap<>();
+
+        public Check require(Class<? extends BaseEntity> type, Long id) {
+            return requireAll(type, List.of(Objects.requireNonNull(id, "The given id must not be null")));
+        }
+
+        public Check requireAll(Class<? extends BaseEntity> type, Collection<Long> ids) {
+            idsByType.computeIfAbsent(type, key -> new LinkedHashSet<>()).addAll(ids);
+            return this;
+        }
+
+        public void validate() {
+            idsByType.forEach(ReferenceValidator.this::validate);
+        }
+    }
+
+    private void validate(Class<? extends BaseEntity> type, Set<Long> ids) {
+        Set<Long> unknown = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (existing.getIfPresent(new Reference(type, id)) == null) {
+                unknown.add(id);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+        String entityName = entityManager.getMetamodel().entity(type).getName();
+        Set<Long> found = new HashSet<>(entityManager
+                .createQuery("select e.id from " + entityName + " e where e.id in :ids", Long.class)
+                .setParameter("ids", unknown)
+                .getResultList());
+        for (Long id : unknown) {
+            if (!found.contains(id)) {
+                logger.warn("{} with ID: {} not found", type.getSimpleName(), id);
+                throw NOT_FOUND.get(type).apply(type.getSimpleName() + " not found with ID: " + id);
+            }
+            existing.put(new Reference(type, id), Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.BaseEntity;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Match;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.exception.InvalidSortField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields each entity's {@code /sort} endpoint may order by.
+ * <p>
+ * Only fields with a partial {@code (field, id)} index are listed, and {@code id} is always appended in the same
+ * direction, so every accepted sort is an index scan that stops after one page and pages never overlap on ties.
+ * Any other field is rejected with a 400 and counted in {@code agency.sort.rejected}.
+ */
+@Component
+public class SortRegistry {
+    private static final String ID = "id";
+    private static final Logger logger = LoggerFactory.getLogger(SortRegistry.class);
+
+    private static final Map<Class<? extends BaseEntity>, Set<String>> SORTABLE = Map.of(
+            Player.class, Set.of(ID, "value", "age", "surname"),
+            Agent.class, Set.of(ID, "lastName"),
+            Club.class, Set.of(ID, "name", "budget"),
+            Contract.class, Set.of(ID, "startDate", "endDate", "salary"),
+            Match.class, Set.of(ID, "date"));
+
+    private final MeterRegistry meterRegistry;
+
+    public SortRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns {@code pageable}'s page and size sorted by {@code sortBy}, then {@code id}.
+     * A missing {@code sortBy} sorts by {@code id}; any {@code order} other than {@code asc} sorts descending.
+     */
+    public Pageable sortedPageable(Class<? extends BaseEntity> type, String sortBy, String order, Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort(type, sortBy, order));
+    }
+
+    public Sort sort(Class<? extends BaseEntity> type, String sortBy, String order) {
+        Sort.Direction direction = "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        String field = sortBy == null ? "" : sortBy.trim();
+        if (field.isEmpty() || field.equals(ID)) {
+            return Sort.by(direction, ID);
+        }
+        Set<String> sortable = SORTABLE.get(type);
+        if (!sortable.contains(field)) {
+            logger.warn("Rejected sort on unindexed field '{}' for {}", field, type.getSimpleName());
+            Counter.builder("agency.sort.rejected")
+                    .description("Sort requests refused because the field has no supporting index")
+                    .tag("entity", type.getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw new InvalidSortField("Cannot sort " + type.getSimpleName() + " by '" + field
+                    + "'. Sortable fields: " + String.join(", ", sortable.stream().sorted().toList()));
+        }
+        return Sort.by(direction, field, ID);
+    }
+}
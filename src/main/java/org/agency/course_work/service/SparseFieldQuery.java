@@ -0,0 +1,62 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.BaseEntity;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.exception.InvalidFieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs list queries that select only the columns a client asked for with {@code fields=}.
+ * <p>
+ * The selection is run through {@link FilterEngine} with the same filter as the full listing, so criteria,
+ * soft-delete clauses and sorting are unchanged while the other columns are never read, mapped or serialized.
+ * Each row is returned as a map in the requested order, and {@code id} is always included.
+ */
+@Component
+public class SparseFieldQuery {
+    private static final String ID = "id";
+
+    private static final Map<Class<? extends BaseEntity>, Set<String>> SELECTABLE = Map.of(
+            Player.class, Set.of(ID, "createdAt", "updatedAt", "name", "surname", "age", "position", "nationality", "value"),
+            Agent.class, Set.of(ID, "createdAt", "updatedAt", "firstName", "lastName", "phoneNumber", "commissionRate"),
+            Contract.class, Set.of(ID, "createdAt", "updatedAt", "startDate", "endDate", "salary"));
+
+    private final FilterEngine filterEngine;
+
+    public SparseFieldQuery(FilterEngine filterEngine) {
+        this.filterEngine = filterEngine;
+    }
+
+    public <T extends BaseEntity> Page<Map<String, Object>> findAll(FilterDefinition.Filter<T> filter, List<String> fields,
+                                                                   Pageable pageable) {
+        return filterEngine.findAll(filter, resolve(filter.definition().type(), fields), pageable);
+    }
+
+    private static List<String> resolve(Class<? extends BaseEntity> type, List<String> fields) {
+        Set<String> selectable = SELECTABLE.get(type);
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(ID);
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!selectable.contains(name)) {
+                throw new InvalidFieldSelection("Unknown field '" + name + "' for " + type.getSimpleName()
+                        + ". Selectable fields: " + String.join(", ", selectable.stream().sorted().toList()));
+            }
+            selected.add(name);
+        }
+        return new ArrayList<>(selected);
+    }
+}
@@ -0,0 +1,120 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.dto.CityStatsDto;
+import org.agency.course_work.dto.ClubStandingDto;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.EntityIds;
+import org.agency.course_work.entity.Match;
+import org.agency.course_work.enums.City;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.index.LeagueTable;
+import org.agency.course_work.repository.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the in-memory {@link LeagueTable} in step with committed match and club writes.
+ */
+@Service
+public class StandingsService {
+    private static final Logger logger = LoggerFactory.getLogger(StandingsService.class);
+    private final MatchRepository matchRepository;
+    private final LeagueTable leagueTable = new LeagueTable();
+
+    public StandingsService(MatchRepository matchRepository) {
+        this.matchRepository = matchRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        logger.info("Building league table");
+        leagueTable.clear();
+        List<Long> deletedClubIds = new ArrayList<>();
+        try (Stream<MatchRepository.ResultView> results = matchRepository.streamResults()) {
+            results.forEach(result -> {
+                leagueTable.apply(result.getMatchId(), result.getHomeClubId(), result.getHomeClubName(),
+                        result.getAwayClubId(), result.getAwayClubName(), result.getHomeGoals(), result.getAwayGoals(),
+                        result.getCity() != null ? City.valueOf(result.getCity()) : null);
+                if (Boolean.TRUE.equals(result.getHomeClubDeleted())) {
+                    deletedClubIds.add(result.getHomeClubId());
+                }
+                if (Boolean.TRUE.equals(result.getAwayClubDeleted())) {
+                    deletedClubIds.add(result.getAwayClubId());
+                }
+            });
+        }
+        deletedClubIds.forEach(leagueTable::hideClub);
+        logger.info("League table built with {} clubs", leagueTable.standings().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof Match match) {
+            onMatchChanged(match, event.isLive());
+        } else if (event.entity() instanceof Club club) {
+            if (event.isLive()) {
+                leagueTable.renameClub(club.getId(), club.getName());
+            } else {
+                leagueTable.hideClub(club.getId());
+            }
+        }
+    }
+
+    private void onMatchChanged(Match match, boolean live) {
+        if (!live || match.getHomeGoals() == null || match.getAwayGoals() == null) {
+            leagueTable.remove(match.getId());
+            return;
+        }
+        long[] known = leagueTable.clubsOf(match.getId());
+        if (known != null) {
+            leagueTable.apply(match.getId(), known[0], null, known[1], null,
+                    match.getHomeGoals(), match.getAwayGoals(), match.getCity());
+            return;
+        }
+        Club home = null;
+        Club away = null;
+        for (Club club : match.getClubs()) {
+            if (EntityIds.idOf(club).equals(match.getHomeClubId())) {
+                home = club;
+            } else {
+                away = club;
+            }
+        }
+        if (home == null || away == null) {
+            logger.warn("Match with ID: {} has no home and away club, skipping it in the league table", match.getId());
+            return;
+        }
+        leagueTable.apply(match.getId(), home.getId(), home.getName(), away.getId(), away.getName(),
+                match.getHomeGoals(), match.getAwayGoals(), match.getCity());
+    }
+
+    public List<ClubStandingDto> getStandings() {
+        List<LeagueTable.Standing> standings = leagueTable.standings();
+        List<ClubStandingDto> result = new ArrayList<>(standings.size());
+        for (int i = 0; i < standings.size(); i++) {
+            LeagueTable.Standing standing = standings.get(i);
+            result.add(new ClubStandingDto(i + 1, standing.clubId(), standing.clubName(), standing.played(),
+                    standing.won(), standing.drawn(), standing.lost(), standing.goalsFor(), standing.goalsAgainst(),
+                    standing.goalDifference(), standing.points()));
+        }
+        return result;
+    }
+
+    public List<CityStatsDto> getCityStats() {
+        return leagueTable.cityStats().stream()
+                .map(stats -> new CityStatsDto(stats.city(), stats.matches(), stats.goals(),
+                        stats.matches() > 0 ? (double) stats.goals() / stats.matches() : 0,
+                        stats.homeWins(), stats.draws(), stats.awayWins()))
+                .toList();
+    }
+}
@@ -0,0 +1,8 @@
+-- V6 only parsed scores written exactly as "X:Y", while MatchScore also accepts blanks around the numbers.
+-- Fill in the goals of legacy scores such as " 2 : 1 " with the same pattern MatchScore uses.
+
+update matches
+set home_goals = trim(split_part(score, ':', 1))::integer,
+    away_goals = trim(split_part(score, ':', 2))::integer
+where home_goals is null
+  and score ~ '^\s*\d{1,2}\s*:\s*\d{1,2}\s*$';
@@ -0,0 +1,7 @@
+-- The last day the contract expiry scan ran, so a restart resumes from it instead of skipping the missed days.
+
+create table contract_expiry_scans (
+    id           integer not null check (id = 1),
+    last_scanned date    not null,
+    primary key (id)
+);
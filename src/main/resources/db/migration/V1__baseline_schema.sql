@@ -0,0 +1,92 @@
+-- Schema as previously generated by hibernate.ddl-auto=update.
+-- Databases created that way are baselined at version 1 and skip this script.
+
+create table agents (
+    id              bigint generated by default as identity,
+    created_at      timestamp(6) not null,
+    updated_at      timestamp(6),
+    is_deleted      boolean default false not null,
+    first_name      varchar(255),
+    last_name       varchar(255),
+    phone_number    varchar(255),
+    commission_rate varchar(255) check (commission_rate in ('LOW', 'MEDIUM', 'HIGH', 'PREMIUM')),
+    primary key (id)
+);
+
+create table clubs (
+    id         bigint generated by default as identity,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    is_deleted boolean default false not null,
+    name       varchar(255),
+    stadium    varchar(255) check (stadium in ('CAMP_NOU', 'OLD_TRAFFORD', 'ALLIANZ_ARENA', 'SANTIAGO_BERNABEU',
+                                               'WEMBLEY', 'SAN_SIRO', 'EMIRATES_STADIUM')),
+    country    varchar(255),
+    budget     numeric(38, 2),
+    primary key (id)
+);
+
+create table players (
+    id          bigint generated by default as identity,
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6),
+    is_deleted  boolean default false not null,
+    name        varchar(255),
+    surname     varchar(255),
+    age         integer not null,
+    position    varchar(255) check (position in ('GOALKEPPER', 'DEFENDER', 'MIDFILDER', 'WINGER', 'FORWARD')),
+    nationality varchar(255),
+    value       numeric(38, 2),
+    agent_id    bigint,
+    club_id     bigint,
+    primary key (id),
+    constraint fk_players_agent foreign key (agent_id) references agents,
+    constraint fk_players_club foreign key (club_id) references clubs
+);
+
+create table contracts (
+    id         bigint generated by default as identity,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    is_deleted boolean default false not null,
+    start_date date,
+    end_date   date,
+    salary     numeric(38, 2),
+    player_id  bigint not null,
+    club_id    bigint not null,
+    agent_id   bigint not null,
+    primary key (id),
+    constraint fk_contracts_player foreign key (player_id) references players,
+    constraint fk_contracts_club foreign key (club_id) references clubs,
+    constraint fk_contracts_agent foreign key (agent_id) references agents
+);
+
+create table matches (
+    id         bigint generated by default as identity,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    is_deleted boolean default false not null,
+    date       date,
+    city       varchar(255) check (city in ('BARCELONA', 'MANCHESTER', 'MUNICH', 'MADRID', 'LONDON', 'MILAN')),
+    score      varchar(255),
+    primary key (id)
+);
+
+create table club_match (
+    club_id  bigint not null,
+    match_id bigint not null,
+    primary key (club_id, match_id),
+    constraint fk_club_match_club foreign key (club_id) references clubs,
+    constraint fk_club_match_match foreign key (match_id) references matches
+);
+
+create sequence user_id_seq start with 1 increment by 1;
+
+create table users (
+    id       bigint not null,
+    username varchar(255) not null unique,
+    password varchar(255) not null,
+    email    varchar(255) not null unique,
+    role     varchar(255) not null check (role in ('ROLE_USER', 'ROLE_ADMIN')),
+    primary key (id)
+);
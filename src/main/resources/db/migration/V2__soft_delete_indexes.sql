@@ -0,0 +1,31 @@
+-- Every entity is read through @Where(clause = "is_deleted = false"), so indexes only cover live rows.
+
+-- Foreign keys
+create index idx_players_agent_id on players (agent_id) where is_deleted = false;
+create index idx_players_club_id on players (club_id) where is_deleted = false;
+create index idx_contracts_player_id on contracts (player_id) where is_deleted = false;
+create index idx_contracts_club_id on contracts (club_id) where is_deleted = false;
+create index idx_contracts_agent_id on contracts (agent_id) where is_deleted = false;
+create index idx_club_match_match_id on club_match (match_id);
+
+-- Filter and sort columns
+create index idx_players_value on players (value) where is_deleted = false;
+create index idx_players_age on players (age) where is_deleted = false;
+create index idx_players_position_value on players (position, value) where is_deleted = false;
+create index idx_players_nationality on players (lower(nationality)) where is_deleted = false;
+create index idx_players_surname on players (surname) where is_deleted = false;
+
+create index idx_contracts_start_date on contracts (start_date) where is_deleted = false;
+create index idx_contracts_end_date on contracts (end_date) where is_deleted = false;
+create index idx_contracts_salary on contracts (salary) where is_deleted = false;
+
+create index idx_clubs_budget on clubs (budget) where is_deleted = false;
+create index idx_clubs_name on clubs (name) where is_deleted = false;
+create index idx_clubs_country on clubs (lower(country)) where is_deleted = false;
+create index idx_clubs_stadium on clubs (stadium) where is_deleted = false;
+
+create index idx_agents_last_name on agents (last_name) where is_deleted = false;
+create index idx_agents_commission_rate on agents (commission_rate) where is_deleted = false;
+
+create index idx_matches_date on matches (date) where is_deleted = false;
+create index idx_matches_city_date on matches (city, date) where is_deleted = false;
@@ -0,0 +1,7 @@
+create extension if not exists pg_trgm;
+
+-- Serve fuzzy search as well as the existing lower(...) like '%x%' filters.
+create index idx_players_name_trgm on players using gin (lower(name) gin_trgm_ops) where is_deleted = false;
+create index idx_players_surname_trgm on players using gin (lower(surname) gin_trgm_ops) where is_deleted = false;
+create index idx_agents_first_name_trgm on agents using gin (lower(first_name) gin_trgm_ops) where is_deleted = false;
+create index idx_agents_last_name_trgm on agents using gin (lower(last_name) gin_trgm_ops) where is_deleted = false;
@@ -0,0 +1,20 @@
+-- Salary committed per club and calendar-year season, kept up to date by ContractService.
+-- A contract counts its salary in every season from its start year to its end year.
+
+create table club_season_payroll (
+    club_id        bigint                   not null,
+    season         integer                  not null,
+    total_salary   numeric(38, 2) default 0 not null,
+    contract_count integer        default 0 not null,
+    primary key (club_id, season),
+    constraint fk_club_season_payroll_club foreign key (club_id) references clubs
+);
+
+insert into club_season_payroll (club_id, season, total_salary, contract_count)
+select c.club_id, s.season, sum(coalesce(c.salary, 0)), count(*)
+from contracts c
+         cross join lateral generate_series(extract(year from c.start_date)::integer,
+                                            extract(year from coalesce(c.end_date, c.start_date))::integer) as s(season)
+where c.is_deleted = false
+  and c.start_date is not null
+group by c.club_id, s.season;
@@ -0,0 +1,18 @@
+-- Structured match results. Goals are parsed from the "X:Y" score text, home side first.
+-- Which club was at home was never stored, so existing matches take their lowest club id as the home club.
+
+alter table matches
+    add column home_goals   integer,
+    add column away_goals   integer,
+    add column home_club_id bigint,
+    add constraint fk_matches_home_club foreign key (home_club_id) references clubs;
+
+update matches
+set home_goals = split_part(score, ':', 1)::integer,
+    away_goals = split_part(score, ':', 2)::integer
+where score ~ '^\d{1,2}:\d{1,2}$';
+
+update matches m
+set home_club_id = (select min(cm.club_id) from club_match cm where cm.match_id = m.id);
+
+create index idx_matches_goals on matches (home_goals, away_goals) where is_deleted = false;
@@ -0,0 +1,7 @@
+-- Let the conditional GET list fingerprint read max(updated_at) from an index instead of the table.
+
+create index idx_players_updated_at on players (updated_at) where is_deleted = false;
+create index idx_clubs_updated_at on clubs (updated_at) where is_deleted = false;
+create index idx_contracts_updated_at on contracts (updated_at) where is_deleted = false;
+create index idx_agents_updated_at on agents (updated_at) where is_deleted = false;
+create index idx_matches_updated_at on matches (updated_at) where is_deleted = false;
@@ -0,0 +1,27 @@
+-- The /sort endpoints order by the requested field and then id, so each sortable field is indexed together with id.
+-- The old single-column indexes are replaced under the same names; their lookups are served by the leading column.
+
+drop index idx_players_value;
+drop index idx_players_age;
+drop index idx_players_surname;
+create index idx_players_value on players (value, id) where is_deleted = false;
+create index idx_players_age on players (age, id) where is_deleted = false;
+create index idx_players_surname on players (surname, id) where is_deleted = false;
+
+drop index idx_contracts_start_date;
+drop index idx_contracts_end_date;
+drop index idx_contracts_salary;
+create index idx_contracts_start_date on contracts (start_date, id) where is_deleted = false;
+create index idx_contracts_end_date on contracts (end_date, id) where is_deleted = false;
+create index idx_contracts_salary on contracts (salary, id) where is_deleted = false;
+
+drop index idx_clubs_budget;
+drop index idx_clubs_name;
+create index idx_clubs_budget on clubs (budget, id) where is_deleted = false;
+create index idx_clubs_name on clubs (name, id) where is_deleted = false;
+
+drop index idx_agents_last_name;
+create index idx_agents_last_name on agents (last_name, id) where is_deleted = false;
+
+drop index idx_matches_date;
+create index idx_matches_date on matches (date, id) where is_deleted = false;
@@ -0,0 +1,36 @@
+-- Commission rates for agent_portfolio, written from the CommissionRate enum by AgentPortfolioService on startup
+-- so the view no longer repeats them. Rates missing here count as zero commission until the rows are written.
+
+create table commission_rates (
+    commission_rate varchar(255) not null,
+    rate            numeric(5, 4) not null,
+    primary key (commission_rate)
+);
+
+drop materialized view agent_portfolio;
+
+create materialized view agent_portfolio as
+select a.id                                              as agent_id,
+       a.first_name,
+       a.last_name,
+       a.commission_rate,
+       coalesce(p.player_count, 0)                       as player_count,
+       coalesce(p.total_value, 0)                        as total_value,
+       coalesce(p.average_value, 0)                      as average_value,
+       coalesce(c.total_salary, 0)                       as total_salary,
+       coalesce(c.total_salary, 0) * coalesce(r.rate, 0) as expected_commission
+from agents a
+         left join commission_rates r on r.commission_rate = a.commission_rate
+         left join (select agent_id, count(*) as player_count, sum(value) as total_value, avg(value) as average_value
+                    from players
+                    where is_deleted = false
+                    group by agent_id) p on p.agent_id = a.id
+         left join (select agent_id, sum(salary) as total_salary
+                    from contracts
+                    where is_deleted = false
+                      and (end_date is null or end_date >= current_date)
+                    group by agent_id) c on c.agent_id = a.id
+where a.is_deleted = false;
+
+create unique index idx_agent_portfolio_agent_id on agent_portfolio (agent_id);
+create index idx_agent_portfolio_expected_commission on agent_portfolio (expected_commission desc, agent_id);
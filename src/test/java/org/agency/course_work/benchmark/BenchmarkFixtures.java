@@ -0,0 +1,202 @@
+package org.agency.course_work.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.agency.course_work.dto.PlayerDto;
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.enums.CommissionRate;
+import org.agency.course_work.enums.PlayerPosition;
+import org.agency.course_work.enums.Stadium;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class BenchmarkFixtures {
+    private BenchmarkFixtures() {
+    }
+
+    static Agent agent() {
+        Agent agent = new Agent();
+        agent.setId(3L);
+        agent.setFirstName("Jorge");
+        agent.setLastName("Mendes");
+        agent.setPhoneNumber("+351210000000");
+        agent.setCommissionRate(CommissionRate.HIGH);
+        return agent;
+    }
+
+    static Club club() {
+        Club club = new Club();
+        club.setId(5L);
+        club.setName("FC Barcelona");
+        club.setStadium(Stadium.CAMP_NOU);
+        club.setCountry("Spain");
+        club.setBudget(new BigDecimal("850000000.00"));
+        return club;
+    }
+
+    static Player player() {
+        Player player = new Player();
+        player.setId(7L);
+        player.setCreatedAt(LocalDateTime.of(2024, 1, 10, 12, 0));
+        player.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 30));
+        player.setName("Pedri");
+        player.setSurname("Gonzalez");
+        player.setAge(22);
+        player.setPosition(PlayerPosition.MIDFILDER);
+        player.setNationality("Spain");
+        player.setValue(new BigDecimal("100000000.00"));
+        player.setAgent(agent());
+        player.setClub(club());
+        return player;
+    }
+
+    static Contract contract() {
+        Contract contract = new Contract();
+        contract.setId(11L);
+        contract.setStartDate(LocalDate.of(2022, 7, 1));
+        contract.setEndDate(LocalDate.of(2026, 6, 30));
+        contract.setSalary(new BigDecimal("12000000.00"));
+        Player player = player();
+        contract.setPlayer(player);
+        contract.setClub(player.getClub());
+        contract.setAgent(player.getAgent());
+        return contract;
+    }
+
+    static List<PlayerDto> players(int count) {
+        List<PlayerDto> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(new PlayerDto((long) i, LocalDateTime.of(2024, 1, 10, 12, 0), LocalDateTime.of(2024, 6, 1, 9, 30),
+                    "Name" + i, "Surname" + i, 18 + i % 20, PlayerPosition.values()[i % PlayerPosition.values().length],
+                    "Spain", BigDecimal.valueOf(1_000_000L + i * 1000L, 2)));
+        }
+        return players;
+    }
+
+    static List<Player> playerEntities(int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Player player = new Player();
+            player.setId((long) i);
+            player.setCreatedAt(LocalDateTime.of(2024, 1, 10, 12, 0));
+            player.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 30));
+            player.setName("Name" + i);
+            player.setSurname("Surname" + i);
+            player.setAge(18 + i % 20);
+            player.setPosition(PlayerPosition.values()[i % PlayerPosition.values().length]);
+            player.setNationality("Spain");
+            player.setValue(BigDecimal.valueOf(1_000_000L + i * 1000L, 2));
+            players.add(player);
+        }
+        return players;
+    }
+
+    /**
+     * The player's columns by attribute name, as a projection query reads them.
+     */
+    static Map<String, Object> columns(Player player) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("id", player.getId());
+        columns.put("createdAt", player.getCreatedAt());
+        columns.put("updatedAt", player.getUpdatedAt());
+        columns.put("name", player.getName());
+        columns.put("surname", player.getSurname());
+        columns.put("age", player.getAge());
+        columns.put("position", player.getPosition());
+        columns.put("nationality", player.getNationality());
+        columns.put("value", player.getValue());
+        return columns;
+    }
+
+    /**
+     * Repository stub whose paged queries return an empty page, so only the work done around the query is measured.
+     */
+    static <R> R emptyRepository(Class<R> type) {
+        return pagedRepository(type, List.of(), 0);
+    }
+
+    /**
+     * Repository stub whose paged queries return {@code content} as the first page of {@code total} rows.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> R pagedRepository(Class<R> type, List<?> content, long total) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName();
+                };
+            }
+            if (method.getReturnType() == Page.class) {
+                for (Object arg : args) {
+                    if (arg instanceof Pageable pageable) {
+                        return content.isEmpty() ? Page.empty(pageable) : new PageImpl<>(content, pageable, total);
+                    }
+                }
+                return Page.empty();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    /**
+     * Entity manager stub whose queries accept any parameters and return no rows and a zero count.
+     */
+    static EntityManager emptyEntityManager() {
+        return entityManager(List.of(), 0L);
+    }
+
+    /**
+     * Entity manager stub whose queries accept any parameters, return {@code rows} as tuples keyed by attribute
+     * name and count {@code total}.
+     */
+    static EntityManager tupleEntityManager(List<Map<String, Object>> rows, long total) {
+        return entityManager(rows.stream().map(BenchmarkFixtures::tuple).toList(), total);
+    }
+
+    private static Tuple tuple(Map<String, Object> columns) {
+        return (Tuple) Proxy.newProxyInstance(Tuple.class.getClassLoader(), new Class<?>[]{Tuple.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> columns.get((String) args[0]);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> columns.toString();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static EntityManager entityManager(List<?> resultList, long total) {
+        TypedQuery<?> query = (TypedQuery<?>) Proxy.newProxyInstance(TypedQuery.class.getClassLoader(),
+                new Class<?>[]{TypedQuery.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getResultList" -> resultList;
+                    case "getSingleResult" -> total;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "TypedQuery";
+                    default -> proxy;
+                });
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(),
+                new Class<?>[]{EntityManager.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "createQuery" -> query;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "EntityManager";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,29 @@
+package org.agency.course_work.benchmark;
+
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.service.ContractPdfGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class ContractPdfBenchmark {
+    private final ContractPdfGenerator generator = new ContractPdfGenerator();
+    private Contract contract;
+
+    @Setup
+    public void setUp() {
+        contract = BenchmarkFixtures.contract();
+    }
+
+    @Benchmark
+    public byte[] generatePdf() throws IOException {
+        return generator.generate(contract);
+    }
+}
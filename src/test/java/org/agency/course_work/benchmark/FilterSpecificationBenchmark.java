@@ -0,0 +1,84 @@
+package org.agency.course_work.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.agency.course_work.dto.*;
+import org.agency.course_work.enums.City;
+import org.agency.course_work.enums.CommissionRate;
+import org.agency.course_work.enums.PlayerPosition;
+import org.agency.course_work.enums.Stadium;
+import org.agency.course_work.mapper.*;
+import org.agency.course_work.repository.*;
+import org.agency.course_work.service.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and binding the dynamic filters in the getFiltered* service methods, with plans served from the
+ * {@link FilterEngine} cache and an entity manager stub that returns no rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class FilterSpecificationBenchmark {
+    private final Pageable pageable = PageRequest.of(0, 20);
+    private PlayerService playerService;
+    private ClubService clubService;
+    private AgentService agentService;
+    private ContractService contractService;
+    private MatchService matchService;
+
+    @Setup
+    public void setUp() {
+        PlayerRepository playerRepository = BenchmarkFixtures.emptyRepository(PlayerRepository.class);
+        ClubRepository clubRepository = BenchmarkFixtures.emptyRepository(ClubRepository.class);
+        AgentRepository agentRepository = BenchmarkFixtures.emptyRepository(AgentRepository.class);
+        ContractRepository contractRepository = BenchmarkFixtures.emptyRepository(ContractRepository.class);
+        MatchRepository matchRepository = BenchmarkFixtures.emptyRepository(MatchRepository.class);
+
+        FilterEngine filterEngine = new FilterEngine(BenchmarkFixtures.emptyEntityManager(), new SimpleMeterRegistry(), 256);
+
+        playerService = new PlayerService(playerRepository, new PlayerMapperImpl(), agentRepository, clubRepository, null, null, null, filterEngine, null, null);
+        clubService = new ClubService(clubRepository, new ClubMapperImpl(), null, filterEngine, null);
+        agentService = new AgentService(agentRepository, new AgentMapperImpl(), null, null, filterEngine, null);
+        contractService = new ContractService(contractRepository, new ContractMapperImpl(), clubRepository,
+                playerRepository, agentRepository, new SimpleMeterRegistry(), new ContractPdfGenerator(), null, null, null, null, filterEngine, null, null);
+        matchService = new MatchService(matchRepository, new MatchMapperImpl(), clubRepository, null, filterEngine, null);
+    }
+
+    @Benchmark
+    public Page<PlayerDto> filteredPlayers() {
+        return playerService.getFilteredPlayers(22, "ped", "gon", "Spain", BigDecimal.ONE, BigDecimal.TEN,
+                PlayerPosition.MIDFILDER, pageable);
+    }
+
+    @Benchmark
+    public Page<ClubDto> filteredClubs() {
+        return clubService.getFilteredClubs("barc", Stadium.CAMP_NOU, "Spain", BigDecimal.ONE, BigDecimal.TEN, pageable);
+    }
+
+    @Benchmark
+    public Page<AgentDto> filteredAgents() {
+        return agentService.getFilteredAgents("jor", "men", "351", CommissionRate.HIGH, null, pageable);
+    }
+
+    @Benchmark
+    public Page<ContractDto> filteredContracts() {
+        return contractService.getFilteredContracts(LocalDate.of(2022, 1, 1), LocalDate.of(2026, 1, 1),
+                BigDecimal.ONE, BigDecimal.TEN, pageable);
+    }
+
+    @Benchmark
+    public Page<MatchDto> filteredMatches() {
+        return matchService.getFilteredMatches(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), City.MADRID,
+                "2:1", pageable);
+    }
+}
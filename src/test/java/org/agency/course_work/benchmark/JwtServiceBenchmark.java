@@ -0,0 +1,47 @@
+package org.agency.course_work.benchmark;
+
+import org.agency.course_work.entity.User;
+import org.agency.course_work.enums.Role;
+import org.agency.course_work.service.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class JwtServiceBenchmark {
+    private static final String SIGNING_KEY = "53A73E5F1C4E0A2D3B5F2D784E6A1B423D6F247D1F6E5C3A596D635A75327855";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSigningKey", SIGNING_KEY);
+        user = User.builder()
+                .id(1L)
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .password("secret")
+                .role(Role.ROLE_USER)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUserName() {
+        return jwtService.extractUserName(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+}
@@ -0,0 +1,46 @@
+package org.agency.course_work.benchmark;
+
+import org.agency.course_work.dto.ContractDto;
+import org.agency.course_work.dto.PlayerDto;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.mapper.ContractMapper;
+import org.agency.course_work.mapper.ContractMapperImpl;
+import org.agency.course_work.mapper.PlayerMapper;
+import org.agency.course_work.mapper.PlayerMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class MapperBenchmark {
+    private final PlayerMapper playerMapper = new PlayerMapperImpl();
+    private final ContractMapper contractMapper = new ContractMapperImpl();
+    private Player player;
+    private Contract contract;
+    private ContractDto contractUpdate;
+
+    @Setup
+    public void setUp() {
+        player = BenchmarkFixtures.player();
+        contract = BenchmarkFixtures.contract();
+        contractUpdate = new ContractDto(null, null, null, null, LocalDate.of(2028, 6, 30), new BigDecimal("15000000.00"));
+    }
+
+    @Benchmark
+    public PlayerDto playerToDto() {
+        return playerMapper.toDto(player);
+    }
+
+    @Benchmark
+    public Contract contractPartialUpdate() {
+        return contractMapper.partialUpdate(contractUpdate, contract);
+    }
+}
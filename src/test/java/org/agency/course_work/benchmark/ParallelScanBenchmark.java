@@ -0,0 +1,75 @@
+package org.agency.course_work.benchmark;
+
+import org.agency.course_work.enums.PlayerPosition;
+import org.agency.course_work.index.ContractSnapshot;
+import org.agency.course_work.index.ParallelScan;
+import org.agency.course_work.index.PlayerSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans a million-row player and contract snapshot for the top 100 matches with the fork/join executor at 1, 4 and 16
+ * workers. One worker runs the whole scan on the calling thread, which is the single-threaded baseline.
+ * Run with {@code mvn -Pbenchmark -DskipTests -Djmh.includes=ParallelScanBenchmark verify} on a host with at least 16
+ * cores; with fewer, the extra workers only time-slice and the results say nothing about scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class ParallelScanBenchmark {
+    private static final String[] NATIONALITIES = {"Spain", "France", "Brazil", "Argentina", "England", "Germany",
+            "Portugal", "Italy", "Netherlands", "Belgium"};
+
+    @Param({"1", "4", "16"})
+    public int threads;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private PlayerSnapshot players;
+    private ContractSnapshot contracts;
+    private ParallelScan executor;
+    private final PlayerSnapshot.Criteria playerCriteria = new PlayerSnapshot.Criteria(
+            null, PlayerPosition.MIDFILDER, "spain", new BigDecimal("5000000"), null);
+    private final ContractSnapshot.Criteria contractCriteria = new ContractSnapshot.Criteria(
+            LocalDate.of(2022, 1, 1), LocalDate.of(2028, 12, 31), new BigDecimal("100000"), null);
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        PlayerPosition[] positions = PlayerPosition.values();
+        players = new PlayerSnapshot(rows);
+        contracts = new ContractSnapshot(rows);
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        for (int id = 1; id <= rows; id++) {
+            players.upsert(id, 16 + random.nextInt(24), positions[random.nextInt(positions.length)],
+                    NATIONALITIES[random.nextInt(NATIONALITIES.length)], BigDecimal.valueOf(random.nextLong(20_000_000_000L), 2));
+            LocalDate start = base.plusDays(random.nextInt(3650));
+            contracts.upsert(id, start, start.plusDays(365L * (1 + random.nextInt(5))),
+                    BigDecimal.valueOf(random.nextInt(50_000_000), 2));
+        }
+        executor = new ParallelScan(threads, 16_384);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public PlayerSnapshot.Result scanPlayers() {
+        return players.scan(playerCriteria, 100, executor);
+    }
+
+    @Benchmark
+    public ContractSnapshot.Result scanContracts() {
+        return contracts.scan(contractCriteria, 100, executor);
+    }
+}
@@ -0,0 +1,85 @@
+package org.agency.course_work.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.mapper.PlayerMapperImpl;
+import org.agency.course_work.repository.PlayerRepository;
+import org.agency.course_work.service.FilterEngine;
+import org.agency.course_work.service.PlayerService;
+import org.agency.course_work.service.SparseFieldQuery;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lists one page of players through {@link PlayerService#getAllPlayers} or, with {@code fields=}, through
+ * {@link PlayerService#getAllPlayerFields}, and serializes it. The sparse path runs the {@link SparseFieldQuery}
+ * selection, the {@link FilterEngine} projection plan and the tuple-to-map mapping; the full path runs the entity mapper.
+ * Repository and entity manager stubs return a full page of rows, so the database read itself is not measured.
+ * An empty {@code fields} parameter is the full listing. {@code payloadBytes} divided by {@code pages} is the
+ * serialized size of one page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class SparseFieldsetBenchmark {
+    private static final long TOTAL_PLAYERS = 100_000;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"", "name,value", "name,surname,position,value"})
+    public String fields;
+
+    private ObjectMapper objectMapper;
+    private PlayerService playerService;
+    private Pageable pageable;
+    private List<String> selection;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long pages;
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pages = 0;
+            payloadBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Player> players = BenchmarkFixtures.playerEntities(pageSize);
+        PlayerRepository playerRepository = BenchmarkFixtures.pagedRepository(PlayerRepository.class, players, TOTAL_PLAYERS);
+        FilterEngine filterEngine = new FilterEngine(BenchmarkFixtures.tupleEntityManager(
+                players.stream().map(BenchmarkFixtures::columns).toList(), TOTAL_PLAYERS), new SimpleMeterRegistry(), 256);
+        playerService = new PlayerService(playerRepository, new PlayerMapperImpl(), null, null, null,
+                new SparseFieldQuery(filterEngine), null, filterEngine, null, null);
+        pageable = PageRequest.of(0, pageSize);
+        selection = fields.isEmpty() ? null : List.of(fields.split(","));
+    }
+
+    @Benchmark
+    public byte[] listPage(Payload payload) throws JsonProcessingException {
+        Page<?> page = selection == null
+                ? playerService.getAllPlayers(pageable)
+                : playerService.getAllPlayerFields(selection, pageable);
+        byte[] json = objectMapper.writeValueAsBytes(page);
+        payload.pages++;
+        payload.payloadBytes += json.length;
+        return json;
+    }
+}
@@ -0,0 +1,121 @@
+package org.agency.course_work.config;
+
+import org.agency.course_work.dto.ClubDto;
+import org.agency.course_work.service.ClubService;
+import org.agency.course_work.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The services are mocks, so a 304 that reaches the controller would show up as an interaction.
+ * The serialized response cache is off so that every 304 comes from the interceptor.
+ */
+@SpringBootTest(properties = "response-cache.enabled=false")
+@AutoConfigureMockMvc
+@WithMockUser
+@Transactional
+class ConditionalGetInterceptorTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private ClubService clubService;
+
+    @MockBean
+    private PlayerService playerService;
+
+    @Test
+    void matchingEntityTagSkipsTheController() throws Exception {
+        Long id = jdbcTemplate.queryForObject(
+                "insert into clubs (created_at, updated_at, name) values (now(), now(), 'Barcelona') returning id", Long.class);
+        when(clubService.getClubById(id)).thenReturn(new ClubDto(id, LocalDateTime.now(), null, "Barcelona", null, null, null));
+
+        String etag = mockMvc.perform(get("/api/clubs/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/clubs/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(clubService, times(1)).getClubById(id);
+    }
+
+    @Test
+    void matchingListTagSkipsTheController() throws Exception {
+        when(playerService.getSortedPlayers(any(), any(), any())).thenReturn(Page.empty());
+
+        String etag = mockMvc.perform(get("/api/players/sorted?sortBy=value"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/players/sorted?sortBy=value").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/players/sorted?sortBy=age").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        verify(playerService, times(2)).getSortedPlayers(any(), any(), any());
+    }
+
+    @Test
+    void listsAreNotValidatedByDate() throws Exception {
+        when(playerService.getSortedPlayers(any(), any(), any())).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/players/sorted?sortBy=value"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+        mockMvc.perform(get("/api/players/sorted?sortBy=value").header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 01 Jan 2100 00:00:00 GMT"))
+                .andExpect(status().isOk());
+
+        verify(playerService, times(2)).getSortedPlayers(any(), any(), any());
+    }
+
+    @Test
+    void softDeletingTheNewestRowChangesTheListTag() throws Exception {
+        when(playerService.getSortedPlayers(any(), any(), any())).thenReturn(Page.empty());
+        jdbcTemplate.update("insert into players (created_at, updated_at, name, age) values (now(), now(), 'Older', 20)");
+        Long newest = jdbcTemplate.queryForObject("insert into players (created_at, updated_at, name, age) "
+                + "values (now(), now() + interval '1 day', 'Newest', 20) returning id", Long.class);
+
+        String etag = mockMvc.perform(get("/api/players/sorted?sortBy=value"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        jdbcTemplate.update("update players set is_deleted = true where id = ?", newest);
+
+        mockMvc.perform(get("/api/players/sorted?sortBy=value").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        verify(playerService, times(2)).getSortedPlayers(any(), any(), any());
+    }
+
+    @Test
+    void staleEntityTagReachesTheController() throws Exception {
+        Long id = jdbcTemplate.queryForObject(
+                "insert into clubs (created_at, updated_at, name) values (now(), now(), 'Milan') returning id", Long.class);
+        when(clubService.getClubById(id)).thenReturn(new ClubDto(id, LocalDateTime.now(), null, "Milan", null, null, null));
+
+        mockMvc.perform(get("/api/clubs/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"Club-" + id + "-stale\""))
+                .andExpect(status().isOk());
+
+        verify(clubService).getClubById(id);
+    }
+}
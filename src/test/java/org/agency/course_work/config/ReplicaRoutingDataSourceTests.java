@@ -0,0 +1,56 @@
+package org.agency.course_work.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Points the single replica at the primary database; the pools tell themselves apart through the Postgres application name.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.urls=${spring.datasource.url}",
+        "datasource.replica.stickiness=1m"
+})
+class ReplicaRoutingDataSourceTests {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertThat(target(true)).isEqualTo("replica-1");
+        assertThat(target(false)).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readsStayOnPrimaryAfterWriteBySameUser() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("writer", null, "ROLE_USER"));
+        assertThat(target(false)).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(target(true)).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("reader", null, "ROLE_USER"));
+        assertThat(target(true)).isEqualTo("replica-1");
+    }
+
+    private String target(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select current_setting('application_name')", String.class));
+    }
+}
@@ -0,0 +1,81 @@
+package org.agency.course_work.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheFilterTests {
+    private final SerializedResponseCacheFilter filter = new SerializedResponseCacheFilter(
+            new SimpleMeterRegistry(), true, 1024, Duration.ofMinutes(1), 1 << 20, 1 << 20, 1 << 20);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    void repeatedRequestIsServedFromTheCache() throws Exception {
+        FilterChain chain = (request, response) -> render(response);
+
+        assertThat(get(chain).getContentAsString()).isEqualTo("[1]");
+        assertThat(get(chain).getContentAsString()).isEqualTo("[1]");
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void writeCommittedAfterTheResponseIsStoredEvictsIt() throws Exception {
+        FilterChain chain = (request, response) -> render(response);
+
+        get(chain);
+        filter.onEntityChanged(new EntityChangedEvent(new Player(), EntityChangedEvent.ChangeType.UPDATED));
+        assertThat(get(chain).getContentAsString()).isEqualTo("[2]");
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void responseRenderedWhileAWriteCommitsIsNotStored() throws Exception {
+        FilterChain racing = (request, response) -> {
+            render(response);
+            filter.onEntityChanged(new EntityChangedEvent(new Player(), EntityChangedEvent.ChangeType.UPDATED));
+        };
+
+        assertThat(get(racing).getContentAsString()).isEqualTo("[1]");
+        assertThat(get((request, response) -> render(response)).getContentAsString()).isEqualTo("[2]");
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void writesToUnrelatedEntitiesKeepTheRegion() throws Exception {
+        FilterChain racing = (request, response) -> {
+            render(response);
+            filter.onEntityChanged(new EntityChangedEvent(new Club(), EntityChangedEvent.ChangeType.UPDATED));
+        };
+
+        get(racing);
+        get(racing);
+        assertThat(renders).hasValue(1);
+    }
+
+    private void render(ServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("[" + renders.incrementAndGet() + "]");
+        response.getWriter().flush();
+    }
+
+    private MockHttpServletResponse get(FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/players");
+        request.setQueryString("page=0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,25 @@
+package org.agency.course_work.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class SqlProfilingFilterTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void playerWithAgentLookupIssuesSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/players/{id}/with-agent", Long.MAX_VALUE))
+                .andExpect(header().string(SqlProfilingFilter.STATEMENTS_HEADER, "1"));
+    }
+}
@@ -0,0 +1,71 @@
+package org.agency.course_work.entity;
+
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class EntityToStringTests {
+    private static final Logger logger = LoggerFactory.getLogger(EntityToStringTests.class);
+
+    @Test
+    void contractPrintsAssociationIdsWithoutInitializingProxies() {
+        Player player = proxyOf(Player.class, 7L);
+        Club club = proxyOf(Club.class, 3L);
+        Agent agent = proxyOf(Agent.class, 5L);
+        Contract contract = new Contract();
+        contract.setId(1L);
+        contract.setPlayer(player);
+        contract.setClub(club);
+        contract.setAgent(agent);
+
+        String description = contract.toString();
+        logger.debug("Found contract: {}", contract);
+
+        assertThat(description).contains("id=1", "playerId=7", "clubId=3", "agentId=5");
+        verify((HibernateProxy) player).getHibernateLazyInitializer();
+        verify((HibernateProxy) club).getHibernateLazyInitializer();
+        verify((HibernateProxy) agent).getHibernateLazyInitializer();
+        verifyNoMoreInteractions(player, club, agent);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void entitiesNeverTouchLazyCollections() {
+        Set<Contract> contracts = mock(Set.class);
+        Set<Match> matches = mock(Set.class);
+        Set<Player> players = mock(Set.class);
+        Set<Club> clubs = mock(Set.class);
+
+        Club club = new Club();
+        club.setContracts(contracts);
+        club.setMatches(matches);
+        Agent agent = new Agent();
+        agent.setPlayers(players);
+        agent.setContracts(contracts);
+        Match match = new Match();
+        match.setClubs(clubs);
+        Player player = new Player();
+        player.setContracts(contracts);
+        player.setAgent(agent);
+
+        logger.debug("Entities: {}, {}, {}, {}", club, agent, match, player);
+        assertThat(club.toString() + agent + match + player).isNotEmpty();
+
+        verifyNoInteractions(contracts, matches, players, clubs);
+    }
+
+    private static <T extends BaseEntity> T proxyOf(Class<T> type, Long id) {
+        T proxy = mock(type, withSettings().extraInterfaces(HibernateProxy.class));
+        LazyInitializer initializer = mock(LazyInitializer.class);
+        when(initializer.getIdentifier()).thenReturn(id);
+        when(((HibernateProxy) proxy).getHibernateLazyInitializer()).thenReturn(initializer);
+        return proxy;
+    }
+}
@@ -0,0 +1,29 @@
+package org.agency.course_work.entity;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchScoreTests {
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "2:1     | 2 | 1",
+            "0:0     | 0 | 0",
+            "10:12   | 10 | 12",
+            "' 2 : 1 ' | 2 | 1",
+            "'03:7'  | 3 | 7"
+    })
+    void parsesHomeGoalsFirst(String score, int homeGoals, int awayGoals) {
+        assertThat(MatchScore.parse(score)).isEqualTo(new MatchScore(homeGoals, awayGoals));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "2-1", "2:", ":1", "123:1", "2:1:0", "a:b", "2 1", "-1:2"})
+    void rejectsAnythingElse(String score) {
+        assertThat(MatchScore.parse(score)).isNull();
+    }
+}
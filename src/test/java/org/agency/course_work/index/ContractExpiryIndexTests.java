@@ -0,0 +1,76 @@
+package org.agency.course_work.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractExpiryIndexTests {
+    private static final LocalDate DAY = LocalDate.of(2026, 6, 30);
+
+    private final ContractExpiryIndex index = new ContractExpiryIndex();
+
+    @Test
+    void boundsAreInclusiveAndResultsEarliestFirst() {
+        index.upsert(expiry(1, DAY.minusDays(1), 10L, 100L));
+        index.upsert(expiry(2, DAY.plusDays(5), 10L, 100L));
+        index.upsert(expiry(3, DAY, 10L, 100L));
+        index.upsert(expiry(4, DAY.plusDays(6), 10L, 100L));
+
+        assertThat(ids(ContractExpiryIndex.Scope.ALL, null, DAY, DAY.plusDays(5), 10)).containsExactly(3L, 2L);
+        assertThat(ids(ContractExpiryIndex.Scope.ALL, null, DAY, DAY, 10)).containsExactly(3L);
+        assertThat(ids(ContractExpiryIndex.Scope.ALL, null, DAY.plusDays(1), DAY, 10)).isEmpty();
+    }
+
+    @Test
+    void scopesFilterByAgentAndClub() {
+        index.upsert(expiry(1, DAY, 10L, 100L));
+        index.upsert(expiry(2, DAY, 11L, 100L));
+        index.upsert(expiry(3, DAY, 10L, 101L));
+        index.upsert(expiry(4, DAY, null, null));
+
+        assertThat(ids(ContractExpiryIndex.Scope.AGENT, 10L, DAY, DAY, 10)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(ContractExpiryIndex.Scope.CLUB, 100L, DAY, DAY, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(ContractExpiryIndex.Scope.AGENT, 99L, DAY, DAY, 10)).isEmpty();
+        assertThat(ids(ContractExpiryIndex.Scope.ALL, null, DAY, DAY, 10)).hasSize(4);
+    }
+
+    @Test
+    void limitCutsAcrossDays() {
+        for (int i = 0; i < 5; i++) {
+            index.upsert(expiry(i, DAY.plusDays(i), 10L, 100L));
+        }
+
+        assertThat(ids(ContractExpiryIndex.Scope.ALL, null, DAY, DAY.plusDays(10), 3)).containsExactly(0L, 1L, 2L);
+        assertThat(ids(ContractExpiryIndex.Scope.AGENT, 10L, DAY, DAY.plusDays(10), 0)).isEmpty();
+    }
+
+    @Test
+    void upsertMovesAContractAndRemoveDropsIt() {
+        index.upsert(expiry(1, DAY, 10L, 100L));
+        index.upsert(expiry(1, DAY.plusDays(3), 11L, 100L));
+
+        assertThat(ids(ContractExpiryIndex.Scope.ALL, null, DAY, DAY, 10)).isEmpty();
+        assertThat(ids(ContractExpiryIndex.Scope.AGENT, 10L, DAY, DAY.plusDays(3), 10)).isEmpty();
+        assertThat(ids(ContractExpiryIndex.Scope.AGENT, 11L, DAY, DAY.plusDays(3), 10)).containsExactly(1L);
+
+        index.upsert(expiry(1, null, 11L, 100L));
+        assertThat(index.size()).isZero();
+
+        index.upsert(expiry(2, DAY, 10L, 100L));
+        index.remove(2);
+        index.remove(3);
+        assertThat(ids(ContractExpiryIndex.Scope.CLUB, 100L, DAY, DAY, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    private List<Long> ids(ContractExpiryIndex.Scope scope, Long scopeId, LocalDate from, LocalDate to, int limit) {
+        return index.expiring(scope, scopeId, from, to, limit).stream().map(ContractExpiryIndex.Expiry::contractId).toList();
+    }
+
+    private static ContractExpiryIndex.Expiry expiry(long id, LocalDate endDate, Long agentId, Long clubId) {
+        return new ContractExpiryIndex.Expiry(id, endDate, agentId, clubId, id + 1000);
+    }
+}
@@ -0,0 +1,152 @@
+package org.agency.course_work.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTests {
+    private final Leaderboard<String> board = new Leaderboard<>(3);
+
+    @BeforeEach
+    void setUp() {
+        board.clear();
+    }
+
+    @Test
+    void newBoardAnswersNothingUntilFilled() {
+        Leaderboard<String> fresh = new Leaderboard<>(3);
+        fresh.upsert(1, BigDecimal.TEN, () -> "1");
+
+        assertThat(fresh.slice(0, 1)).isNull();
+
+        assertThat(fresh.reload(fresh.version(), List.of(entry(2, 20)))).isTrue();
+        assertThat(fresh.slice(0, 3)).containsExactly("2");
+    }
+
+    @Test
+    void ranksByScoreThenIdDescending() {
+        put(1, 10);
+        put(2, 30);
+        put(3, 30);
+
+        assertThat(board.slice(0, 3)).containsExactly("3", "2", "1");
+        assertThat(board.slice(1, 5)).containsExactly("2", "1");
+    }
+
+    @Test
+    void overflowDropsTheLastAndReadsPastThePrefixReturnNull() {
+        for (int id = 1; id <= 5; id++) {
+            put(id, id * 10);
+        }
+
+        assertThat(board.size()).isEqualTo(3);
+        assertThat(board.slice(0, 3)).containsExactly("5", "4", "3");
+        assertThat(board.slice(2, 1)).containsExactly("3");
+        assertThat(board.slice(2, 2)).isNull();
+        assertThat(board.slice(3, 1)).isNull();
+    }
+
+    @Test
+    void rowMovingDownPastTheLastLeavesAnIncompleteBoard() {
+        for (int id = 1; id <= 5; id++) {
+            put(id, id * 10);
+        }
+
+        put(5, 5);
+
+        // rows 1 and 2 are not on the board, so the board cannot tell where 5 now ranks
+        assertThat(board.slice(0, 2)).containsExactly("4", "3");
+        assertThat(board.slice(0, 3)).isNull();
+    }
+
+    @Test
+    void rowMovingDownWithinTheBoardKeepsItsPlace() {
+        for (int id = 1; id <= 5; id++) {
+            put(id, id * 10);
+        }
+
+        put(5, 35);
+        put(3, 45);
+
+        assertThat(board.slice(0, 3)).containsExactly("3", "4", "5");
+    }
+
+    @Test
+    void newRowBelowTheLastOnlyEntersACompleteBoard() {
+        put(1, 10);
+        put(2, 20);
+        assertThat(board.slice(0, 3)).containsExactly("2", "1");
+
+        put(3, 30);
+        put(4, 40);
+        put(5, 5);
+
+        assertThat(board.slice(0, 3)).containsExactly("4", "3", "2");
+    }
+
+    @Test
+    void removalsShrinkTheBoardWithoutGaps() {
+        for (int id = 1; id <= 4; id++) {
+            put(id, id * 10);
+        }
+
+        board.remove(3);
+        board.upsert(4, null, () -> "4");
+
+        assertThat(board.slice(0, 1)).containsExactly("2");
+        assertThat(board.slice(0, 2)).isNull();
+    }
+
+    @Test
+    void reloadRefillsTheBoard() {
+        for (int id = 1; id <= 5; id++) {
+            put(id, id * 10);
+        }
+        board.remove(5);
+
+        assertThat(board.reload(board.version(), List.of(entry(4, 40), entry(3, 30), entry(2, 20)))).isTrue();
+        assertThat(board.slice(0, 3)).containsExactly("4", "3", "2");
+        assertThat(board.slice(0, 4)).isNull();
+
+        assertThat(board.reload(board.version(), List.of(entry(4, 40)))).isTrue();
+        assertThat(board.slice(0, 3)).containsExactly("4");
+    }
+
+    @Test
+    void reloadRacingAWriteKeepsTheWrite() {
+        for (int id = 1; id <= 5; id++) {
+            put(id, id * 10);
+        }
+        long version = board.version();
+        List<Leaderboard.Entry<String>> readBeforeTheWrite = List.of(entry(5, 50), entry(4, 40), entry(3, 30));
+
+        put(6, 60);
+
+        assertThat(board.reload(version, readBeforeTheWrite)).isFalse();
+        assertThat(board.slice(0, 3)).containsExactly("6", "5", "4");
+    }
+
+    @Test
+    void clearMakesTheBoardCompleteAgain() {
+        for (int id = 1; id <= 5; id++) {
+            put(id, id * 10);
+        }
+
+        board.clear();
+        put(1, 10);
+
+        assertThat(board.slice(0, 3)).containsExactly("1");
+    }
+
+    private void put(long id, long score) {
+        board.upsert(id, BigDecimal.valueOf(score), () -> Long.toString(id));
+    }
+
+    private static Leaderboard.Entry<String> entry(long id, long score) {
+        return new Leaderboard.Entry<>(id, BigDecimal.valueOf(score), Long.toString(id));
+    }
+}
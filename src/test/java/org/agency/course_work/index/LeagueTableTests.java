@@ -0,0 +1,82 @@
+package org.agency.course_work.index;
+
+import org.agency.course_work.enums.City;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeagueTableTests {
+    private final LeagueTable table = new LeagueTable();
+
+    @Test
+    void applyCountsResultsForBothClubsAndTheCity() {
+        table.apply(1, 10, "Barcelona", 20, "Real Madrid", 2, 1, City.BARCELONA);
+        table.apply(2, 20, "Real Madrid", 30, "Atletico", 1, 1, City.MADRID);
+
+        assertThat(table.standings()).containsExactly(
+                new LeagueTable.Standing(10, "Barcelona", 1, 1, 0, 0, 2, 1, 3),
+                new LeagueTable.Standing(30, "Atletico", 1, 0, 1, 0, 1, 1, 1),
+                new LeagueTable.Standing(20, "Real Madrid", 2, 0, 1, 1, 2, 3, 1));
+        assertThat(table.cityStats()).contains(
+                new LeagueTable.CityStats(City.BARCELONA, 1, 3, 1, 0, 0),
+                new LeagueTable.CityStats(City.MADRID, 1, 2, 0, 1, 0));
+    }
+
+    @Test
+    void reapplyReplacesThePreviousResult() {
+        table.apply(1, 10, "Barcelona", 20, "Real Madrid", 2, 1, City.BARCELONA);
+        table.apply(1, 10, "Barcelona", 20, "Real Madrid", 0, 3, City.MADRID);
+
+        assertThat(table.standings()).containsExactly(
+                new LeagueTable.Standing(20, "Real Madrid", 1, 1, 0, 0, 3, 0, 3),
+                new LeagueTable.Standing(10, "Barcelona", 1, 0, 0, 1, 0, 3, 0));
+        assertThat(table.cityStats()).contains(
+                new LeagueTable.CityStats(City.BARCELONA, 0, 0, 0, 0, 0),
+                new LeagueTable.CityStats(City.MADRID, 1, 3, 0, 0, 1));
+    }
+
+    @Test
+    void reapplyCanMoveAMatchToOtherClubs() {
+        table.apply(1, 10, "Barcelona", 20, "Real Madrid", 2, 1, City.BARCELONA);
+        table.apply(1, 10, "Barcelona", 30, "Atletico", 2, 1, City.BARCELONA);
+
+        assertThat(table.standings()).extracting(LeagueTable.Standing::clubId).containsExactly(10L, 30L);
+        assertThat(table.clubsOf(1)).containsExactly(10L, 30L);
+    }
+
+    @Test
+    void removeTakesTheResultBackOut() {
+        table.apply(1, 10, "Barcelona", 20, "Real Madrid", 2, 1, City.BARCELONA);
+        table.apply(2, 10, "Barcelona", 20, "Real Madrid", 1, 1, null);
+        table.remove(1);
+        table.remove(99);
+
+        assertThat(table.standings()).containsExactly(
+                new LeagueTable.Standing(10, "Barcelona", 1, 0, 1, 0, 1, 1, 1),
+                new LeagueTable.Standing(20, "Real Madrid", 1, 0, 1, 0, 1, 1, 1));
+        assertThat(table.cityStats()).allSatisfy(stats -> assertThat(stats.matches()).isZero());
+        assertThat(table.clubsOf(1)).isNull();
+
+        table.remove(2);
+        assertThat(table.standings()).isEmpty();
+    }
+
+    @Test
+    void tiesBreakOnGoalDifferenceThenGoalsThenClubId() {
+        table.apply(1, 10, "A", 40, "D", 1, 0, null);
+        table.apply(2, 20, "B", 40, "D", 3, 2, null);
+        table.apply(3, 30, "C", 40, "D", 3, 2, null);
+
+        assertThat(table.standings()).extracting(LeagueTable.Standing::clubId).containsExactly(20L, 30L, 10L, 40L);
+    }
+
+    @Test
+    void hiddenClubsStillCountForOpponents() {
+        table.apply(1, 10, "Barcelona", 20, "Real Madrid", 2, 1, City.BARCELONA);
+        table.hideClub(20);
+        table.renameClub(10, "FC Barcelona");
+
+        assertThat(table.standings()).containsExactly(
+                new LeagueTable.Standing(10, "FC Barcelona", 1, 1, 0, 0, 2, 1, 3));
+    }
+}
@@ -0,0 +1,203 @@
+package org.agency.course_work.index;
+
+import org.agency.course_work.enums.PlayerPosition;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelScanTests {
+    private static final int[] PARALLELISM = {1, 4, 16};
+
+    @Test
+    void everyParallelismReturnsTheSameCountAndIds() {
+        Random random = new Random(3);
+        long[] scores = new long[10_007];
+        for (int row = 0; row < scores.length; row++) {
+            scores[row] = random.nextInt(50);
+        }
+        ParallelScan.RangeScan evenScores = (from, to, top) -> {
+            long matches = 0;
+            for (int row = from; row < to; row++) {
+                if (scores[row] % 2 == 0) {
+                    top.offer(scores[row], row);
+                    matches++;
+                }
+            }
+            return matches;
+        };
+
+        List<Long> expected = new ArrayList<>();
+        for (int row = 0; row < scores.length; row++) {
+            if (scores[row] % 2 == 0) {
+                expected.add((long) row);
+            }
+        }
+        expected.sort(Comparator.<Long>comparingLong(row -> scores[row.intValue()]).thenComparingLong(row -> row).reversed());
+
+        for (int k : new int[]{0, 1, 100, expected.size() + 10}) {
+            for (int parallelism : PARALLELISM) {
+                try (ParallelScan executor = new ParallelScan(parallelism, 97)) {
+                    ParallelScan.Result result = executor.run(scores.length, k, evenScores);
+
+                    assertThat(result.matches()).as("parallelism %d, k %d", parallelism, k).isEqualTo(expected.size());
+                    assertThat(result.top().ids()).as("parallelism %d, k %d", parallelism, k)
+                            .containsExactly(expected.stream().limit(k).mapToLong(Long::longValue).toArray());
+                }
+            }
+        }
+    }
+
+    @Test
+    void snapshotsScanTheSameAtEveryParallelism() {
+        Random random = new Random(5);
+        PlayerPosition[] positions = PlayerPosition.values();
+        String[] nationalities = {"Spain", "France", "Brazil"};
+        PlayerSnapshot players = new PlayerSnapshot(16);
+        ContractSnapshot contracts = new ContractSnapshot(16);
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        for (int id = 1; id <= 5_000; id++) {
+            players.upsert(id, 18 + random.nextInt(10), positions[random.nextInt(positions.length)],
+                    nationalities[random.nextInt(nationalities.length)], BigDecimal.valueOf(random.nextInt(200), 1));
+            LocalDate start = base.plusDays(random.nextInt(1000));
+            contracts.upsert(id, start, start.plusDays(365), BigDecimal.valueOf(random.nextInt(200), 1));
+        }
+        for (int id = 1; id <= 5_000; id += 7) {
+            players.remove(id);
+            contracts.remove(id);
+        }
+        PlayerSnapshot.Criteria playerCriteria = new PlayerSnapshot.Criteria(null, null, "spain", new BigDecimal("5"), null);
+        ContractSnapshot.Criteria contractCriteria = new ContractSnapshot.Criteria(
+                LocalDate.of(2021, 1, 1), LocalDate.of(2023, 12, 31), new BigDecimal("3"), null);
+
+        PlayerSnapshot.Result expectedPlayers;
+        ContractSnapshot.Result expectedContracts;
+        try (ParallelScan single = new ParallelScan(1, 1)) {
+            expectedPlayers = players.scan(playerCriteria, 50, single);
+            expectedContracts = contracts.scan(contractCriteria, 50, single);
+        }
+        assertThat(expectedPlayers.ids()).hasSize(50);
+        assertThat(expectedContracts.ids()).hasSize(50);
+
+        for (int parallelism : PARALLELISM) {
+            try (ParallelScan executor = new ParallelScan(parallelism, 33)) {
+                PlayerSnapshot.Result playerResult = players.scan(playerCriteria, 50, executor);
+                ContractSnapshot.Result contractResult = contracts.scan(contractCriteria, 50, executor);
+
+                assertThat(playerResult.matches()).isEqualTo(expectedPlayers.matches());
+                assertThat(playerResult.ids()).containsExactly(expectedPlayers.ids());
+                assertThat(contractResult.matches()).isEqualTo(expectedContracts.matches());
+                assertThat(contractResult.ids()).containsExactly(expectedContracts.ids());
+            }
+        }
+    }
+
+    @Test
+    void unevenSplitsCoverEveryRowOnce() {
+        for (int rows : new int[]{10, 17, 33, 1_000}) {
+            for (int parallelism : PARALLELISM) {
+                ConcurrentLinkedQueue<int[]> ranges = new ConcurrentLinkedQueue<>();
+                try (ParallelScan executor = new ParallelScan(parallelism, 1)) {
+                    ParallelScan.Result result = executor.run(rows, 3, (from, to, top) -> {
+                        ranges.add(new int[]{from, to});
+                        for (int row = from; row < to; row++) {
+                            top.offer(row % 5, row);
+                        }
+                        return to - from;
+                    });
+
+                    assertThat(result.matches()).isEqualTo(rows);
+                    assertThat(result.top().ids()).containsExactly(bestByRemainder(rows, 3));
+                }
+                int[][] sorted = ranges.toArray(int[][]::new);
+                Arrays.sort(sorted, Comparator.comparingInt(range -> range[0]));
+                assertThat(sorted.length).isLessThanOrEqualTo(parallelism);
+                int next = 0;
+                for (int[] range : sorted) {
+                    assertThat(range[0]).as("%d rows at parallelism %d", rows, parallelism).isEqualTo(next);
+                    assertThat(range[1]).isGreaterThan(range[0]);
+                    next = range[1];
+                }
+                assertThat(next).isEqualTo(rows);
+            }
+        }
+    }
+
+    @Test
+    void emptyScansAndChunksWithoutMatchesReturnNothing() {
+        for (int parallelism : PARALLELISM) {
+            try (ParallelScan executor = new ParallelScan(parallelism, 1)) {
+                ParallelScan.Result none = executor.run(0, 10, (from, to, top) -> {
+                    throw new AssertionError("no rows to scan");
+                });
+                assertThat(none.matches()).isZero();
+                assertThat(none.top().ids()).isEmpty();
+
+                ParallelScan.Result lastRowOnly = executor.run(64, 10, (from, to, top) -> {
+                    if (to == 64) {
+                        top.offer(1, 63);
+                        return 1;
+                    }
+                    return 0;
+                });
+                assertThat(lastRowOnly.matches()).isEqualTo(1);
+                assertThat(lastRowOnly.top().ids()).containsExactly(63);
+            }
+        }
+    }
+
+    @Test
+    void topKBreaksTiesOnTheHigherId() {
+        TopK top = new TopK(3);
+        for (long id : new long[]{4, 9, 1, 7, 3}) {
+            top.offer(10, id);
+        }
+        top.offer(5, 100);
+
+        TopK.Sorted sorted = top.drain();
+        assertThat(sorted.ids()).containsExactly(9, 7, 4);
+        assertThat(sorted.scores()).containsExactly(10, 10, 10);
+    }
+
+    @Test
+    void topKOfZeroKeepsNothing() {
+        TopK top = new TopK(0);
+        top.offer(10, 1);
+
+        assertThat(top.drain().size()).isZero();
+    }
+
+    @Test
+    void mergeKeepsTheBestKOfBothRankings() {
+        TopK.Sorted left = new TopK.Sorted(new long[]{9, 5, 5}, new long[]{1, 8, 2});
+        TopK.Sorted right = new TopK.Sorted(new long[]{7, 5}, new long[]{3, 6});
+
+        assertThat(left.merge(right, 10).ids()).containsExactly(1, 3, 8, 6, 2);
+        assertThat(left.merge(right, 3).ids()).containsExactly(1, 3, 8);
+        assertThat(right.merge(left, 3).ids()).containsExactly(1, 3, 8);
+        assertThat(left.merge(right, 0).size()).isZero();
+        assertThat(TopK.Sorted.EMPTY.merge(TopK.Sorted.EMPTY, 0).size()).isZero();
+        assertThat(TopK.Sorted.EMPTY.merge(right, 1).ids()).containsExactly(3);
+        assertThat(left.merge(TopK.Sorted.EMPTY, 2).ids()).containsExactly(1, 8);
+    }
+
+    /**
+     * The {@code k} best rows below {@code rows} when each row scores {@code row % 5}.
+     */
+    private static long[] bestByRemainder(int rows, int k) {
+        return LongStream.range(0, rows).boxed()
+                .sorted(Comparator.<Long>comparingLong(row -> row % 5).thenComparingLong(row -> row).reversed())
+                .limit(k)
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
@@ -0,0 +1,129 @@
+package org.agency.course_work.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerAutocompleteIndexTests {
+    private final PlayerAutocompleteIndex index = new PlayerAutocompleteIndex();
+
+    @Test
+    void prefixesOfEveryTokenMatch() {
+        index.upsert(1, "Pedro", "Gonzalez", "Spain");
+        index.upsert(2, "Pablo", "Gavi", "Spain");
+        index.upsert(3, "Jude", "Bellingham", "England");
+
+        assertThat(ids("pe")).containsExactly(1L);
+        assertThat(ids("p")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids("spa g")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids("BELLINGHAM")).containsExactly(3L);
+        assertThat(ids("pedro bell")).isEmpty();
+    }
+
+    @Test
+    void trigramsMatchInsideTokens() {
+        index.upsert(1, "Pedro", "Gonzalez", "Spain");
+        index.upsert(2, "Jude", "Bellingham", "England");
+
+        assertThat(ids("lingh")).containsExactly(2L);
+        assertThat(ids("nzal")).containsExactly(1L);
+        assertThat(ids("zz")).isEmpty();
+    }
+
+    @Test
+    void ranksExactThenPrefixThenInfixThenShorterText() {
+        index.upsert(1, "Marco", "Reus", "Germany");
+        index.upsert(2, "Mar", "Lopez", "Spain");
+        index.upsert(3, "Omar", "Marmoush", "Egypt");
+        index.upsert(4, "Marcos", "Alonso", "Spain");
+
+        assertThat(ids("mar")).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(ids("mar", 2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void infixMatchesFillWhatPrefixesLeave() {
+        index.upsert(1, "Omar", "Hassan", "Egypt");
+        index.upsert(2, "Marek", "Hamsik", "Slovakia");
+
+        assertThat(ids("mar")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void updateReplacesTheOldTerms() {
+        index.upsert(1, "Pedro", "Gonzalez", "Spain");
+        index.upsert(1, "Pedri", "Lopez", "Portugal");
+
+        assertThat(ids("gonz")).isEmpty();
+        assertThat(ids("spain")).isEmpty();
+        assertThat(index.suggest("lopez", 5)).containsExactly(
+                new PlayerAutocompleteIndex.Suggestion(1, "Pedri", "Lopez", "Portugal"));
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removedPlayersAreNotSuggestedAndTheirSlotsAreReused() {
+        index.upsert(1, "Pedro", "Gonzalez", "Spain");
+        index.upsert(2, "Pablo", "Gavi", "Spain");
+        index.remove(1);
+        index.remove(42);
+        index.upsert(3, "Paulo", "Dybala", "Argentina");
+
+        assertThat(ids("p")).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(ids("gonz")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void clearDropsEverything() {
+        index.upsert(1, "Pedro", "Gonzalez", "Spain");
+        index.clear();
+        index.upsert(2, "Pablo", "Gavi", "Spain");
+
+        assertThat(ids("p")).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void postingsStayConsistentThroughRandomUpdatesAndRemovals() {
+        String[] names = {"ana", "anton", "andres", "bruno", "bram", "carlos", "carla", "dani"};
+        Random random = new Random(7);
+        String[] current = new String[200];
+        for (int round = 0; round < 5_000; round++) {
+            int id = random.nextInt(current.length);
+            if (random.nextInt(3) == 0) {
+                index.remove(id);
+                current[id] = null;
+            } else {
+                current[id] = names[random.nextInt(names.length)];
+                index.upsert(id, current[id], "x", null);
+            }
+        }
+
+        for (String query : List.of("a", "an", "ant", "br", "carl", "dani", "rlo")) {
+            List<Long> expected = new ArrayList<>();
+            for (int id = 0; id < current.length; id++) {
+                String name = current[id];
+                if (name != null && (name.startsWith(query) || query.length() >= 3 && name.contains(query))) {
+                    expected.add((long) id);
+                }
+            }
+            assertThat(ids(query, current.length)).as(query).containsExactlyInAnyOrderElementsOf(expected);
+        }
+        assertThat(index.size()).isEqualTo(Arrays.stream(current).filter(Objects::nonNull).count());
+    }
+
+    private List<Long> ids(String query) {
+        return ids(query, 10);
+    }
+
+    private List<Long> ids(String query, int limit) {
+        return index.suggest(query, limit).stream().map(PlayerAutocompleteIndex.Suggestion::id).toList();
+    }
+}
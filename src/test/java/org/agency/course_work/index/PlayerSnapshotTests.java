@@ -0,0 +1,162 @@
+package org.agency.course_work.index;
+
+import org.agency.course_work.enums.PlayerPosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerSnapshotTests {
+    private final PlayerSnapshot snapshot = new PlayerSnapshot(4);
+    private final ParallelScan executor = new ParallelScan(1, 1);
+
+    @AfterEach
+    void closeExecutor() {
+        executor.close();
+    }
+
+    @Test
+    void filtersOnEveryCriterionAndRanksByValueThenId() {
+        snapshot.upsert(1, 20, PlayerPosition.FORWARD, "Spain", new BigDecimal("50.00"));
+        snapshot.upsert(2, 20, PlayerPosition.FORWARD, "Spain", new BigDecimal("70.00"));
+        snapshot.upsert(3, 21, PlayerPosition.FORWARD, "Spain", new BigDecimal("70.00"));
+        snapshot.upsert(4, 20, PlayerPosition.DEFENDER, "Spain", new BigDecimal("90.00"));
+        snapshot.upsert(5, 20, PlayerPosition.FORWARD, "England", new BigDecimal("80.00"));
+
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, null, null, null))).containsExactly(4, 5, 3, 2, 1);
+        assertThat(ids(new PlayerSnapshot.Criteria(20, PlayerPosition.FORWARD, "Spain", null, null))).containsExactly(2, 1);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, null, new BigDecimal("60"), new BigDecimal("80")))).containsExactly(5, 3, 2);
+        assertThat(ids(new PlayerSnapshot.Criteria(300, null, null, null, null))).isEmpty();
+        assertThat(snapshot.scan(new PlayerSnapshot.Criteria(null, null, null, null, null), 2, executor).matches()).isEqualTo(5);
+    }
+
+    @Test
+    void removedSlotIsReusedByTheNextPlayer() {
+        snapshot.upsert(1, 20, PlayerPosition.FORWARD, "Spain", BigDecimal.ONE);
+        snapshot.upsert(2, 25, PlayerPosition.GOALKEPPER, "Italy", BigDecimal.TEN);
+        snapshot.upsert(3, 20, PlayerPosition.FORWARD, "Spain", BigDecimal.ONE);
+        long bytes = snapshot.offHeapBytes();
+
+        snapshot.remove(2);
+        snapshot.remove(42);
+        assertThat(ids(new PlayerSnapshot.Criteria(25, null, null, null, null))).isEmpty();
+
+        snapshot.upsert(4, 30, PlayerPosition.DEFENDER, "England", BigDecimal.TWO);
+
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.offHeapBytes()).isEqualTo(bytes);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, null, null, null))).containsExactly(4, 3, 1);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, PlayerPosition.GOALKEPPER, null, null, null))).isEmpty();
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, "italy", null, null))).isEmpty();
+        assertThat(ids(new PlayerSnapshot.Criteria(30, PlayerPosition.DEFENDER, "england", null, null))).containsExactly(4);
+    }
+
+    @Test
+    void upsertOverwritesTheSameSlot() {
+        snapshot.upsert(1, 20, PlayerPosition.FORWARD, "Spain", BigDecimal.ONE);
+        snapshot.upsert(1, 21, null, null, null);
+
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(ids(new PlayerSnapshot.Criteria(20, null, null, null, null))).isEmpty();
+        assertThat(ids(new PlayerSnapshot.Criteria(null, PlayerPosition.FORWARD, null, null, null))).isEmpty();
+        assertThat(ids(new PlayerSnapshot.Criteria(21, null, null, null, null))).containsExactly(1);
+    }
+
+    @Test
+    void clearThenUpsertStartsFromAnEmptyDictionary() {
+        for (int id = 1; id <= 20; id++) {
+            snapshot.upsert(id, 20, PlayerPosition.FORWARD, id % 2 == 0 ? "Spain" : "Italy", BigDecimal.valueOf(id));
+        }
+
+        snapshot.clear();
+        snapshot.upsert(7, 22, PlayerPosition.WINGER, "Brazil", BigDecimal.ONE);
+        snapshot.upsert(8, 23, PlayerPosition.WINGER, "Spain", BigDecimal.TEN);
+
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, null, null, null))).containsExactly(8, 7);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, "italy", null, null))).isEmpty();
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, "brazil", null, null))).containsExactly(7);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, "spain", null, null))).containsExactly(8);
+    }
+
+    @Test
+    void nationalityIsMatchedCaseInsensitively() {
+        snapshot.upsert(1, 20, null, "Spain", BigDecimal.ONE);
+        snapshot.upsert(2, 20, null, "SPAIN", BigDecimal.TEN);
+        snapshot.upsert(3, 20, null, "spain ", BigDecimal.TWO);
+        snapshot.upsert(4, 20, null, null, BigDecimal.TWO);
+
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, "sPaIn", null, null))).containsExactly(2, 1);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, "", null, null))).containsExactly(2, 4, 3, 1);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, "France", null, null))).isEmpty();
+    }
+
+    @Test
+    void unvaluedPlayersRankLastAndNeverMeetAValueBound() {
+        snapshot.upsert(1, 20, null, null, null);
+        snapshot.upsert(2, 20, null, null, new BigDecimal("-5.00"));
+
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, null, null, null))).containsExactly(2, 1);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, null, null, new BigDecimal("100")))).containsExactly(2);
+        assertThat(ids(new PlayerSnapshot.Criteria(null, null, null, BigDecimal.ZERO, null))).isEmpty();
+    }
+
+    @Test
+    void valueBoundsMatchTheInclusiveDatabaseComparison() {
+        BigDecimal[] values = {new BigDecimal("10.00"), new BigDecimal("10.01"), new BigDecimal("9.99"),
+                new BigDecimal("-0.01"), new BigDecimal("0.00")};
+        for (int id = 0; id < values.length; id++) {
+            snapshot.upsert(id, 20, null, null, values[id]);
+        }
+
+        assertThat(ids(criteria("10.001", null))).containsExactly(1);
+        assertThat(ids(criteria("10.000", null))).containsExactly(1, 0);
+        assertThat(ids(criteria(null, "10.009"))).containsExactly(0, 2, 4, 3);
+        assertThat(ids(criteria(null, "9.9999"))).containsExactly(2, 4, 3);
+        assertThat(ids(criteria("-0.005", "0.004"))).containsExactly(4);
+        assertThat(ids(criteria("-0.01", "-0.01"))).containsExactly(3);
+        assertThat(ids(criteria("9.995", "9.995"))).isEmpty();
+    }
+
+    @Test
+    void randomValueBoundsAgreeWithBigDecimalComparison() {
+        Random random = new Random(11);
+        BigDecimal[] values = new BigDecimal[500];
+        for (int id = 0; id < values.length; id++) {
+            values[id] = BigDecimal.valueOf(random.nextInt(4_001) - 2_000, 2);
+            snapshot.upsert(id, 20, null, null, values[id]);
+        }
+
+        for (int round = 0; round < 200; round++) {
+            BigDecimal min = random.nextInt(5) == 0 ? null : BigDecimal.valueOf(random.nextInt(40_001) - 20_000, 3);
+            BigDecimal max = random.nextInt(5) == 0 ? null : BigDecimal.valueOf(random.nextInt(40_001) - 20_000, 3);
+            long expected = 0;
+            for (BigDecimal value : values) {
+                if ((min == null || value.compareTo(min) >= 0) && (max == null || value.compareTo(max) <= 0)) {
+                    expected++;
+                }
+            }
+            assertThat(snapshot.scan(new PlayerSnapshot.Criteria(null, null, null, min, max), 0, executor).matches())
+                    .as("%s..%s", min, max)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private List<Integer> ids(PlayerSnapshot.Criteria criteria) {
+        List<Integer> ids = new ArrayList<>();
+        for (long id : snapshot.scan(criteria, 10, executor).ids()) {
+            ids.add((int) id);
+        }
+        return ids;
+    }
+
+    private static PlayerSnapshot.Criteria criteria(String minValue, String maxValue) {
+        return new PlayerSnapshot.Criteria(null, null, null,
+                minValue != null ? new BigDecimal(minValue) : null, maxValue != null ? new BigDecimal(maxValue) : null);
+    }
+}
@@ -0,0 +1,228 @@
+package org.agency.course_work.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.agency.course_work.service.ContractExpiryService;
+import org.agency.course_work.service.ContractSnapshotService;
+import org.agency.course_work.service.LeaderboardService;
+import org.agency.course_work.service.PlayerAutocompleteService;
+import org.agency.course_work.service.PlayerSnapshotService;
+import org.agency.course_work.service.StandingsService;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Release load test: seeds a Postgres container with realistic volumes and drives a weighted mix of API calls.
+ * Run with {@code mvn -Ploadtest verify}; volumes, threads and durations are tunable with {@code -Dloadtest.*}.
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "token.signing.key=53A73E5F1C4E0A2D3B5F2D784E6A1B423D6F247D1F6E5C3A596D635A75327855",
+        "admin.system.password=load-test-admin-password",
+        "sql.profiler.expose-headers=false",
+        "logging.level.org.agency.course_work=warn"
+})
+class ApiLoadIT {
+    private static final Logger logger = LoggerFactory.getLogger(ApiLoadIT.class);
+    private static final String ADMIN_PASSWORD = "load-test-admin-password";
+    private static final String USER_PASSWORD = "load-test-user-password";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private PlayerSnapshotService playerSnapshotService;
+
+    @Autowired
+    private ContractSnapshotService contractSnapshotService;
+
+    @Autowired
+    private PlayerAutocompleteService playerAutocompleteService;
+
+    @Autowired
+    private StandingsService standingsService;
+
+    @Autowired
+    private ContractExpiryService contractExpiryService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @Test
+    void releaseMix() throws Exception {
+        LoadTestVolumes volumes = LoadTestVolumes.fromSystemProperties();
+        long seedStart = System.nanoTime();
+        new LoadTestSeeder(jdbcTemplate).seed(volumes);
+        logger.warn("Seeded {} in {} s", volumes, (System.nanoTime() - seedStart) / 1_000_000_000);
+        // the seed bypasses the services, so the in-memory indexes built at startup have not seen it
+        leaderboardService.rebuild();
+        playerSnapshotService.rebuild();
+        contractSnapshotService.rebuild();
+        playerAutocompleteService.rebuild();
+        standingsService.rebuild();
+        contractExpiryService.rebuild();
+
+        String adminToken = signUp("loadadmin", ADMIN_PASSWORD);
+        signUp("loaduser", USER_PASSWORD);
+        List<Scenario> scenarios = scenarios(volumes, adminToken);
+
+        int threads = Integer.getInteger("loadtest.threads", 32);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 15));
+        Duration measurement = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60));
+
+        drive(scenarios, threads, warmup);
+        long start = System.nanoTime();
+        Map<String, EndpointStats> stats = drive(scenarios, threads, measurement);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        List<EndpointStats.Summary> summaries = new ArrayList<>();
+        stats.forEach((endpoint, endpointStats) -> summaries.add(endpointStats.summarize(endpoint, seconds)));
+        report(summaries);
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        assertThat(summaries).allSatisfy(summary -> assertThat(summary.errorRate()).isLessThanOrEqualTo(maxErrorRate));
+    }
+
+    private List<Scenario> scenarios(LoadTestVolumes volumes, String adminToken) {
+        String[] positions = {"GOALKEPPER", "DEFENDER", "MIDFILDER", "WINGER", "FORWARD"};
+        String[] sortFields = {"value", "age", "surname"};
+        return List.of(
+                new Scenario("GET /api/players/{id}", 40, random -> get("/api/players/" + (1 + random.nextInt(volumes.players())), adminToken)),
+                new Scenario("GET /api/players/filter", 20, random -> get("/api/players/filter?position=" + positions[random.nextInt(positions.length)]
+                        + "&minValue=" + random.nextInt(50_000_000) + "&page=" + random.nextInt(20), adminToken)),
+                new Scenario("GET /api/players/sorted", 20, random -> get("/api/players/sorted?sortBy=" + sortFields[random.nextInt(sortFields.length)]
+                        + "&order=" + (random.nextBoolean() ? "asc" : "desc") + "&page=" + random.nextInt(20), adminToken)),
+                new Scenario("POST /api/contracts", 10, random -> post("/api/contracts", adminToken, Map.of(
+                        "startDate", LocalDate.now().minusDays(random.nextInt(365)).toString(),
+                        "endDate", LocalDate.now().plusDays(365 + random.nextInt(1500)).toString(),
+                        "salary", 50_000 + random.nextInt(10_000_000),
+                        "playerId", 1 + random.nextInt(volumes.players()),
+                        "agentId", 1 + random.nextInt(volumes.agents()),
+                        "clubId", 1 + random.nextInt(volumes.clubs())))),
+                new Scenario("POST /auth/sign-in", 10, random -> post("/auth/sign-in", null,
+                        Map.of("username", "loaduser", "password", USER_PASSWORD)))
+        );
+    }
+
+    private Map<String, EndpointStats> drive(List<Scenario> scenarios, int threads, Duration duration) throws Exception {
+        int totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Map<String, EndpointStats>>> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(executor.submit(() -> {
+                Map<String, EndpointStats> local = new HashMap<>();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    Scenario scenario = pick(scenarios, random.nextInt(totalWeight));
+                    long begin = System.nanoTime();
+                    boolean error;
+                    try {
+                        HttpResponse<Void> response = httpClient.send(scenario.request().apply(random), HttpResponse.BodyHandlers.discarding());
+                        error = response.statusCode() >= 400;
+                    } catch (Exception e) {
+                        error = true;
+                    }
+                    local.computeIfAbsent(scenario.name(), name -> new EndpointStats())
+                            .record((System.nanoTime() - begin) / 1000, error);
+                }
+                return local;
+            }));
+        }
+        Map<String, EndpointStats> merged = new TreeMap<>();
+        for (Future<Map<String, EndpointStats>> worker : workers) {
+            worker.get().forEach((endpoint, stats) -> merged.computeIfAbsent(endpoint, name -> new EndpointStats()).merge(stats));
+        }
+        executor.shutdown();
+        return merged;
+    }
+
+    private static Scenario pick(List<Scenario> scenarios, int ticket) {
+        for (Scenario scenario : scenarios) {
+            ticket -= scenario.weight();
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private void report(List<EndpointStats.Summary> summaries) throws Exception {
+        StringBuilder table = new StringBuilder(String.format("%n%-28s %10s %10s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (EndpointStats.Summary summary : summaries) {
+            table.append(String.format("%-28s %10d %10.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f%n",
+                    summary.endpoint(), summary.requests(), summary.throughputPerSecond(), summary.errorRate() * 100,
+                    summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis()));
+        }
+        logger.warn(table.toString());
+        File reportFile = new File(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+        reportFile.getParentFile().mkdirs();
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, summaries);
+    }
+
+    private String signUp(String username, String password) throws Exception {
+        HttpResponse<String> response = httpClient.send(post("/auth/sign-up", null,
+                Map.of("username", username, "email", username + "@example.com", "password", password)), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Map<String, Object> body) {
+        try {
+            return request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private record Scenario(String name, int weight, Function<ThreadLocalRandom, HttpRequest> request) {
+    }
+}
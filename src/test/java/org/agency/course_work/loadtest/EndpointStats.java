@@ -0,0 +1,51 @@
+package org.agency.course_work.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples and error count for one endpoint; each worker thread owns its own instance.
+ */
+class EndpointStats {
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long latencyMicros, boolean error) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyMicros;
+        if (error) {
+            errors++;
+        }
+    }
+
+    void merge(EndpointStats other) {
+        if (count + other.count > latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count + other.count);
+        }
+        System.arraycopy(other.latenciesMicros, 0, latenciesMicros, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    Summary summarize(String endpoint, double seconds) {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+        return new Summary(endpoint, count, count / seconds, count == 0 ? 0 : (double) errors / count,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1000.0;
+    }
+
+    record Summary(String endpoint, long requests, double throughputPerSecond, double errorRate,
+                   double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,60 @@
+package org.agency.course_work.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Fills an empty database with generated agents, clubs, players, contracts and matches using set-based inserts.
+ * Identifiers are assumed to start at 1, which holds for a freshly created container.
+ */
+class LoadTestSeeder {
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void seed(LoadTestVolumes volumes) {
+        jdbcTemplate.update("""
+                insert into agents (created_at, updated_at, is_deleted, first_name, last_name, phone_number, commission_rate)
+                select now(), now(), false, 'Agent' || g, 'Lastname' || g, '+38050' || lpad(g::text, 7, '0'),
+                       (array['LOW', 'MEDIUM', 'HIGH', 'PREMIUM'])[1 + g % 4]
+                from generate_series(1, ?) g
+                """, volumes.agents());
+        jdbcTemplate.update("""
+                insert into clubs (created_at, updated_at, is_deleted, name, stadium, country, budget)
+                select now(), now(), false, 'Club ' || g,
+                       (array['CAMP_NOU', 'OLD_TRAFFORD', 'ALLIANZ_ARENA', 'SANTIAGO_BERNABEU', 'WEMBLEY', 'SAN_SIRO', 'EMIRATES_STADIUM'])[1 + g % 7],
+                       (array['Spain', 'England', 'Germany', 'Italy', 'France'])[1 + g % 5],
+                       10000000 + (g % 1000) * 1000000
+                from generate_series(1, ?) g
+                """, volumes.clubs());
+        jdbcTemplate.update("""
+                insert into players (created_at, updated_at, is_deleted, name, surname, age, position, nationality, value, agent_id, club_id)
+                select now(), now(), false, 'Name' || g, 'Surname' || g, 16 + g % 22,
+                       (array['GOALKEPPER', 'DEFENDER', 'MIDFILDER', 'WINGER', 'FORWARD'])[1 + g % 5],
+                       (array['Spain', 'England', 'Germany', 'Italy', 'France', 'Brazil', 'Argentina', 'Ukraine'])[1 + g % 8],
+                       100000 + (g % 5000) * 25000, 1 + g % ?, 1 + g % ?
+                from generate_series(1, ?) g
+                """, volumes.agents(), volumes.clubs(), volumes.players());
+        jdbcTemplate.update("""
+                insert into contracts (created_at, updated_at, is_deleted, start_date, end_date, salary, player_id, club_id, agent_id)
+                select now(), now(), false, date '2020-01-01' + (g % 1500), date '2020-01-01' + (g % 1500) + 365 * (1 + g % 5),
+                       50000 + (g % 2000) * 5000, 1 + g % ?, 1 + g % ?, 1 + g % ?
+                from generate_series(1, ?) g
+                """, volumes.players(), volumes.clubs(), volumes.agents(), volumes.contracts());
+        jdbcTemplate.update("""
+                insert into matches (created_at, updated_at, is_deleted, date, city, score)
+                select now(), now(), false, date '2015-01-01' + (g % 3650),
+                       (array['BARCELONA', 'MANCHESTER', 'MUNICH', 'MADRID', 'LONDON', 'MILAN'])[1 + g % 6],
+                       (g % 5) || ':' || (g % 3)
+                from generate_series(1, ?) g
+                """, volumes.matches());
+        jdbcTemplate.update("""
+                insert into club_match (club_id, match_id)
+                select 1 + g % ?, g from generate_series(1, ?) g
+                union all
+                select 1 + (g + 1) % ?, g from generate_series(1, ?) g
+                """, volumes.clubs(), volumes.matches(), volumes.clubs(), volumes.matches());
+        jdbcTemplate.execute("analyze");
+    }
+}
@@ -0,0 +1,13 @@
+package org.agency.course_work.loadtest;
+
+record LoadTestVolumes(int agents, int clubs, int players, int contracts, int matches) {
+
+    static LoadTestVolumes fromSystemProperties() {
+        return new LoadTestVolumes(
+                Integer.getInteger("loadtest.agents", 5_000),
+                Integer.getInteger("loadtest.clubs", 500),
+                Integer.getInteger("loadtest.players", 100_000),
+                Integer.getInteger("loadtest.contracts", 500_000),
+                Integer.getInteger("loadtest.matches", 50_000));
+    }
+}
@@ -0,0 +1,56 @@
+package org.agency.course_work.repository;
+
+import org.agency.course_work.enums.CommissionRate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the agent_portfolio view prices commission from the rates written from {@link CommissionRate}.
+ */
+@SpringBootTest
+@Transactional
+class CommissionRateTests {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void commissionRatesMatchEnum() {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList("select commission_rate, rate from commission_rates")) {
+            rates.put((String) row.get("commission_rate"), (BigDecimal) row.get("rate"));
+        }
+
+        assertThat(rates).hasSize(CommissionRate.values().length);
+        Arrays.stream(CommissionRate.values())
+                .forEach(rate -> assertThat(rates.get(rate.name())).isEqualByComparingTo(rate.getRate()));
+    }
+
+    @Test
+    void portfolioCommissionUsesEnumRate() {
+        Long agentId = insert("insert into agents (created_at, commission_rate) values (now(), 'HIGH') returning id");
+        Long clubId = insert("insert into clubs (created_at) values (now()) returning id");
+        Long playerId = insert("insert into players (created_at, age, agent_id) values (now(), 20, " + agentId + ") returning id");
+        jdbcTemplate.update("insert into contracts (created_at, salary, player_id, club_id, agent_id) values (now(), 1000, ?, ?, ?)",
+                playerId, clubId, agentId);
+        jdbcTemplate.execute("refresh materialized view agent_portfolio");
+
+        BigDecimal commission = jdbcTemplate.queryForObject(
+                "select expected_commission from agent_portfolio where agent_id = ?", BigDecimal.class, agentId);
+
+        assertThat(commission).isEqualByComparingTo(new BigDecimal("1000").multiply(CommissionRate.HIGH.getRate()));
+    }
+
+    private Long insert(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,25 @@
+package org.agency.course_work.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ContractExpiryScanTests {
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Test
+    void lastScanDayIsOverwritten() {
+        contractRepository.saveLastExpiryScan(LocalDate.of(2026, 3, 10));
+        contractRepository.saveLastExpiryScan(LocalDate.of(2026, 3, 13));
+
+        assertThat(contractRepository.findLastExpiryScan()).contains(LocalDate.of(2026, 3, 13));
+    }
+}
@@ -0,0 +1,57 @@
+package org.agency.course_work.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the lookups Hibernate issues for the soft-deleted entities can be served by the partial indexes.
+ * Sequential scans are disabled so the planner's choice does not depend on how much data the database holds.
+ */
+@SpringBootTest
+class SoftDeleteIndexTests {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "select * from players p where p.agent_id = 1 and (p.is_deleted = false)                     | idx_players_agent_id",
+            "select * from contracts c where c.player_id = 1 and (c.is_deleted = false)                  | idx_contracts_player_id",
+            "select * from contracts c where c.club_id = 1 and (c.is_deleted = false)                    | idx_contracts_club_id",
+            "select * from contracts c where c.agent_id = 1 and (c.is_deleted = false)                   | idx_contracts_agent_id",
+            "select * from club_match cm where cm.match_id = 1                                           | idx_club_match_match_id",
+            "select * from matches m where m.city = 'MADRID' and (m.is_deleted = false)                   | idx_matches_city_date",
+            "select * from players p where (p.is_deleted = false) order by p.value desc, p.id desc limit 20 | idx_players_value",
+            "select * from players p where lower(p.nationality) = 'spain' and (p.is_deleted = false)     | idx_players_nationality",
+            "select * from contracts c where c.end_date <= date '2030-01-01' and (c.is_deleted = false)  | idx_contracts_end_date",
+            "select * from clubs c where (c.is_deleted = false) order by c.budget desc, c.id desc limit 20 | idx_clubs_budget",
+            "select * from contracts c where (c.is_deleted = false) order by c.salary, c.id limit 20     | idx_contracts_salary",
+            "select * from agents a where (a.is_deleted = false) order by a.last_name, a.id limit 20     | idx_agents_last_name",
+            "select * from matches m where (m.is_deleted = false) order by m.date desc, m.id desc limit 20 | idx_matches_date"
+    })
+    void queryUsesPartialIndex(String query, String index) {
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set enable_seqscan = off");
+                StringBuilder lines = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery("explain " + query)) {
+                    while (resultSet.next()) {
+                        lines.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("reset enable_seqscan");
+                return lines.toString();
+            }
+        });
+
+        assertThat(plan).contains(index);
+    }
+}
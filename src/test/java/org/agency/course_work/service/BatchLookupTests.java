@@ -0,0 +1,66 @@
+package org.agency.course_work.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Batch gets write misses back into the single-entity regions; the other per-id endpoints in those regions
+ * must still answer with their own payloads afterwards.
+ */
+@SpringBootTest(properties = "response-cache.enabled=false")
+@AutoConfigureMockMvc
+@WithMockUser
+@Transactional
+class BatchLookupTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void batchBackfillDoesNotShadowPlayerWithAgent() throws Exception {
+        Long agentId = insert("insert into agents (created_at, first_name, commission_rate) values (now(), 'Jorge', 'LOW') returning id");
+        Long playerId = insert("insert into players (created_at, name, surname, age, agent_id) values (now(), 'Pedro', 'Gonzalez', 21, "
+                + agentId + ") returning id");
+
+        mockMvc.perform(get("/api/players").param("ids", playerId.toString()))
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/players/{id}/with-agent", playerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.agentFirstName").value("Jorge"));
+        mockMvc.perform(get("/api/players/{id}", playerId))
+                .andExpect(jsonPath("$.name").value("Pedro"));
+    }
+
+    @Test
+    void batchBackfillDoesNotShadowContractTimeLeft() throws Exception {
+        Long agentId = insert("insert into agents (created_at, commission_rate) values (now(), 'LOW') returning id");
+        Long clubId = insert("insert into clubs (created_at) values (now()) returning id");
+        Long playerId = insert("insert into players (created_at, age) values (now(), 20) returning id");
+        Long contractId = insert("insert into contracts (created_at, start_date, end_date, salary, player_id, club_id, agent_id) values "
+                + "(now(), current_date, current_date + 400, 1000, " + playerId + ", " + clubId + ", " + agentId + ") returning id");
+
+        mockMvc.perform(get("/api/contracts").param("ids", contractId.toString()))
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/contracts/{id}/time-left", contractId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.years").value(1))
+                .andExpect(jsonPath("$.expired").value(false));
+    }
+
+    private Long insert(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
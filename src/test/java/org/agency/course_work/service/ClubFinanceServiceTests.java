@@ -0,0 +1,93 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.dto.ClubFinanceDto;
+import org.agency.course_work.dto.SeasonPayrollDto;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.exception.ClubNotFound;
+import org.agency.course_work.repository.ClubRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ClubFinanceServiceTests {
+    private static final Instant NEW_YEARS_EVE = Instant.parse("2026-12-31T23:30:00Z");
+
+    private final ClubRepository clubRepository = mock(ClubRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        Club club = new Club();
+        club.setId(1L);
+        club.setName("Barcelona");
+        club.setBudget(new BigDecimal("1000"));
+        when(clubRepository.findById(1L)).thenReturn(Optional.of(club));
+        when(clubRepository.findPayrollFromSeason(eq(1L), anyInt())).thenAnswer(invocation -> {
+            int fromSeason = invocation.getArgument(1);
+            return List.of(view(2026, "300", 2), view(2027, "200", 1), view(2028, "50", 1)).stream()
+                    .filter(view -> view.getSeason() >= fromSeason)
+                    .toList();
+        });
+    }
+
+    @Test
+    void currentSeasonIsTheClocksYear() {
+        ClubFinanceDto finance = service(Clock.fixed(NEW_YEARS_EVE, ZoneOffset.UTC)).getClubFinance(1L);
+
+        verify(clubRepository).findPayrollFromSeason(1L, 2026);
+        assertThat(finance.currentPayroll()).isEqualByComparingTo("300");
+        assertThat(finance.committedFutureSalary()).isEqualByComparingTo("250");
+        assertThat(finance.headroom()).isEqualByComparingTo("700");
+        assertThat(finance.seasons()).extracting(SeasonPayrollDto::season).containsExactly(2026, 2027, 2028);
+    }
+
+    @Test
+    void seasonTurnsOverAtMidnightInTheClocksZone() {
+        ClubFinanceDto finance = service(Clock.fixed(NEW_YEARS_EVE, ZoneId.of("Europe/Madrid"))).getClubFinance(1L);
+
+        verify(clubRepository).findPayrollFromSeason(1L, 2027);
+        assertThat(finance.currentPayroll()).isEqualByComparingTo("200");
+        assertThat(finance.committedFutureSalary()).isEqualByComparingTo("50");
+        assertThat(finance.headroom()).isEqualByComparingTo("800");
+        assertThat(finance.seasons()).extracting(SeasonPayrollDto::season).containsExactly(2027, 2028);
+    }
+
+    @Test
+    void seasonWithoutContractsHasNoPayroll() {
+        ClubFinanceDto finance = service(Clock.fixed(Instant.parse("2029-06-01T12:00:00Z"), ZoneOffset.UTC)).getClubFinance(1L);
+
+        assertThat(finance.currentPayroll()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(finance.committedFutureSalary()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(finance.headroom()).isEqualByComparingTo("1000");
+        assertThat(finance.seasons()).isEmpty();
+    }
+
+    @Test
+    void unknownClubIsNotFound() {
+        assertThatThrownBy(() -> service(Clock.systemUTC()).getClubFinance(2L)).isInstanceOf(ClubNotFound.class);
+    }
+
+    private ClubFinanceService service(Clock clock) {
+        return new ClubFinanceService(clubRepository, clock);
+    }
+
+    private static ClubRepository.SeasonPayrollView view(int season, String totalSalary, int contractCount) {
+        ClubRepository.SeasonPayrollView view = mock(ClubRepository.SeasonPayrollView.class);
+        when(view.getSeason()).thenReturn(season);
+        when(view.getTotalSalary()).thenReturn(new BigDecimal(totalSalary));
+        when(view.getContractCount()).thenReturn(contractCount);
+        return view;
+    }
+}
@@ -0,0 +1,131 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.repository.ClubRepository;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Applies contract changes through {@link ClubPayrollRollup} and reads back the club_season_payroll rows that the
+ * {@link ClubRepository#addToPayroll} upsert leaves behind.
+ */
+@SpringBootTest
+@Transactional
+class ClubPayrollRollupTests {
+    @Autowired
+    private ClubPayrollRollup rollup;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Club club;
+
+    @BeforeEach
+    void setUp() {
+        club = new Club();
+        club.setId(jdbcTemplate.queryForObject("insert into clubs (created_at, name) values (now(), 'Payroll') returning id", Long.class));
+    }
+
+    @Test
+    void contractCountsInEverySeasonItSpans() {
+        rollup.add(contract("2025-07-01", "2027-06-30", "100"));
+
+        assertThat(payroll()).containsExactly(
+                tuple(2025, new BigDecimal("100.00"), 1),
+                tuple(2026, new BigDecimal("100.00"), 1),
+                tuple(2027, new BigDecimal("100.00"), 1));
+    }
+
+    @Test
+    void overlappingContractsAddUpPerSeason() {
+        rollup.add(contract("2025-07-01", "2026-06-30", "100"));
+        rollup.add(contract("2026-01-01", "2027-12-31", "40"));
+
+        assertThat(payroll()).containsExactly(
+                tuple(2025, new BigDecimal("100.00"), 1),
+                tuple(2026, new BigDecimal("140.00"), 2),
+                tuple(2027, new BigDecimal("40.00"), 1));
+    }
+
+    @Test
+    void replaceMovesTheContractBetweenSeasons() {
+        Contract contract = contract("2025-07-01", "2026-06-30", "100");
+        rollup.add(contract);
+        ClubPayrollRollup.Entry before = ClubPayrollRollup.Entry.of(contract);
+
+        contract.setStartDate(LocalDate.parse("2026-07-01"));
+        contract.setEndDate(LocalDate.parse("2027-06-30"));
+        contract.setSalary(new BigDecimal("120"));
+        rollup.replace(before, contract);
+
+        assertThat(payroll()).containsExactly(
+                tuple(2025, new BigDecimal("0.00"), 0),
+                tuple(2026, new BigDecimal("120.00"), 1),
+                tuple(2027, new BigDecimal("120.00"), 1));
+        assertThat(clubRepository.findPayrollFromSeason(club.getId(), 2025))
+                .extracting(ClubRepository.SeasonPayrollView::getSeason)
+                .containsExactly(2026, 2027);
+    }
+
+    @Test
+    void removeLeavesEmptySeasonsOutOfThePayroll() {
+        Contract contract = contract("2026-01-01", "2026-12-31", "100");
+        rollup.add(contract);
+        rollup.add(contract("2026-01-01", "2028-12-31", "10"));
+
+        rollup.remove(contract);
+
+        assertThat(clubRepository.findPayrollFromSeason(club.getId(), 2027))
+                .extracting(ClubRepository.SeasonPayrollView::getSeason, ClubRepository.SeasonPayrollView::getContractCount)
+                .containsExactly(tuple(2027, 1), tuple(2028, 1));
+        assertThat(payroll()).first().isEqualTo(tuple(2026, new BigDecimal("10.00"), 1));
+    }
+
+    @Test
+    void contractEndingBeforeItStartsCountsInItsFirstSeasonOnly() {
+        rollup.add(contract("2026-03-01", "2025-12-31", null));
+
+        assertThat(payroll()).containsExactly(tuple(2026, new BigDecimal("0.00"), 1));
+    }
+
+    @Test
+    void contractWithoutAClubOrStartIsIgnored() {
+        Contract withoutClub = contract("2026-01-01", "2026-12-31", "100");
+        withoutClub.setClub(null);
+        rollup.add(withoutClub);
+        rollup.add(contract(null, "2026-12-31", "100"));
+
+        assertThat(payroll()).isEmpty();
+    }
+
+    private Contract contract(String startDate, String endDate, String salary) {
+        Contract contract = new Contract();
+        contract.setClub(club);
+        contract.setStartDate(startDate != null ? LocalDate.parse(startDate) : null);
+        contract.setEndDate(endDate != null ? LocalDate.parse(endDate) : null);
+        contract.setSalary(salary != null ? new BigDecimal(salary) : null);
+        return contract;
+    }
+
+    private List<Tuple> payroll() {
+        return jdbcTemplate.query("select season, total_salary, contract_count from club_season_payroll where club_id = ? order by season",
+                (row, rowNum) -> tuple(row.getInt("season"), row.getBigDecimal("total_salary"), row.getInt("contract_count")),
+                club.getId());
+    }
+}
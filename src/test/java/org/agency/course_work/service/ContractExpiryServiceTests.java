@@ -0,0 +1,119 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.agency.course_work.dto.ContractExpiryDto;
+import org.agency.course_work.event.ContractExpiryEvent;
+import org.agency.course_work.repository.ContractRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class ContractExpiryServiceTests {
+    private static final int NOTICE_DAYS = 30;
+    private static final LocalDate START = LocalDate.of(2026, 3, 10);
+
+    private final ContractRepository contractRepository = mock(ContractRepository.class);
+    private final Clock clock = mock(Clock.class);
+    private final List<ContractExpiryEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(contractRepository.findLastExpiryScan()).thenReturn(Optional.empty());
+        List<ContractRepository.ExpiryView> contracts = new ArrayList<>();
+        for (int offset = -3; offset <= NOTICE_DAYS + 6; offset++) {
+            contracts.add(view(offset, START.plusDays(offset)));
+        }
+        when(contractRepository.streamExpiries()).thenAnswer(invocation -> contracts.stream());
+    }
+
+    @Test
+    void firstScanCoversYesterdayAndTheLastNoticeDay() {
+        ContractExpiryService service = service();
+
+        scanOn(service, START);
+
+        assertThat(ids(ContractExpiryEvent.Kind.EXPIRED)).containsExactly(-1L);
+        assertThat(ids(ContractExpiryEvent.Kind.UPCOMING)).containsExactly((long) NOTICE_DAYS);
+        verify(contractRepository).saveLastExpiryScan(START);
+    }
+
+    @Test
+    void secondScanOnTheSameDayPublishesNothing() {
+        ContractExpiryService service = service();
+        scanOn(service, START);
+        events.clear();
+
+        scanOn(service, START);
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void scanAfterAGapCoversEveryMissedDayOnce() {
+        ContractExpiryService service = service();
+        scanOn(service, START);
+        events.clear();
+
+        scanOn(service, START.plusDays(3));
+
+        assertThat(ids(ContractExpiryEvent.Kind.EXPIRED)).containsExactly(0L, 1L, 2L);
+        assertThat(ids(ContractExpiryEvent.Kind.UPCOMING))
+                .containsExactly(NOTICE_DAYS + 1L, NOTICE_DAYS + 2L, NOTICE_DAYS + 3L);
+        verify(contractRepository).saveLastExpiryScan(START.plusDays(3));
+    }
+
+    @Test
+    void scanAfterRestartResumesFromTheSavedDay() {
+        when(contractRepository.findLastExpiryScan()).thenReturn(Optional.of(START.minusDays(2)));
+        ContractExpiryService service = service();
+
+        scanOn(service, START);
+
+        assertThat(ids(ContractExpiryEvent.Kind.EXPIRED)).containsExactly(-2L, -1L);
+        assertThat(ids(ContractExpiryEvent.Kind.UPCOMING)).containsExactly(NOTICE_DAYS - 1L, (long) NOTICE_DAYS);
+    }
+
+    @Test
+    void getExpiringCountsDaysFromTheClock() {
+        ContractExpiryService service = service();
+        when(clock.instant()).thenReturn(START.atStartOfDay().toInstant(ZoneOffset.UTC));
+
+        assertThat(service.getExpiring(2, null, null, 10))
+                .extracting(ContractExpiryDto::contractId, ContractExpiryDto::daysLeft)
+                .containsExactly(tuple(0L, 0L), tuple(1L, 1L), tuple(2L, 2L));
+    }
+
+    private ContractExpiryService service() {
+        ContractExpiryService service = new ContractExpiryService(contractRepository, event -> events.add((ContractExpiryEvent) event),
+                new SimpleMeterRegistry(), clock, NOTICE_DAYS);
+        service.rebuild();
+        return service;
+    }
+
+    private void scanOn(ContractExpiryService service, LocalDate day) {
+        when(clock.instant()).thenReturn(day.atStartOfDay().toInstant(ZoneOffset.UTC));
+        service.scan();
+    }
+
+    private List<Long> ids(ContractExpiryEvent.Kind kind) {
+        return events.stream().filter(event -> event.kind() == kind).map(event -> event.expiry().contractId()).toList();
+    }
+
+    private static ContractRepository.ExpiryView view(long id, LocalDate endDate) {
+        ContractRepository.ExpiryView view = mock(ContractRepository.ExpiryView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getEndDate()).thenReturn(endDate);
+        return view;
+    }
+}
@@ -0,0 +1,200 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.agency.course_work.dto.ContractOverviewDto;
+import org.agency.course_work.dto.ContractOverviewPageDto;
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.BaseEntity;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Match;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.repository.ContractRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Five contracts, ids 1 to 5, read in pages of two. Contract {@code n} belongs to player {@code 10 + n}, to club 21
+ * when {@code n} is odd and club 22 when it is even, and to agent 31 for the first three and agent 32 for the rest.
+ */
+class ContractOverviewServiceTests {
+    private final ContractRepository contractRepository = mock(ContractRepository.class);
+    private final List<ContractRepository.OverviewView> rows = new ArrayList<>();
+    private ContractOverviewService service;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 5; id++) {
+            rows.add(view(id, 10 + id, id % 2 == 1 ? 21 : 22, id <= 3 ? 31 : 32));
+        }
+        when(contractRepository.findOverviewAfter(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Limit limit = invocation.getArgument(1);
+            return rows.stream().filter(row -> row.getId() > afterId).limit(limit.max()).toList();
+        });
+        service = new ContractOverviewService(contractRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void pagesFollowTheCursorAndAreLoadedOnce() {
+        ContractOverviewPageDto first = service.getOverview(0, 2);
+        ContractOverviewPageDto second = service.getOverview(first.nextCursor(), 2);
+        ContractOverviewPageDto last = service.getOverview(second.nextCursor(), 2);
+
+        assertThat(first.content()).extracting(ContractOverviewDto::id).containsExactly(1L, 2L);
+        assertThat(first.nextCursor()).isEqualTo(2L);
+        assertThat(second.content()).extracting(ContractOverviewDto::id).containsExactly(3L, 4L);
+        assertThat(last.content()).extracting(ContractOverviewDto::id).containsExactly(5L);
+        assertThat(last.nextCursor()).isNull();
+        assertThat(first.content().get(0).playerName()).isEqualTo("Player 11");
+        assertThat(first.content().get(0).agentName()).isEqualTo("Agent 31");
+
+        service.getOverview(0, 2);
+        service.getOverview(2, 2);
+
+        verify(contractRepository, times(3)).findOverviewAfter(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void cursorAndSizeAreClampedBeforeTheyBecomeAKey() {
+        service.getOverview(-5, 0);
+        service.getOverview(0, 1);
+        service.getOverview(0, 10_000);
+
+        verify(contractRepository).findOverviewAfter(0, Limit.of(1));
+        verify(contractRepository).findOverviewAfter(0, Limit.of(ContractOverviewService.MAX_PAGE_SIZE));
+        verifyNoMoreInteractions(contractRepository);
+    }
+
+    @Test
+    void contractWriteDropsOnlyThePageCoveringItsId() {
+        loadAllPages();
+
+        changed(entity(Contract::new, 3L));
+
+        assertThat(reloadedPages()).containsExactly(2L);
+    }
+
+    @Test
+    void contractInsertedPastTheLastIdDropsTheLastPage() {
+        loadAllPages();
+
+        changed(entity(Contract::new, 6L));
+
+        assertThat(reloadedPages()).containsExactly(4L);
+    }
+
+    @Test
+    void playerWriteDropsOnlyThePageShowingIt() {
+        loadAllPages();
+
+        changed(entity(Player::new, 15L));
+
+        assertThat(reloadedPages()).containsExactly(4L);
+    }
+
+    @Test
+    void clubWriteDropsEveryPageShowingIt() {
+        loadAllPages();
+
+        changed(entity(Club::new, 22L));
+
+        assertThat(reloadedPages()).containsExactly(0L, 2L);
+    }
+
+    @Test
+    void agentWriteDropsEveryPageShowingIt() {
+        loadAllPages();
+
+        changed(entity(Agent::new, 32L));
+
+        assertThat(reloadedPages()).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void unrelatedWritesKeepEveryPage() {
+        loadAllPages();
+
+        changed(entity(Player::new, 99L));
+        changed(entity(Match::new, 1L));
+        changed(entity(Contract::new, null));
+
+        assertThat(reloadedPages()).isEmpty();
+    }
+
+    @Test
+    void pageLoadedAcrossAWriteIsNotKept() {
+        when(contractRepository.findOverviewAfter(0, Limit.of(2))).thenAnswer(invocation -> {
+            List<ContractRepository.OverviewView> read = List.copyOf(rows.subList(0, 2));
+            // the write commits after the page was read, and its invalidation runs before the page is stored
+            changed(entity(Contract::new, 1L));
+            return read;
+        });
+
+        assertThat(service.getOverview(0, 2).content()).extracting(ContractOverviewDto::id).containsExactly(1L, 2L);
+        service.getOverview(0, 2);
+
+        verify(contractRepository, times(2)).findOverviewAfter(0, Limit.of(2));
+    }
+
+    private void loadAllPages() {
+        for (long after = 0; after < 5; after += 2) {
+            service.getOverview(after, 2);
+        }
+        clearInvocations(contractRepository);
+    }
+
+    /**
+     * The cursors of the pages that had to be read again.
+     */
+    private List<Long> reloadedPages() {
+        List<Long> reloaded = new ArrayList<>();
+        for (long after = 0; after < 5; after += 2) {
+            service.getOverview(after, 2);
+        }
+        mockingDetails(contractRepository).getInvocations()
+                .forEach(invocation -> reloaded.add(invocation.getArgument(0)));
+        return reloaded;
+    }
+
+    private void changed(BaseEntity entity) {
+        service.onEntityChanged(new EntityChangedEvent(entity, EntityChangedEvent.ChangeType.UPDATED));
+    }
+
+    private static <T extends BaseEntity> T entity(Supplier<T> constructor, Long id) {
+        T entity = constructor.get();
+        entity.setId(id);
+        return entity;
+    }
+
+    private static ContractRepository.OverviewView view(long id, long playerId, long clubId, long agentId) {
+        ContractRepository.OverviewView view = mock(ContractRepository.OverviewView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getStartDate()).thenReturn(LocalDate.of(2025, 7, 1));
+        when(view.getEndDate()).thenReturn(LocalDate.of(2028, 6, 30));
+        when(view.getSalary()).thenReturn(BigDecimal.valueOf(1000 * id));
+        when(view.getPlayerId()).thenReturn(playerId);
+        when(view.getPlayerName()).thenReturn("Player");
+        when(view.getPlayerSurname()).thenReturn(Long.toString(playerId));
+        when(view.getClubId()).thenReturn(clubId);
+        when(view.getClubName()).thenReturn("Club " + clubId);
+        when(view.getAgentId()).thenReturn(agentId);
+        when(view.getAgentFirstName()).thenReturn("Agent");
+        when(view.getAgentLastName()).thenReturn(Long.toString(agentId));
+        return view;
+    }
+}
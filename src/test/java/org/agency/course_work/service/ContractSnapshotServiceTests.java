@@ -0,0 +1,88 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.index.ParallelScan;
+import org.agency.course_work.repository.ContractRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContractSnapshotServiceTests {
+    private static final LocalDate START = LocalDate.of(2025, 7, 1);
+    private static final LocalDate END = LocalDate.of(2028, 6, 30);
+
+    private final ContractRepository contractRepository = mock(ContractRepository.class);
+    private final ParallelScan executor = new ParallelScan(1, 1);
+    private final ContractSnapshotService service = new ContractSnapshotService(contractRepository, executor, new SimpleMeterRegistry(), 4);
+
+    @AfterEach
+    void closeExecutor() {
+        executor.close();
+    }
+
+    @Test
+    void writeCommittedDuringTheRebuildIsAppliedOnTopOfIt() {
+        Thread writer = new Thread(() -> service.onEntityChanged(
+                new EntityChangedEvent(contract(2L, 500), EntityChangedEvent.ChangeType.UPDATED)));
+        // the stream read contract 2 at its old salary before the raise committed
+        Stream<ContractRepository.SnapshotView> rows = Stream.of(row(1L, 100), row(2L, 50)).peek(row -> {
+            if (row.getId() == 1L) {
+                writer.start();
+                awaitBlockedOrDone(writer);
+            }
+        });
+        when(contractRepository.streamSnapshot()).thenReturn(rows);
+
+        service.rebuild();
+        join(writer);
+
+        assertThat(bestPaid()).containsExactly(2L, 1L);
+    }
+
+    private List<Long> bestPaid() {
+        return service.scan(null, null, null, null, 10).ids();
+    }
+
+    private static void awaitBlockedOrDone(Thread thread) {
+        while (thread.getState() != Thread.State.BLOCKED && thread.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ContractRepository.SnapshotView row(Long id, int salary) {
+        ContractRepository.SnapshotView row = mock(ContractRepository.SnapshotView.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getStartDate()).thenReturn(START);
+        when(row.getEndDate()).thenReturn(END);
+        when(row.getSalary()).thenReturn(BigDecimal.valueOf(salary));
+        return row;
+    }
+
+    private static Contract contract(Long id, int salary) {
+        Contract contract = new Contract();
+        contract.setId(id);
+        contract.setStartDate(START);
+        contract.setEndDate(END);
+        contract.setSalary(BigDecimal.valueOf(salary));
+        return contract;
+    }
+}
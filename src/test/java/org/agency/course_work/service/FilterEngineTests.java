@@ -0,0 +1,126 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.agency.course_work.entity.Match;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.enums.PlayerPosition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class FilterEngineTests {
+    private static final FilterDefinition<Player> PLAYERS = FilterDefinition.of(Player.class)
+            .criterion("age", "e.age = :age")
+            .criterion("name", "lower(e.name) like :name")
+            .criterion("minValue", "e.value >= :minValue")
+            .criterion("position", "e.position = :position")
+            .build();
+    private static final FilterDefinition<Match> MATCHES = FilterDefinition.of(Match.class)
+            .criterion("city", "e.city = :city")
+            .criterion("goals", "e.homeGoals = :homeGoals and e.awayGoals = :awayGoals")
+            .build();
+
+    /** The second page of an empty result, so that the count query runs as well. */
+    private static final Pageable SECOND_PAGE = PageRequest.of(1, 20);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final TypedQuery<Object> query = mockQuery();
+    private FilterEngine filterEngine;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManager.createQuery(anyString(), any(Class.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+        when(query.getSingleResult()).thenReturn(0L);
+        filterEngine = new FilterEngine(entityManager, meterRegistry, 16);
+    }
+
+    @Test
+    void noCriteriaSelectsEverything() {
+        filterEngine.findAll(PLAYERS.filter(), SECOND_PAGE);
+
+        assertThat(queries()).containsExactly("select e from Player e", "select count(e) from Player e");
+    }
+
+    @Test
+    void presentCriteriaAreJoinedInDefinitionOrder() {
+        filterEngine.findAll(PLAYERS.filter().where("position", PlayerPosition.GOALKEPPER).where("age", 20), SECOND_PAGE);
+        filterEngine.findAll(PLAYERS.filter().where("name", "%ped%").where("minValue", BigDecimal.TEN), SECOND_PAGE);
+
+        assertThat(queries()).containsExactly(
+                "select e from Player e where (e.age = :age) and (e.position = :position)",
+                "select count(e) from Player e where (e.age = :age) and (e.position = :position)",
+                "select e from Player e where (lower(e.name) like :name) and (e.value >= :minValue)",
+                "select count(e) from Player e where (lower(e.name) like :name) and (e.value >= :minValue)");
+    }
+
+    @Test
+    void selectionAndSortShapeTheSelectOnly() {
+        filterEngine.findAll(PLAYERS.filter().where("age", 20), List.of("id", "name"),
+                PageRequest.of(1, 20, Sort.by("value").descending()));
+
+        assertThat(queries()).containsExactly(
+                "select e.id as id, e.name as name from Player e where (e.age = :age) order by e.value desc",
+                "select count(e) from Player e where (e.age = :age)");
+    }
+
+    @Test
+    void multiParameterCriterionBindsValuesInFragmentOrder() {
+        filterEngine.findAll(MATCHES.filter().where("goals", 2, 1), SECOND_PAGE);
+
+        assertThat(queries()).first().isEqualTo("select e from Match e where (e.homeGoals = :homeGoals and e.awayGoals = :awayGoals)");
+        InOrder inOrder = inOrder(query);
+        inOrder.verify(query).setParameter("homeGoals", 2);
+        inOrder.verify(query).setParameter("awayGoals", 1);
+    }
+
+    @Test
+    void wrongNumberOfValuesOrUnknownCriterionIsRejected() {
+        assertThatThrownBy(() -> MATCHES.filter().where("goals", 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MATCHES.filter().where("stadium", "x")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void repeatedShapesHitThePlanCache() {
+        filterEngine.findAll(PLAYERS.filter().where("age", 20), PageRequest.of(0, 20));
+        filterEngine.findAll(PLAYERS.filter().where("age", 31), PageRequest.of(0, 20));
+        filterEngine.findAll(PLAYERS.filter().where("age", 25), PageRequest.of(0, 10));
+        filterEngine.findAll(PLAYERS.filter().where("age", 20), PageRequest.of(0, 20, Sort.by("age")));
+        filterEngine.findAll(PLAYERS.filter().where("name", "%a%"), PageRequest.of(0, 20));
+
+        assertThat(gets("hit")).isEqualTo(2);
+        assertThat(gets("miss")).isEqualTo(3);
+        assertThat(queries().subList(0, 3)).containsOnly("select e from Player e where (e.age = :age)");
+    }
+
+    private List<String> queries() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, atLeastOnce()).createQuery(captor.capture(), any(Class.class));
+        return captor.getAllValues();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "filter-plans").tag("result", result).functionCounter().count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypedQuery<Object> mockQuery() {
+        return mock(TypedQuery.class);
+    }
+}
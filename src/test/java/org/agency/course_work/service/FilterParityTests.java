@@ -0,0 +1,295 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.dto.AgentDto;
+import org.agency.course_work.dto.ClubDto;
+import org.agency.course_work.dto.ContractDto;
+import org.agency.course_work.dto.MatchDto;
+import org.agency.course_work.dto.PlayerDto;
+import org.agency.course_work.entity.*;
+import org.agency.course_work.enums.City;
+import org.agency.course_work.enums.CommissionRate;
+import org.agency.course_work.enums.PlayerPosition;
+import org.agency.course_work.enums.Stadium;
+import org.agency.course_work.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each getFiltered* method and the Specification chain it replaced over the same rows, and expects the same page.
+ */
+@SpringBootTest
+@Transactional
+class FilterParityTests {
+    private static final Pageable PAGE = PageRequest.of(0, 3, Sort.by("id"));
+    private static final Pageable ALL = PageRequest.of(0, 1000, Sort.by("id"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private ClubService clubService;
+
+    @Autowired
+    private AgentService agentService;
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private AgentRepository agentRepository;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    private void seed() {
+        String[] names = {"Pedro", "Pablo", "Jude", "Pedri", "Marco", "Omar"};
+        String[] countries = {"Spain", "SPAIN", "England", "Germany"};
+        Stadium[] stadiums = Stadium.values();
+        PlayerPosition[] positions = PlayerPosition.values();
+        CommissionRate[] rates = CommissionRate.values();
+        for (int i = 0; i < 24; i++) {
+            Long agentId = insert("insert into agents (created_at, first_name, last_name, phone_number, commission_rate) "
+                    + "values (now(), ?, ?, ?, ?) returning id", names[i % names.length], "Mendes" + i % 3,
+                    "+351-" + (100 + i), rates[i % rates.length].name());
+            Long clubId = insert("insert into clubs (created_at, name, stadium, country, budget) "
+                    + "values (now(), ?, ?, ?, ?) returning id", "Club " + names[i % names.length],
+                    stadiums[i % stadiums.length].name(), countries[i % countries.length], BigDecimal.valueOf(i * 10L));
+            Long playerId = insert("insert into players (created_at, name, surname, age, nationality, value, position, agent_id) "
+                    + "values (now(), ?, ?, ?, ?, ?, ?, ?) returning id", names[i % names.length], "Gonzalez" + i % 4,
+                    18 + i % 5, countries[i % countries.length], BigDecimal.valueOf(i * 5L), positions[i % positions.length].name(),
+                    agentId);
+            insert("insert into contracts (created_at, start_date, end_date, salary, player_id, club_id, agent_id, is_deleted) "
+                    + "values (now(), ?, ?, ?, ?, ?, ?, ?) returning id", LocalDate.of(2020 + i % 5, 1, 1),
+                    LocalDate.of(2024 + i % 5, 6, 30), BigDecimal.valueOf(1000L + i * 100), playerId, clubId, agentId, i == 11);
+        }
+        // soft-deleted rows that every criterion below would otherwise match, kept unreferenced so eager joins still load
+        insert("insert into agents (created_at, first_name, last_name, phone_number, commission_rate, is_deleted) "
+                + "values (now(), 'Pedro', 'Mendes0', '+351-100', 'HIGH', true) returning id");
+        insert("insert into clubs (created_at, name, stadium, country, budget, is_deleted) "
+                + "values (now(), 'Club Pedro', 'CAMP_NOU', 'Spain', 50, true) returning id");
+        insert("insert into players (created_at, name, surname, age, nationality, value, position, is_deleted) "
+                + "values (now(), 'Pedro', 'Gonzalez1', 20, 'Spain', 40, 'DEFENDER', true) returning id");
+    }
+
+    private void seedMatches() {
+        City[] cities = City.values();
+        for (int i = 0; i < 24; i++) {
+            insert("insert into matches (created_at, date, city, score, home_goals, away_goals, is_deleted) "
+                    + "values (now(), ?, ?, ?, ?, ?, ?) returning id", LocalDate.of(2024, 1 + i % 12, 1 + i),
+                    cities[i % cities.length].name(), i % 3 + ":" + i % 2, i % 3, i % 2, i == 13);
+        }
+    }
+
+    @Test
+    void playersMatchSpecification() {
+        seed();
+
+        assertSame(playerService.getFilteredPlayers(null, null, null, null, null, null, null, PAGE), PlayerDto::id,
+                playerRepository.findAll(Specification.where(null), PAGE));
+        assertSame(playerService.getFilteredPlayers(20, "PE", null, "spain", null, null, null, ALL), PlayerDto::id,
+                playerRepository.findAll(playerSpecification(20, "PE", null, "spain", null, null, null), ALL));
+        assertSame(playerService.getFilteredPlayers(null, null, "gonzalez1", null, BigDecimal.TEN, BigDecimal.valueOf(120),
+                        PlayerPosition.DEFENDER, ALL), PlayerDto::id,
+                playerRepository.findAll(playerSpecification(null, null, "gonzalez1", null, BigDecimal.TEN, BigDecimal.valueOf(120),
+                        PlayerPosition.DEFENDER), ALL));
+    }
+
+    @Test
+    void clubsMatchSpecification() {
+        seed();
+
+        assertSame(clubService.getFilteredClubs("club p", null, "SPAIN", null, null, ALL), ClubDto::id,
+                clubRepository.findAll(clubSpecification("club p", null, "SPAIN", null, null), ALL));
+        assertSame(clubService.getFilteredClubs(null, Stadium.CAMP_NOU, null, BigDecimal.ZERO, BigDecimal.valueOf(150), ALL), ClubDto::id,
+                clubRepository.findAll(clubSpecification(null, Stadium.CAMP_NOU, null, BigDecimal.ZERO, BigDecimal.valueOf(150)), ALL));
+    }
+
+    @Test
+    void agentsMatchSpecification() {
+        seed();
+
+        assertSame(agentService.getFilteredAgents("ped", "MENDES0", null, null, null, ALL), AgentDto::id,
+                agentRepository.findAll(agentSpecification("ped", "MENDES0", null, null), ALL));
+        assertSame(agentService.getFilteredAgents(null, null, "-10", CommissionRate.HIGH, null, ALL), AgentDto::id,
+                agentRepository.findAll(agentSpecification(null, null, "-10", CommissionRate.HIGH), ALL));
+    }
+
+    @Test
+    void contractsMatchSpecification() {
+        seed();
+
+        assertSame(contractService.getFilteredContracts(LocalDate.of(2021, 1, 1), LocalDate.of(2027, 6, 30), null, null, ALL),
+                ContractDto::id,
+                contractRepository.findAll(contractSpecification(LocalDate.of(2021, 1, 1), LocalDate.of(2027, 6, 30), null, null), ALL));
+        assertSame(contractService.getFilteredContracts(null, null, BigDecimal.valueOf(1500), BigDecimal.valueOf(2500), PAGE),
+                ContractDto::id,
+                contractRepository.findAll(contractSpecification(null, null, BigDecimal.valueOf(1500), BigDecimal.valueOf(2500)), PAGE));
+    }
+
+    @Test
+    void matchesMatchSpecification() {
+        seedMatches();
+
+        assertSame(matchService.getFilteredMatches(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 10, 31), null, null, ALL), MatchDto::id,
+                matchRepository.findAll(matchSpecification(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 10, 31), null, null), ALL));
+        assertSame(matchService.getFilteredMatches(null, null, City.MILAN, "2:1", ALL), MatchDto::id,
+                matchRepository.findAll(matchSpecification(null, null, City.MILAN, "2:1"), ALL));
+        assertSame(matchService.getFilteredMatches(null, null, null, "1:0", ALL), MatchDto::id,
+                matchRepository.findAll(matchSpecification(null, null, null, "1:0"), ALL));
+    }
+
+    private static <D, E extends BaseEntity> void assertSame(Page<D> actual, Function<D, Long> id, Page<E> expected) {
+        assertThat(expected.getContent()).isNotEmpty();
+        assertThat(actual.getContent()).map(id).containsExactlyElementsOf(expected.map(BaseEntity::getId).getContent());
+        assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+    }
+
+    private Long insert(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private static Specification<Player> playerSpecification(Integer age, String name, String surname, String nationality,
+                                                              BigDecimal minValue, BigDecimal maxValue, PlayerPosition position) {
+        Specification<Player> specification = Specification.where(null);
+        if (age != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("age"), age));
+        }
+        if (name != null && !name.isEmpty()) {
+            specification = specification.and((root, query, cb) ->
+                    cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
+        }
+        if (surname != null && !surname.isEmpty()) {
+            specification = specification.and((root, query, cb) ->
+                    cb.like(cb.lower(root.get("surname")), "%" + surname.toLowerCase() + "%"));
+        }
+        if (nationality != null && !nationality.isEmpty()) {
+            specification = specification.and((root, query, cb) ->
+                    cb.equal(cb.lower(root.get("nationality")), nationality.toLowerCase()));
+        }
+        if (minValue != null) {
+            specification = specification.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("value"), minValue));
+        }
+        if (maxValue != null) {
+            specification = specification.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("value"), maxValue));
+        }
+        if (position != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("position"), position));
+        }
+        return specification;
+    }
+
+    private static Specification<Club> clubSpecification(String name, Stadium stadium, String country,
+                                                          BigDecimal minBudget, BigDecimal maxBudget) {
+        Specification<Club> specification = Specification.where(null);
+        if (name != null && !name.isEmpty()) {
+            specification = specification.and((root, query, cb) ->
+                    cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
+        }
+        if (stadium != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("stadium"), stadium));
+        }
+        if (country != null && !country.isEmpty()) {
+            specification = specification.and((root, query, cb) ->
+                    cb.equal(cb.lower(root.get("country")), country.toLowerCase()));
+        }
+        if (minBudget != null) {
+            specification = specification.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("budget"), minBudget));
+        }
+        if (maxBudget != null) {
+            specification = specification.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("budget"), maxBudget));
+        }
+        return specification;
+    }
+
+    private static Specification<Agent> agentSpecification(String firstName, String lastName, String phoneNumber,
+                                                            CommissionRate commissionRate) {
+        Specification<Agent> specification = Specification.where(null);
+        if (firstName != null && !firstName.isEmpty()) {
+            specification = specification.and((root, query, cb) ->
+                    cb.like(cb.lower(root.get("firstName")), "%" + firstName.toLowerCase() + "%"));
+        }
+        if (lastName != null && !lastName.isEmpty()) {
+            specification = specification.and((root, query, cb) ->
+                    cb.like(cb.lower(root.get("lastName")), "%" + lastName.toLowerCase() + "%"));
+        }
+        if (phoneNumber != null && !phoneNumber.isEmpty()) {
+            specification = specification.and((root, query, cb) -> cb.like(root.get("phoneNumber"), "%" + phoneNumber + "%"));
+        }
+        if (commissionRate != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("commissionRate"), commissionRate));
+        }
+        return specification;
+    }
+
+    private static Specification<Contract> contractSpecification(LocalDate startDate, LocalDate endDate,
+                                                                 BigDecimal minSalary, BigDecimal maxSalary) {
+        Specification<Contract> specification = Specification.where(null);
+        if (startDate != null) {
+            specification = specification.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startDate"), startDate));
+        }
+        if (endDate != null) {
+            specification = specification.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("endDate"), endDate));
+        }
+        if (minSalary != null) {
+            specification = specification.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("salary"), minSalary));
+        }
+        if (maxSalary != null) {
+            specification = specification.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("salary"), maxSalary));
+        }
+        return specification;
+    }
+
+    private static Specification<Match> matchSpecification(LocalDate startDate, LocalDate endDate, City city, String score) {
+        Specification<Match> specification = Specification.where(null);
+        if (startDate != null) {
+            specification = specification.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), startDate));
+        }
+        if (endDate != null) {
+            specification = specification.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), endDate));
+        }
+        if (city != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("city"), city));
+        }
+        if (score != null && !score.isEmpty()) {
+            MatchScore parsedScore = MatchScore.parse(score);
+            if (parsedScore != null) {
+                specification = specification.and((root, query, cb) -> cb.and(
+                        cb.equal(root.get("homeGoals"), parsedScore.homeGoals()),
+                        cb.equal(root.get("awayGoals"), parsedScore.awayGoals())));
+            } else {
+                specification = specification.and((root, query, cb) ->
+                        cb.equal(cb.lower(root.get("score")), score.toLowerCase()));
+            }
+        }
+        return specification;
+    }
+}
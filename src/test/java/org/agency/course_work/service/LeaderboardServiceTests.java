@@ -0,0 +1,131 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.dto.PlayerDto;
+import org.agency.course_work.entity.BaseEntity;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.repository.PlayerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares pages served from the value leaderboard with the {@code value desc, id desc} query that
+ * {@link SortRegistry} produces for the same request. The board is kept small so that moves and refills show up.
+ */
+@SpringBootTest(properties = "leaderboards.capacity=5")
+@Transactional
+class LeaderboardServiceTests {
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SortRegistry sortRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void rebuildWithoutTheTestRows() {
+        TestTransaction.end();
+        leaderboardService.rebuild();
+    }
+
+    @Test
+    void pagesFollowTheDatabaseOrderThroughTies() {
+        for (int value : new int[]{100, 90, 100, 80, 100, 90, 70, 60}) {
+            insertPlayer(BigDecimal.valueOf(value));
+        }
+        leaderboardService.rebuild();
+
+        for (int page = 0; page < 2; page++) {
+            assertSamePage(pageable(page, 2));
+        }
+        assertSamePage(pageable(0, 5));
+        assertThat(leaderboardService.getPlayersByValue(pageable(2, 2))).isNull();
+    }
+
+    @Test
+    void playerFallingOffTheBoardIsRefilledInDatabaseOrder() {
+        List<Long> ids = new ArrayList<>();
+        for (int value : new int[]{100, 90, 100, 80, 100, 90, 70, 60}) {
+            ids.add(insertPlayer(BigDecimal.valueOf(value)));
+        }
+        leaderboardService.rebuild();
+        Long top = ids.get(4);
+
+        jdbcTemplate.update("update players set value = 65 where id = ?", top);
+        leaderboardService.onEntityChanged(new EntityChangedEvent(player(top, BigDecimal.valueOf(65)),
+                EntityChangedEvent.ChangeType.UPDATED));
+
+        assertSamePage(pageable(0, 2));
+        assertSamePage(pageable(0, 5));
+        assertSamePage(pageable(1, 2));
+    }
+
+    @Test
+    void unvaluedPlayersAreLeftToTheDatabase() {
+        insertPlayer(BigDecimal.TEN);
+        insertPlayer(null);
+        leaderboardService.rebuild();
+
+        assertThat(leaderboardService.getPlayersByValue(pageable(0, 2))).isNull();
+    }
+
+    @Test
+    void playersWrittenAroundTheServiceAreReadFromTheDatabaseUntilTheRebuild() {
+        insertPlayer(BigDecimal.TEN);
+        leaderboardService.rebuild();
+        insertPlayer(BigDecimal.ONE);
+
+        assertThat(leaderboardService.getPlayersByValue(pageable(0, 2))).isNull();
+
+        leaderboardService.rebuild();
+
+        assertSamePage(pageable(0, 2));
+    }
+
+    private void assertSamePage(Pageable pageable) {
+        Page<PlayerDto> served = leaderboardService.getPlayersByValue(pageable);
+        Page<Player> queried = playerRepository.findAll(pageable);
+
+        assertThat(served).isNotNull();
+        assertThat(served.getContent()).map(PlayerDto::id)
+                .containsExactlyElementsOf(queried.getContent().stream().map(BaseEntity::getId).toList());
+        assertThat(served.getTotalElements()).isEqualTo(queried.getTotalElements());
+    }
+
+    private Pageable pageable(int page, int size) {
+        return sortRegistry.sortedPageable(Player.class, "value", "desc", PageRequest.of(page, size));
+    }
+
+    private Long insertPlayer(BigDecimal value) {
+        return jdbcTemplate.queryForObject("insert into players (created_at, name, age, value) values (now(), 'Player', 20, ?) returning id",
+                Long.class, value);
+    }
+
+    private static Player player(Long id, BigDecimal value) {
+        Player player = new Player();
+        player.setId(id);
+        player.setName("Player");
+        player.setAge(20);
+        player.setValue(value);
+        return player;
+    }
+}
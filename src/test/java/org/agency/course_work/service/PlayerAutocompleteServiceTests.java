@@ -0,0 +1,87 @@
+package org.agency.course_work.service;
+
+import org.agency.course_work.dto.PlayerSuggestionDto;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlayerAutocompleteServiceTests {
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final PlayerAutocompleteService service = new PlayerAutocompleteService(playerRepository);
+
+    @Test
+    void rebuildReplacesWhatTheIndexHeld() {
+        service.onEntityChanged(new EntityChangedEvent(player(9L, "Pablo"), EntityChangedEvent.ChangeType.PERSISTED));
+        Stream<PlayerRepository.NameView> rows = Stream.of(row(1L, "Pedro"));
+        when(playerRepository.streamAllNames()).thenReturn(rows);
+
+        service.rebuild();
+
+        assertThat(suggested("p")).containsExactly(1L);
+    }
+
+    @Test
+    void writeCommittedDuringTheRebuildIsAppliedOnTopOfIt() {
+        Thread writer = new Thread(() -> service.onEntityChanged(
+                new EntityChangedEvent(player(2L, "Gavi"), EntityChangedEvent.ChangeType.UPDATED)));
+        // the stream read player 2 under the old name before the rename committed
+        Stream<PlayerRepository.NameView> rows = Stream.of(row(1L, "Pedro"), row(2L, "Pablo")).peek(row -> {
+            if (row.getId() == 1L) {
+                writer.start();
+                awaitBlockedOrDone(writer);
+            }
+        });
+        when(playerRepository.streamAllNames()).thenReturn(rows);
+
+        service.rebuild();
+        join(writer);
+
+        assertThat(suggested("gavi")).containsExactly(2L);
+        assertThat(suggested("pablo")).isEmpty();
+    }
+
+    private List<Long> suggested(String query) {
+        return service.suggest(query, 10).stream().map(PlayerSuggestionDto::id).toList();
+    }
+
+    private static void awaitBlockedOrDone(Thread thread) {
+        while (thread.getState() != Thread.State.BLOCKED && thread.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PlayerRepository.NameView row(Long id, String name) {
+        PlayerRepository.NameView row = mock(PlayerRepository.NameView.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getName()).thenReturn(name);
+        when(row.getSurname()).thenReturn("Lopez");
+        when(row.getNationality()).thenReturn("Spain");
+        return row;
+    }
+
+    private static Player player(Long id, String name) {
+        Player player = new Player();
+        player.setId(id);
+        player.setName(name);
+        player.setSurname("Lopez");
+        player.setNationality("Spain");
+        return player;
+    }
+}
@@ -0,0 +1,97 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.enums.PlayerPosition;
+import org.agency.course_work.event.EntityChangedEvent;
+import org.agency.course_work.index.ParallelScan;
+import org.agency.course_work.repository.PlayerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlayerSnapshotServiceTests {
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final ParallelScan executor = new ParallelScan(1, 1);
+    private final PlayerSnapshotService service = new PlayerSnapshotService(playerRepository, executor, new SimpleMeterRegistry(), 4);
+
+    @AfterEach
+    void closeExecutor() {
+        executor.close();
+    }
+
+    @Test
+    void rebuildReplacesWhatTheSnapshotHeld() {
+        service.onEntityChanged(new EntityChangedEvent(player(9L, 30), EntityChangedEvent.ChangeType.PERSISTED));
+        Stream<PlayerRepository.SnapshotView> rows = Stream.of(row(1L, 10), row(2L, 20));
+        when(playerRepository.streamSnapshot()).thenReturn(rows);
+
+        service.rebuild();
+
+        assertThat(allIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void writeCommittedDuringTheRebuildIsAppliedOnTopOfIt() {
+        Thread writer = new Thread(() -> service.onEntityChanged(new EntityChangedEvent(player(2L, 20), EntityChangedEvent.ChangeType.REMOVED)));
+        // the stream read player 2 before the removal committed, and the removal arrives while player 1 is placed
+        Stream<PlayerRepository.SnapshotView> rows = Stream.of(row(1L, 10), row(2L, 20)).peek(row -> {
+            if (row.getId() == 1L) {
+                writer.start();
+                awaitBlockedOrDone(writer);
+            }
+        });
+        when(playerRepository.streamSnapshot()).thenReturn(rows);
+
+        service.rebuild();
+        join(writer);
+
+        assertThat(allIds()).containsExactly(1L);
+    }
+
+    private List<Long> allIds() {
+        return service.scan(null, null, null, null, null, 10).ids();
+    }
+
+    private static void awaitBlockedOrDone(Thread thread) {
+        while (thread.getState() != Thread.State.BLOCKED && thread.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PlayerRepository.SnapshotView row(Long id, int value) {
+        PlayerRepository.SnapshotView row = mock(PlayerRepository.SnapshotView.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getAge()).thenReturn(20);
+        when(row.getPosition()).thenReturn(PlayerPosition.FORWARD);
+        when(row.getNationality()).thenReturn("Spain");
+        when(row.getValue()).thenReturn(BigDecimal.valueOf(value));
+        return row;
+    }
+
+    private static Player player(Long id, int value) {
+        Player player = new Player();
+        player.setId(id);
+        player.setAge(20);
+        player.setPosition(PlayerPosition.FORWARD);
+        player.setNationality("Spain");
+        player.setValue(BigDecimal.valueOf(value));
+        return player;
+    }
+}
@@ -0,0 +1,91 @@
+package org.agency.course_work.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.agency.course_work.entity.Agent;
+import org.agency.course_work.entity.Club;
+import org.agency.course_work.entity.Contract;
+import org.agency.course_work.entity.Match;
+import org.agency.course_work.entity.Player;
+import org.agency.course_work.exception.InvalidSortField;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortRegistryTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SortRegistry sortRegistry = new SortRegistry(meterRegistry);
+
+    @Test
+    void indexedFieldsAreAcceptedForEveryEntity() {
+        assertThat(sortRegistry.sort(Player.class, "value", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "value", "id"));
+        assertThat(sortRegistry.sort(Player.class, "age", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "age", "id"));
+        assertThat(sortRegistry.sort(Player.class, "surname", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "surname", "id"));
+        assertThat(sortRegistry.sort(Agent.class, "lastName", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "lastName", "id"));
+        assertThat(sortRegistry.sort(Club.class, "name", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "name", "id"));
+        assertThat(sortRegistry.sort(Club.class, "budget", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "budget", "id"));
+        assertThat(sortRegistry.sort(Contract.class, "startDate", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "startDate", "id"));
+        assertThat(sortRegistry.sort(Contract.class, "endDate", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "endDate", "id"));
+        assertThat(sortRegistry.sort(Contract.class, "salary", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "salary", "id"));
+        assertThat(sortRegistry.sort(Match.class, "date", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "date", "id"));
+    }
+
+    @Test
+    void idBreaksTiesInTheSameDirection() {
+        assertThat(sortRegistry.sort(Player.class, "value", "asc")).containsExactly(
+                Sort.Order.asc("value"), Sort.Order.asc("id"));
+        assertThat(sortRegistry.sort(Player.class, "value", "ASC")).containsExactly(
+                Sort.Order.asc("value"), Sort.Order.asc("id"));
+        assertThat(sortRegistry.sort(Player.class, "value", "desc")).containsExactly(
+                Sort.Order.desc("value"), Sort.Order.desc("id"));
+    }
+
+    @Test
+    void anyOrderOtherThanAscIsDescending() {
+        assertThat(sortRegistry.sort(Match.class, "date", null)).containsExactly(
+                Sort.Order.desc("date"), Sort.Order.desc("id"));
+        assertThat(sortRegistry.sort(Match.class, "date", "ascending")).containsExactly(
+                Sort.Order.desc("date"), Sort.Order.desc("id"));
+    }
+
+    @Test
+    void missingOrIdFieldSortsByIdAlone() {
+        assertThat(sortRegistry.sort(Club.class, null, "asc")).isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+        assertThat(sortRegistry.sort(Club.class, "  ", "asc")).isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+        assertThat(sortRegistry.sort(Club.class, "id", "desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "id"));
+        assertThat(sortRegistry.sort(Club.class, " name ", "asc")).isEqualTo(Sort.by(Sort.Direction.ASC, "name", "id"));
+    }
+
+    @Test
+    void sortedPageableKeepsPageAndSize() {
+        Pageable sorted = sortRegistry.sortedPageable(Contract.class, "salary", "asc",
+                PageRequest.of(3, 25, Sort.by("endDate")));
+
+        assertThat(sorted.getPageNumber()).isEqualTo(3);
+        assertThat(sorted.getPageSize()).isEqualTo(25);
+        assertThat(sorted.getSort()).containsExactly(Sort.Order.asc("salary"), Sort.Order.asc("id"));
+    }
+
+    @Test
+    void unindexedFieldsAreRejectedAndCounted() {
+        assertThatThrownBy(() -> sortRegistry.sort(Player.class, "name", "asc"))
+                .isInstanceOf(InvalidSortField.class)
+                .hasMessage("Cannot sort Player by 'name'. Sortable fields: age, id, surname, value");
+        assertThatThrownBy(() -> sortRegistry.sort(Player.class, "position", "desc")).isInstanceOf(InvalidSortField.class);
+        assertThatThrownBy(() -> sortRegistry.sort(Match.class, "city", "desc")).isInstanceOf(InvalidSortField.class);
+
+        assertThat(meterRegistry.get("agency.sort.rejected").tag("entity", "Player").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("agency.sort.rejected").tag("entity", "Match").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fieldsAreNotSharedBetweenEntities() {
+        assertThatThrownBy(() -> sortRegistry.sort(Agent.class, "surname", "asc"))
+                .isInstanceOf(InvalidSortField.class)
+                .hasMessage("Cannot sort Agent by 'surname'. Sortable fields: id, lastName");
+        assertThatThrownBy(() -> sortRegistry.sort(Contract.class, "value", "asc")).isInstanceOf(InvalidSortField.class);
+    }
+}